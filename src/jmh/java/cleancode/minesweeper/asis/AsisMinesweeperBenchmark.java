@@ -0,0 +1,180 @@
+package cleancode.minesweeper.asis;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+리팩토링 전 MinesweeperGame 의 로직을 기준선으로 측정한다.
+MinesweeperGame 은 main 안에 모든 로직이 static 상태로 묶여 있어 직접 호출할 수 없으므로,
+같은 코드(8x10 고정 보드, 지뢰 10개)를 인스턴스 상태로 옮겨 와서 tobe 의 Beginner 벤치마크와 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsisMinesweeperBenchmark {
+
+    private String[][] board = new String[8][10];
+    private Integer[][] landMineCounts = new Integer[8][10];
+    private boolean[][] landMines = new boolean[8][10];
+    private int gameStatus = 0;
+    private PrintStream originalOut;
+    private PrintStream nullOut;
+
+    @Setup(Level.Trial)
+    public void redirectOut() {
+        originalOut = System.out;
+        nullOut = new PrintStream(OutputStream.nullOutputStream());
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreOut() {
+        System.setOut(originalOut);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetBoard() {
+        clear();
+        initialize();
+    }
+
+    // 원본은 static 배열을 한 번만 만들지만 여기서는 매번 새로 만들기 때문에 그 비용도 함께 측정된다.
+    @Benchmark
+    public Integer[][] initializeGame() {
+        clear();
+        initialize();
+        return landMineCounts;
+    }
+
+    @Benchmark
+    public int openEveryCell() {
+        for (int row = 0; row < 8; row++) {
+            for (int col = 0; col < 10; col++) {
+                openAt(row, col);
+            }
+        }
+        return gameStatus;
+    }
+
+    @Benchmark
+    public void showBoard() {
+        System.setOut(nullOut);
+        System.out.println("   a b c d e f g h i j");
+        for (int i = 0; i < 8; i++) {
+            System.out.printf("%d  ", i + 1);
+            for (int j = 0; j < 10; j++) {
+                System.out.print(board[i][j] + " ");
+            }
+            System.out.println();
+        }
+        System.setOut(originalOut);
+    }
+
+    private void clear() {
+        board = new String[8][10];
+        landMineCounts = new Integer[8][10];
+        landMines = new boolean[8][10];
+        gameStatus = 0;
+    }
+
+    private void initialize() {
+        for (int i = 0; i < 8; i++) {
+            for (int j = 0; j < 10; j++) {
+                board[i][j] = "□";
+            }
+        }
+        for (int i = 0; i < 10; i++) {
+            int col = new Random().nextInt(10);
+            int row = new Random().nextInt(8);
+            landMines[row][col] = true;
+        }
+        for (int i = 0; i < 8; i++) {
+            for (int j = 0; j < 10; j++) {
+                int count = 0;
+                if (!landMines[i][j]) {
+                    if (i - 1 >= 0 && j - 1 >= 0 && landMines[i - 1][j - 1]) {
+                        count++;
+                    }
+                    if (i - 1 >= 0 && landMines[i - 1][j]) {
+                        count++;
+                    }
+                    if (i - 1 >= 0 && j + 1 < 10 && landMines[i - 1][j + 1]) {
+                        count++;
+                    }
+                    if (j - 1 >= 0 && landMines[i][j - 1]) {
+                        count++;
+                    }
+                    if (j + 1 < 10 && landMines[i][j + 1]) {
+                        count++;
+                    }
+                    if (i + 1 < 8 && j - 1 >= 0 && landMines[i + 1][j - 1]) {
+                        count++;
+                    }
+                    if (i + 1 < 8 && landMines[i + 1][j]) {
+                        count++;
+                    }
+                    if (i + 1 < 8 && j + 1 < 10 && landMines[i + 1][j + 1]) {
+                        count++;
+                    }
+                    landMineCounts[i][j] = count;
+                    continue;
+                }
+                landMineCounts[i][j] = 0;
+            }
+        }
+    }
+
+    private void openAt(int row, int col) {
+        if (landMines[row][col]) {
+            board[row][col] = "☼";
+            gameStatus = -1;
+            return;
+        }
+        open(row, col);
+
+        boolean open = true;
+        for (int i = 0; i < 8; i++) {
+            for (int j = 0; j < 10; j++) {
+                if (board[i][j].equals("□")) {
+                    open = false;
+                }
+            }
+        }
+        if (open) {
+            gameStatus = 1;
+        }
+    }
+
+    private void open(int row, int col) {
+        if (row < 0 || row >= 8 || col < 0 || col >= 10) {
+            return;
+        }
+        if (!board[row][col].equals("□")) {
+            return;
+        }
+        if (landMines[row][col]) {
+            return;
+        }
+        if (landMineCounts[row][col] != 0) {
+            board[row][col] = String.valueOf(landMineCounts[row][col]);
+            return;
+        } else {
+            board[row][col] = "■";
+        }
+        open(row - 1, col - 1);
+        open(row - 1, col);
+        open(row - 1, col + 1);
+        open(row, col - 1);
+        open(row, col + 1);
+        open(row + 1, col - 1);
+        open(row + 1, col);
+        open(row + 1, col + 1);
+    }
+
+}
@@ -0,0 +1,62 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkGameLevels;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/*
+BoardCheckpoint 로 보드 한 판을 파일에 저장하고 불러오는 시간을 잰다. 보드는 가운데 셀을 한 번 열어 둔 상태다.
+- save: 셀 상태를 4비트씩 매핑한 파일에 묶어 쓰고 fsync, 이름 바꾸기까지
+- load: 파일을 매핑해 검증하고 셀 상태를 풀어 주변 지뢰 수를 다시 세기까지
+Huge10000(1억 셀)은 -Xmx 를 넉넉히 주어야 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardCheckpointBenchmark {
+
+    private static final long SEED = 20240101L;
+
+    @Param({"Advanced", "Huge2000", "Huge10000"})
+    public String level;
+
+    private GameBoard gameBoard;
+    private Path directory;
+    private Path checkpoint;
+
+    @Setup(Level.Trial)
+    public void saveBoard() throws IOException {
+        gameBoard = new GameBoard(BenchmarkGameLevels.from(level), BoardRandom.of(SEED));
+        gameBoard.initializeGame();
+        gameBoard.openAt(CellPosition.of(gameBoard.getRowSize() / 2, gameBoard.getColSize() / 2));
+        directory = Files.createTempDirectory("board-checkpoint-benchmark");
+        checkpoint = directory.resolve("board.checkpoint");
+        BoardCheckpoint.save(gameBoard, checkpoint);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCheckpoint() throws IOException {
+        Files.deleteIfExists(checkpoint);
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public Path save() {
+        BoardCheckpoint.save(gameBoard, checkpoint);
+        return checkpoint;
+    }
+
+    @Benchmark
+    public GameBoard load() {
+        return BoardCheckpoint.load(checkpoint);
+    }
+
+}
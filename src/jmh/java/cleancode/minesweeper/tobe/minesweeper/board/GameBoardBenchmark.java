@@ -0,0 +1,109 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkGameLevels;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+GameBoard 의 공개 API 기준 벤치마크.
+- initializeGame: 지뢰 배치 + 주변 지뢰 수 계산
+- openEveryCell: 모든 좌표를 차례로 openAt (연쇄 열기 + 매 수마다의 승리 판별 포함)
+- flagEveryCell: 모든 좌표를 차례로 flagAt (매 수마다의 승리 판별 비용이 대부분)
+- readEverySnapshot / writeSnapshotCodes: 보드 전체 상태를 셀마다 getSnapshot 으로 읽는 경우와 byte[] 에 한 번에 채우는 경우
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBoardBenchmark {
+
+    private static final long SEED = 20240101L;
+
+    @State(Scope.Thread)
+    public static class BoardState {
+
+        @Param({"VeryBeginner", "Beginner", "Middle", "Advanced", "Huge500", "Huge2000"})
+        public String level;
+
+        GameBoard gameBoard;
+
+        @Setup(Level.Trial)
+        public void createBoard() {
+            gameBoard = new GameBoard(BenchmarkGameLevels.from(level), BoardRandom.of(SEED));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class InitializedBoardState extends BoardState {
+
+        @Setup(Level.Invocation)
+        public void initializeBoard() {
+            gameBoard.initializeGame();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SnapshotBoardState extends BoardState {
+
+        byte[] snapshotCodes;
+
+        // BoardState 의 Trial 준비와 실행 순서에 기대지 않도록 보드를 직접 만든다.
+        @Setup(Level.Trial)
+        public void createInitializedBoard() {
+            gameBoard = new GameBoard(BenchmarkGameLevels.from(level), BoardRandom.of(SEED));
+            gameBoard.initializeGame();
+            snapshotCodes = new byte[gameBoard.getRowSize() * gameBoard.getColSize()];
+        }
+    }
+
+    @Benchmark
+    public GameBoard initializeGame(BoardState state) {
+        GameBoard gameBoard = state.gameBoard;
+        gameBoard.initializeGame();
+        return gameBoard;
+    }
+
+    @Benchmark
+    public boolean openEveryCell(InitializedBoardState state) {
+        GameBoard gameBoard = state.gameBoard;
+        for (int row = 0; row < gameBoard.getRowSize(); row++) {
+            for (int col = 0; col < gameBoard.getColSize(); col++) {
+                gameBoard.openAt(CellPosition.of(row, col));
+            }
+        }
+        return gameBoard.isInProgress();
+    }
+
+    @Benchmark
+    public boolean flagEveryCell(InitializedBoardState state) {
+        GameBoard gameBoard = state.gameBoard;
+        for (int row = 0; row < gameBoard.getRowSize(); row++) {
+            for (int col = 0; col < gameBoard.getColSize(); col++) {
+                gameBoard.flagAt(CellPosition.of(row, col));
+            }
+        }
+        return gameBoard.isInProgress();
+    }
+
+    @Benchmark
+    public int readEverySnapshot(SnapshotBoardState state) {
+        GameBoard gameBoard = state.gameBoard;
+        int checksum = 0;
+        for (int row = 0; row < gameBoard.getRowSize(); row++) {
+            for (int col = 0; col < gameBoard.getColSize(); col++) {
+                checksum += gameBoard.getSnapshot(CellPosition.of(row, col)).getNearbyLandMineCount();
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public byte[] writeSnapshotCodes(SnapshotBoardState state) {
+        state.gameBoard.writeSnapshotCodes(state.snapshotCodes);
+        return state.snapshotCodes;
+    }
+
+}
@@ -0,0 +1,53 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+지뢰 배치 + 주변 지뢰 수 계산을 순차 경로와 행 묶음 병렬 경로로 비교한다.
+두 경로 모두 같은 시드로 같은 보드를 만든다. 코어 수에 따른 차이는 -Djava.util.concurrent.ForkJoinPool.common.parallelism 으로 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class LandMinePlacerBenchmark {
+
+    private static final long SEED = 20240101L;
+
+    @Param({"1000", "5000", "10000"})
+    public int boardSize;
+
+    private final LandMinePlacer landMinePlacer = new LandMinePlacer();
+    private PackedCells cells;
+    private int landMineCount;
+
+    @Setup(Level.Trial)
+    public void createCells() {
+        cells = PackedCells.of(boardSize, boardSize);
+        landMineCount = cells.size() / 5;
+    }
+
+    @Setup(Level.Invocation)
+    public void clearCells() {
+        cells.clear();
+    }
+
+    @Benchmark
+    public PackedCells placeSequentially() {
+        landMinePlacer.placeSequentially(cells, landMineCount, new SplittableRandom(SEED));
+        return cells;
+    }
+
+    @Benchmark
+    public PackedCells placeInParallel() {
+        landMinePlacer.placeInParallel(cells, landMineCount, new SplittableRandom(SEED));
+        return cells;
+    }
+
+}
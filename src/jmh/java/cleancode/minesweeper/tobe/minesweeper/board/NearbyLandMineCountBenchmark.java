@@ -0,0 +1,69 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.NearbyLandMineCountKernels;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkGameLevels;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+주변 지뢰 수 계산 방식을 한 스레드 기준으로 비교한다. 세 방식 모두 같은 시드로 같은 지뢰를 심는 비용을 포함한다.
+- scatter: 지뢰 주변 셀의 숫자를 하나씩 올리는 기존 방식 (LandMinePlacer.placeSequentially)
+- scalarKernel: 행 단위 3x3 합성곱 스칼라 커널
+- vectorKernel: jdk.incubator.vector 커널. 포크된 JVM 에 모듈을 추가하며, 모듈을 쓸 수 없으면 시작하지 않는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "--add-modules=jdk.incubator.vector"})
+public class NearbyLandMineCountBenchmark {
+
+    private static final long SEED = 20240101L;
+
+    @Param({"Advanced", "Huge500", "Huge2000", "Huge10000"})
+    public String level;
+
+    private final LandMinePlacer landMinePlacer = new LandMinePlacer();
+    private PackedCells cells;
+    private int landMineCount;
+
+    @Setup(Level.Trial)
+    public void createCells() {
+        if (!NearbyLandMineCountKernels.isVectorKernelAvailable()) {
+            throw new IllegalStateException("jdk.incubator.vector 모듈을 사용할 수 없습니다.");
+        }
+
+        GameLevel gameLevel = BenchmarkGameLevels.from(level);
+        cells = PackedCells.of(gameLevel.getRowSize(), gameLevel.getColSize());
+        landMineCount = gameLevel.getLandMineCount();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearCells() {
+        cells.clear();
+    }
+
+    @Benchmark
+    public PackedCells scatter() {
+        landMinePlacer.placeSequentially(cells, landMineCount, new SplittableRandom(SEED));
+        return cells;
+    }
+
+    @Benchmark
+    public PackedCells scalarKernel() {
+        landMinePlacer.placeWithKernel(cells, landMineCount, new SplittableRandom(SEED), NearbyLandMineCountKernels.scalar());
+        return cells;
+    }
+
+    @Benchmark
+    public PackedCells vectorKernel() {
+        landMinePlacer.placeWithKernel(cells, landMineCount, new SplittableRandom(SEED), NearbyLandMineCountKernels.best());
+        return cells;
+    }
+
+}
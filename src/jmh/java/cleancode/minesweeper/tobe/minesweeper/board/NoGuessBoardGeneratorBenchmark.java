@@ -0,0 +1,79 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkGameLevels;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/*
+GameLevel 별로 추측 없이 풀 수 있는 보드를 초당 몇 판 만드는지 잰다. 첫 클릭은 보드 가운데다.
+workers 는 후보 보드를 동시에 만드는 스레드 수이며, 0 이면 코어 수만큼 쓴다.
+정해진 후보 안에서 풀리는 보드를 찾지 못한 횟수는 보조 카운터(failedCount)로 함께 보고한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoGuessBoardGeneratorBenchmark {
+
+    private static final long SEED = 20240101L;
+
+    @Param({"Beginner", "Middle", "Advanced"})
+    public String level;
+
+    @Param({"1", "0"})
+    public int workers;
+
+    private ForkJoinPool pool;
+    private NoGuessBoardGenerator noGuessBoardGenerator;
+    private BoardRandom boardRandom;
+    private RandomGenerator random;
+    private PackedCells cells;
+    private int landMineCount;
+    private int startIndex;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class GenerationCounters {
+
+        public long failedCount;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            failedCount = 0;
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void createGenerator() {
+        GameLevel gameLevel = BenchmarkGameLevels.from(level);
+        pool = new ForkJoinPool(workers == 0 ? Runtime.getRuntime().availableProcessors() : workers);
+        noGuessBoardGenerator = new NoGuessBoardGenerator(pool);
+        boardRandom = BoardRandom.of(SEED);
+        random = boardRandom.generatorFor(SEED);
+        cells = PackedCells.of(gameLevel.getRowSize(), gameLevel.getColSize());
+        landMineCount = gameLevel.getLandMineCount();
+        startIndex = cells.indexOf(gameLevel.getRowSize() / 2, gameLevel.getColSize() / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void closePool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public PackedCells generate(GenerationCounters counters) {
+        if (!noGuessBoardGenerator.generate(cells, landMineCount, startIndex, boardRandom, random)) {
+            counters.failedCount++;
+        }
+        return cells;
+    }
+
+}
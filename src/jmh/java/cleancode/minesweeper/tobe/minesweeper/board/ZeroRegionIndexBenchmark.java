@@ -0,0 +1,75 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+빈 셀 하나를 열 때 FloodFill 로 영역을 다시 찾는 경우와
+ZeroRegionIndex 로 미리 계산된 영역을 바로 여는 경우를 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZeroRegionIndexBenchmark {
+
+    private static final long SEED = 20240101L;
+
+    @Param({"100", "1000", "2000"})
+    public int boardSize;
+
+    @Param({"1", "10"})
+    public int landMinePercent;
+
+    private PackedCells cells;
+    private FloodFill floodFill;
+    private ZeroRegionIndex zeroRegionIndex;
+    private int startIndex;
+
+    @Setup(Level.Trial)
+    public void setUpBoard() {
+        cells = PackedCells.of(boardSize, boardSize);
+        int landMineCount = cells.size() / 100 * landMinePercent;
+        new LandMinePlacer().place(cells, landMineCount, new SplittableRandom(SEED));
+
+        floodFill = new FloodFill(cells);
+        zeroRegionIndex = new ZeroRegionIndex(cells);
+        zeroRegionIndex.rebuild();
+        startIndex = findEmptyCellNearCenter();
+    }
+
+    @Setup(Level.Invocation)
+    public void closeAllCells() {
+        cells.resetCellStates();
+    }
+
+    @Benchmark
+    public int floodFill() {
+        return floodFill.openFrom(startIndex);
+    }
+
+    @Benchmark
+    public int zeroRegionIndex() {
+        return zeroRegionIndex.reveal(startIndex);
+    }
+
+    @Benchmark
+    public void rebuildZeroRegionIndex() {
+        zeroRegionIndex.rebuild();
+    }
+
+    private int findEmptyCellNearCenter() {
+        for (int index = cells.size() / 2; index < cells.size(); index++) {
+            if (zeroRegionIndex.hasRegion(index)) {
+                return index;
+            }
+        }
+        throw new IllegalStateException("빈 셀이 없는 보드입니다.");
+    }
+
+}
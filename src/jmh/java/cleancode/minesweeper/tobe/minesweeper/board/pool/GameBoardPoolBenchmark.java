@@ -0,0 +1,65 @@
+package cleancode.minesweeper.tobe.minesweeper.board.pool;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.SynchronousGameBoardProvider;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkGameLevels;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+게임 시작 시 보드를 받아 오는 지연 시간을 비교한다.
+- synchronous: 요청한 스레드에서 보드를 만들고 초기화한다.
+- pooled: 백그라운드에서 채워 둔 풀에서 꺼낸다. 풀이 바닥나면 synchronous 와 같은 비용이 섞이므로
+  측정 결과와 함께 fallbackCount 를 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBoardPoolBenchmark {
+
+    private static final long SEED = 20240101L;
+
+    @Param({"Advanced", "Huge500"})
+    public String level;
+
+    @Param({"256"})
+    public int highWatermark;
+
+    private SynchronousGameBoardProvider synchronousProvider;
+    private GameBoardPool gameBoardPool;
+
+    @Setup(Level.Trial)
+    public void startPool() throws InterruptedException {
+        GameLevel gameLevel = BenchmarkGameLevels.from(level);
+        synchronousProvider = new SynchronousGameBoardProvider(gameLevel, BoardRandom.of(SEED));
+        gameBoardPool = GameBoardPool.start(gameLevel, highWatermark / 4, highWatermark,
+                Runtime.getRuntime().availableProcessors(), BoardRandom.of(SEED));
+
+        while (gameBoardPool.getReadyBoardCount() < highWatermark) {
+            Thread.sleep(10);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closePool() {
+        System.out.println("fallbackCount = " + gameBoardPool.getFallbackCount());
+        gameBoardPool.close();
+    }
+
+    @Benchmark
+    public GameBoard synchronous() {
+        return synchronousProvider.provide();
+    }
+
+    @Benchmark
+    public GameBoard pooled() {
+        return gameBoardPool.provide();
+    }
+
+}
@@ -0,0 +1,100 @@
+package cleancode.minesweeper.tobe.minesweeper.board.solver;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardGenerationMode;
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkGameLevels;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+AutoSolver 가 보드 한 판을 끝낼 때까지 걸리는 시간을 잰다. 보드 생성은 측정에서 뺀다.
+- solveNoGuessBoard: 첫 수를 둔 NO_GUESS 보드. 추측 없이 항상 이기므로 풀이 자체의 비용만 보인다.
+- solveRandomBoard: 일반 보드. 추측이 틀리면 중간에 끝나므로 판마다 시간이 다르고, 승리 횟수를 함께 출력한다.
+  Sparse 레벨로 보드 크기에 따라 시간이 어떻게 늘어나는지 본다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AutoSolverBenchmark {
+
+    private static final long SEED = 20240101L;
+
+    @State(Scope.Thread)
+    public static class NoGuessBoardState {
+
+        @Param({"Beginner", "Middle", "Advanced"})
+        public String level;
+
+        private GameLevel gameLevel;
+        private BoardRandom boardRandom;
+        private GameBoard gameBoard;
+
+        @Setup(Level.Trial)
+        public void createLevel() {
+            gameLevel = BenchmarkGameLevels.from(level);
+            boardRandom = BoardRandom.of(SEED);
+        }
+
+        @Setup(Level.Invocation)
+        public void createBoard() {
+            gameBoard = new GameBoard(gameLevel, boardRandom, BoardGenerationMode.NO_GUESS);
+            gameBoard.initializeGame();
+            gameBoard.openAt(CellPosition.of(gameLevel.getRowSize() / 2, gameLevel.getColSize() / 2));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RandomBoardState {
+
+        @Param({"Advanced", "Sparse500", "Sparse2000"})
+        public String level;
+
+        private GameLevel gameLevel;
+        private BoardRandom boardRandom;
+        private GameBoard gameBoard;
+        private long solveCount;
+        private long winCount;
+
+        @Setup(Level.Trial)
+        public void createLevel() {
+            gameLevel = BenchmarkGameLevels.from(level);
+            boardRandom = BoardRandom.of(SEED);
+        }
+
+        @Setup(Level.Invocation)
+        public void createBoard() {
+            gameBoard = new GameBoard(gameLevel, boardRandom);
+            gameBoard.initializeGame();
+        }
+
+        @TearDown(Level.Trial)
+        public void printWinRate() {
+            System.out.println("winCount = " + winCount + " / " + solveCount);
+        }
+    }
+
+    private final AutoSolver autoSolver = new AutoSolver();
+
+    @Benchmark
+    public AutoSolverResult solveNoGuessBoard(NoGuessBoardState state) {
+        return autoSolver.solve(state.gameBoard);
+    }
+
+    @Benchmark
+    public AutoSolverResult solveRandomBoard(RandomBoardState state) {
+        AutoSolverResult result = autoSolver.solve(state.gameBoard);
+        state.solveCount++;
+        if (result.isWin()) {
+            state.winCount++;
+        }
+        return result;
+    }
+
+}
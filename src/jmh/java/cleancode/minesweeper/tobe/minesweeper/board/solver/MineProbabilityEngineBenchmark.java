@@ -0,0 +1,90 @@
+package cleancode.minesweeper.tobe.minesweeper.board.solver;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardGenerationMode;
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkGameLevels;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+셀 하나를 연 뒤 확률을 다시 구하는 비용을 잰다. 매 호출 전에 확률이 0 인 셀 하나를 연다(측정에서 뺀다).
+- refreshIncrementally: 계속 써 온 엔진으로 바뀐 컴포넌트만 다시 센다.
+- computeFromScratch: 새 엔진을 만들어 모든 컴포넌트를 처음부터 센다.
+보드는 NO_GUESS 로 만들어 확률이 0 인 셀이 늘 있게 하고, 더 열 셀이 없으면 새 보드로 바꾼다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MineProbabilityEngineBenchmark {
+
+    private static final long SEED = 20240101L;
+
+    @Param({"Middle", "Advanced"})
+    public String level;
+
+    private GameLevel gameLevel;
+    private BoardRandom boardRandom;
+    private GameBoard gameBoard;
+    private MineProbabilityEngine mineProbabilityEngine;
+    private byte[] codes;
+    private double[] probabilities;
+
+    @Setup(Level.Trial)
+    public void createLevel() {
+        gameLevel = BenchmarkGameLevels.from(level);
+        boardRandom = BoardRandom.of(SEED);
+        codes = new byte[gameLevel.getRowSize() * gameLevel.getColSize()];
+        probabilities = new double[codes.length];
+        createBoard();
+    }
+
+    @Setup(Level.Invocation)
+    public void openSafeCell() {
+        int safeIndex = findSafeIndex();
+        if (safeIndex < 0) {
+            createBoard();
+            safeIndex = findSafeIndex();
+        }
+        gameBoard.openAt(CellPosition.of(safeIndex / gameLevel.getColSize(), safeIndex % gameLevel.getColSize()));
+    }
+
+    private void createBoard() {
+        gameBoard = new GameBoard(gameLevel, boardRandom, BoardGenerationMode.NO_GUESS);
+        gameBoard.initializeGame();
+        gameBoard.openAt(CellPosition.of(gameLevel.getRowSize() / 2, gameLevel.getColSize() / 2));
+        mineProbabilityEngine = new MineProbabilityEngine(gameBoard);
+    }
+
+    private int findSafeIndex() {
+        mineProbabilityEngine.writeProbabilities(probabilities);
+        gameBoard.writeSnapshotCodes(codes);
+        for (int index = 0; index < codes.length; index++) {
+            if (codes[index] == CellSnapshot.UNCHECKED_CODE && probabilities[index] == 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public MineProbabilityEngine refreshIncrementally() {
+        mineProbabilityEngine.refresh();
+        return mineProbabilityEngine;
+    }
+
+    @Benchmark
+    public MineProbabilityEngine computeFromScratch() {
+        MineProbabilityEngine freshEngine = new MineProbabilityEngine(gameBoard);
+        freshEngine.refresh();
+        return freshEngine;
+    }
+
+}
@@ -0,0 +1,27 @@
+package cleancode.minesweeper.tobe.minesweeper.gamelevel;
+
+/*
+벤치마크의 @Param 값(문자열)을 GameLevel 로 바꿔 준다.
+Huge 레벨은 Advanced 와 비슷한 지뢰 밀도(약 20%)를 유지한다.
+Sparse 레벨은 지뢰 밀도가 10% 라, 자동 풀이가 추측 없이 멀리까지 진행되는 큰 보드가 필요할 때 쓴다.
+ */
+public class BenchmarkGameLevels {
+
+    private BenchmarkGameLevels() {
+    }
+
+    public static GameLevel from(String levelName) {
+        return switch (levelName) {
+            case "VeryBeginner" -> new VeryBeginner();
+            case "Beginner" -> new Beginner();
+            case "Middle" -> new Middle();
+            case "Advanced" -> new Advanced();
+            case "Huge500" -> CustomGameLevel.of(500, 500, 50_000);
+            case "Huge2000" -> CustomGameLevel.of(2_000, 2_000, 800_000);
+            case "Huge10000" -> CustomGameLevel.of(10_000, 10_000, 20_000_000);
+            case "Sparse500" -> CustomGameLevel.of(500, 500, 25_000);
+            case "Sparse2000" -> CustomGameLevel.of(2_000, 2_000, 400_000);
+            default -> throw new IllegalArgumentException("알 수 없는 레벨입니다: " + levelName);
+        };
+    }
+}
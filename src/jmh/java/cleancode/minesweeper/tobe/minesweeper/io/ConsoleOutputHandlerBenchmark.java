@@ -0,0 +1,67 @@
+package cleancode.minesweeper.tobe.minesweeper.io;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkGameLevels;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/*
+보드 출력 비용을 측정한다. 터미널 속도에 영향을 받지 않도록 System.out 을 버리는 스트림으로 바꿔 둔다.
+보드의 절반 정도를 열어 두어 여러 종류의 셀 기호가 섞이도록 한다.
+showBoardDiff 는 첫 화면을 그린 뒤, 바뀐 셀이 없는 화면을 다시 그리는 비용(전체 비교 + 커서 이동)을 측정한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsoleOutputHandlerBenchmark {
+
+    @Param({"VeryBeginner", "Beginner", "Middle", "Advanced", "Huge500"})
+    public String level;
+
+    private final ConsoleOutputHandler outputHandler = new ConsoleOutputHandler();
+    private final AnsiConsoleOutputHandler ansiOutputHandler = new AnsiConsoleOutputHandler();
+    private GameBoard gameBoard;
+    private PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameBoard = new GameBoard(BenchmarkGameLevels.from(level));
+        gameBoard.initializeGame();
+        openUpperHalf();
+
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        ansiOutputHandler.showBoard(gameBoard);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void showBoard() {
+        outputHandler.showBoard(gameBoard);
+    }
+
+    @Benchmark
+    public void showBoardDiff() {
+        ansiOutputHandler.showBoard(gameBoard);
+    }
+
+    private void openUpperHalf() {
+        for (int row = 0; row < gameBoard.getRowSize() / 2; row++) {
+            for (int col = 0; col < gameBoard.getColSize(); col++) {
+                gameBoard.openAt(CellPosition.of(row, col));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package cleancode.minesweeper.tobe.minesweeper.journal;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardGenerationMode;
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellChangeSet;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkGameLevels;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*
+저널에 남는 수 하나가 fsync 까지 끝나는 처리량을 잰다. 스레드마다 판 하나를 두고, 판이 끝나면 새 판을 연다.
+- alone: 스레드 하나. 수마다 fsync 가 한 번씩 일어난다.
+- together: 스레드 여덟. 같은 때에 쌓인 기록이 fsync 한 번으로 묶이므로 수의 처리량이 fsync 횟수보다 커야 한다.
+측정이 끝나면 기록 수와 fsync 횟수를 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameJournalBenchmark {
+
+    @Param({"Advanced"})
+    public String level;
+
+    private GameLevel gameLevel;
+    private Path directory;
+    private GameJournal gameJournal;
+
+    @Setup(Level.Trial)
+    public void openJournal() throws IOException {
+        gameLevel = BenchmarkGameLevels.from(level);
+        directory = Files.createTempDirectory("game-journal-benchmark");
+        gameJournal = GameJournal.open(directory);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeJournal() throws IOException {
+        System.out.println("recordCount = " + gameJournal.getRecordCount() + ", syncCount = " + gameJournal.getSyncCount());
+        gameJournal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Player {
+
+        private BoardRandom boardRandom;
+        private JournaledGame journaledGame;
+        private int nextIndex;
+
+        @Setup(Level.Trial)
+        public void createRandom() {
+            boardRandom = BoardRandom.of(Thread.currentThread().getId());
+        }
+
+        private CellChangeSet move(GameJournalBenchmark benchmark) {
+            if (journaledGame == null || !journaledGame.getGameBoard().isInProgress()) {
+                journaledGame = benchmark.gameJournal.startGame(benchmark.gameLevel, boardRandom, BoardGenerationMode.RANDOM);
+                nextIndex = 0;
+            }
+            GameBoard gameBoard = journaledGame.getGameBoard();
+            int index = nextIndex++ % (gameBoard.getRowSize() * gameBoard.getColSize());
+            return journaledGame.openAt(CellPosition.of(index / gameBoard.getColSize(), index % gameBoard.getColSize()));
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public CellChangeSet alone(Player player) {
+        return player.move(this);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public CellChangeSet together(Player player) {
+        return player.move(this);
+    }
+
+}
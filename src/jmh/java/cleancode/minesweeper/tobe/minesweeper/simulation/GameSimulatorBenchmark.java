@@ -0,0 +1,52 @@
+package cleancode.minesweeper.tobe.minesweeper.simulation;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkGameLevels;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/*
+GameSimulator 가 GAME_COUNT 판을 끝내는 데 걸리는 시간을 잰다.
+workers 는 풀의 스레드 수이며, 0 이면 코어 수만큼 쓴다. 1 과 비교해 코어 수에 비례해 빨라지는지 본다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameSimulatorBenchmark {
+
+    private static final long SEED = 20240101L;
+    private static final int GAME_COUNT = 4_096;
+
+    @Param({"Beginner", "Advanced"})
+    public String level;
+
+    @Param({"1", "0"})
+    public int workers;
+
+    private GameLevel gameLevel;
+    private ForkJoinPool pool;
+    private GameSimulator gameSimulator;
+
+    @Setup(Level.Trial)
+    public void createSimulator() {
+        gameLevel = BenchmarkGameLevels.from(level);
+        pool = new ForkJoinPool(workers == 0 ? Runtime.getRuntime().availableProcessors() : workers);
+        gameSimulator = new GameSimulator(pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void closePool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public SimulationReport simulate() {
+        return gameSimulator.simulate(gameLevel, GAME_COUNT, SEED);
+    }
+
+}
@@ -1,26 +1,160 @@
 package cleancode.minesweeper.tobe;
 
+import cleancode.minesweeper.tobe.minesweeper.EndlessMinesweeper;
 import cleancode.minesweeper.tobe.minesweeper.Minesweeper;
+import cleancode.minesweeper.tobe.minesweeper.board.BoardGenerationMode;
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.SynchronousGameBoardProvider;
+import cleancode.minesweeper.tobe.minesweeper.board.chunk.ChunkLayout;
 import cleancode.minesweeper.tobe.minesweeper.config.GameConfig;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Advanced;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.CustomGameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Middle;
 import cleancode.minesweeper.tobe.minesweeper.gamelevel.VeryBeginner;
 import cleancode.minesweeper.tobe.minesweeper.io.ConsoleInputHandler;
 import cleancode.minesweeper.tobe.minesweeper.io.ConsoleOutputHandler;
+import cleancode.minesweeper.tobe.minesweeper.server.GameProtocol;
+import cleancode.minesweeper.tobe.minesweeper.server.GameServer;
+import cleancode.minesweeper.tobe.minesweeper.server.LoadGenerator;
+import cleancode.minesweeper.tobe.minesweeper.simulation.GameSimulator;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 public class GameApplication {
 
     public static final int ZERO = 0;
     public static final int ONE = 1;
 
+    private static final String ENDLESS_MODE = "endless";
+    private static final String REPLAY_MODE = "replay";
+    private static final String NO_GUESS_MODE = "no-guess";
+    private static final String SIMULATE_MODE = "simulate";
+    private static final String SERVE_MODE = "serve";
+    private static final String LOAD_MODE = "load";
+    private static final int DEFAULT_PORT = 7777;
+    private static final int LOAD_CONNECTION_ARG_INDEX = 2;
+    private static final int LOAD_SECONDS_ARG_INDEX = 3;
+    private static final int DEFAULT_LOAD_CONNECTION_COUNT = 8;
+    private static final int DEFAULT_LOAD_SECONDS = 10;
+    private static final int SIMULATE_LEVEL_ARG_INDEX = 2;
+    private static final int CUSTOM_LEVEL_SIZE_COUNT = 3;
+    private static final int CUSTOM_LEVEL_ROW_INDEX = 0;
+    private static final int CUSTOM_LEVEL_COL_INDEX = 1;
+    private static final int CUSTOM_LEVEL_LAND_MINE_INDEX = 2;
+    private static final String[] DEFAULT_SIMULATION_LEVELS = {"Beginner", "Middle", "Advanced"};
+
     public static void main(String[] args) {
+        if (args.length > ZERO && ENDLESS_MODE.equals(args[ZERO])) {
+            runEndlessGame();
+            return;
+        }
+        if (args.length > ONE && SIMULATE_MODE.equals(args[ZERO])) {
+            runSimulation(args);
+            return;
+        }
+        if (args.length > ZERO && SERVE_MODE.equals(args[ZERO])) {
+            runServer(args);
+            return;
+        }
+        if (args.length > ONE && LOAD_MODE.equals(args[ZERO])) {
+            runLoadGenerator(args);
+            return;
+        }
+
+        // no-guess 는 다른 인자 앞에 붙일 수 있다. (예: no-guess replay <seed>)
+        boolean noGuess = args.length > ZERO && NO_GUESS_MODE.equals(args[ZERO]);
+        int argIndex = noGuess ? ONE : ZERO;
+
+        GameLevel gameLevel = new VeryBeginner();
+        BoardGenerationMode generationMode = noGuess ? BoardGenerationMode.NO_GUESS : BoardGenerationMode.RANDOM;
         GameConfig gameConfig = new GameConfig(
-                new VeryBeginner(),
+                gameLevel,
+                new SynchronousGameBoardProvider(gameLevel, BoardRandom.create(), generationMode),
                 new ConsoleInputHandler(),
                 new ConsoleOutputHandler()
         );
 
         Minesweeper minesweeper = new Minesweeper(gameConfig);
+        if (args.length > argIndex + ONE && REPLAY_MODE.equals(args[argIndex])) {
+            minesweeper.initialize(Long.parseLong(args[argIndex + ONE]));
+        } else {
+            minesweeper.initialize();
+        }
+        minesweeper.run();
+    }
+
+    private static void runEndlessGame() {
+        EndlessMinesweeper minesweeper = new EndlessMinesweeper(
+                ChunkLayout.of(32, 160, System.nanoTime()),
+                new ConsoleInputHandler(),
+                new ConsoleOutputHandler()
+        );
         minesweeper.initialize();
         minesweeper.run();
     }
 
+    // simulate <게임 수> [레벨...]. 레벨은 Beginner 같은 이름이나 16x30x99(행x열x지뢰) 형식이며, 생략하면 기본 레벨 세 개를 돌린다.
+    private static void runSimulation(String[] args) {
+        long gameCount = Long.parseLong(args[ONE]);
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            GameSimulator gameSimulator = new GameSimulator(pool);
+            String[] levelNames = args.length > SIMULATE_LEVEL_ARG_INDEX
+                    ? Arrays.copyOfRange(args, SIMULATE_LEVEL_ARG_INDEX, args.length)
+                    : DEFAULT_SIMULATION_LEVELS;
+            for (String levelName : levelNames) {
+                System.out.println(gameSimulator.simulate(parseGameLevel(levelName), gameCount, System.nanoTime()).format());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // serve [포트]. 서버 스레드가 살아 있는 동안 프로세스가 끝나지 않는다.
+    private static void runServer(String[] args) {
+        int port = args.length > ONE ? Integer.parseInt(args[ONE]) : DEFAULT_PORT;
+        GameServer gameServer = GameServer.start(new InetSocketAddress(port), BoardRandom.create());
+        System.out.println("지뢰찾기 서버를 " + gameServer.getPort() + " 포트에서 시작했습니다.");
+    }
+
+    // load <호스트:포트> [연결 수] [초]. 초급 보드로 부하를 준다.
+    private static void runLoadGenerator(String[] args) {
+        String[] hostAndPort = args[ONE].split(":");
+        InetSocketAddress address = new InetSocketAddress(hostAndPort[ZERO], Integer.parseInt(hostAndPort[ONE]));
+        int connectionCount = args.length > LOAD_CONNECTION_ARG_INDEX
+                ? Integer.parseInt(args[LOAD_CONNECTION_ARG_INDEX])
+                : DEFAULT_LOAD_CONNECTION_COUNT;
+        int seconds = args.length > LOAD_SECONDS_ARG_INDEX ? Integer.parseInt(args[LOAD_SECONDS_ARG_INDEX]) : DEFAULT_LOAD_SECONDS;
+
+        LoadGenerator loadGenerator = new LoadGenerator(address);
+        System.out.print(loadGenerator.run(connectionCount, GameProtocol.LEVEL_BEGINNER, Duration.ofSeconds(seconds)).format());
+    }
+
+    private static GameLevel parseGameLevel(String levelName) {
+        return switch (levelName) {
+            case "VeryBeginner" -> new VeryBeginner();
+            case "Beginner" -> new Beginner();
+            case "Middle" -> new Middle();
+            case "Advanced" -> new Advanced();
+            default -> parseCustomGameLevel(levelName);
+        };
+    }
+
+    private static GameLevel parseCustomGameLevel(String levelName) {
+        String[] sizes = levelName.split("x");
+        if (sizes.length != CUSTOM_LEVEL_SIZE_COUNT) {
+            throw new IllegalArgumentException("알 수 없는 레벨입니다: " + levelName);
+        }
+        return CustomGameLevel.of(
+                Integer.parseInt(sizes[CUSTOM_LEVEL_ROW_INDEX]),
+                Integer.parseInt(sizes[CUSTOM_LEVEL_COL_INDEX]),
+                Integer.parseInt(sizes[CUSTOM_LEVEL_LAND_MINE_INDEX])
+        );
+    }
+
 }
@@ -0,0 +1,108 @@
+package cleancode.minesweeper.tobe.minesweeper;
+
+import cleancode.minesweeper.tobe.game.GameInitializable;
+import cleancode.minesweeper.tobe.game.GameRunnable;
+import cleancode.minesweeper.tobe.minesweeper.board.chunk.ChunkLayout;
+import cleancode.minesweeper.tobe.minesweeper.board.chunk.ChunkedGameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
+import cleancode.minesweeper.tobe.minesweeper.io.EndlessOutputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.InputHandler;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+끝없는 보드에서 진행하는 지뢰찾기. 보드 전체 대신 마지막으로 선택한 셀을 가운데에 둔 뷰포트만 보여 준다.
+ */
+public class EndlessMinesweeper implements GameInitializable, GameRunnable {
+
+    private static final int VIEWPORT_ROW_COUNT = 16;
+    private static final int VIEWPORT_COL_COUNT = 30;
+
+    private final ChunkedGameBoard gameBoard;
+    private final InputHandler inputHandler;
+    private final EndlessOutputHandler outputHandler;
+    private CellPosition viewportTopLeft = CellPosition.of(ZERO, ZERO);
+
+    public EndlessMinesweeper(ChunkLayout chunkLayout, InputHandler inputHandler, EndlessOutputHandler outputHandler) {
+        this.gameBoard = new ChunkedGameBoard(chunkLayout);
+        this.inputHandler = inputHandler;
+        this.outputHandler = outputHandler;
+    }
+
+    @Override
+    public void initialize() {
+        gameBoard.initializeGame();
+        viewportTopLeft = CellPosition.of(ZERO, ZERO);
+    }
+
+    @Override
+    public void run() {
+        outputHandler.showGameStartComments();
+
+        while (gameBoard.isInProgress()) {
+            try {
+                showViewport();
+
+                CellPosition cellPosition = getCellInputFromUser();
+                UserAction userAction = getUserActionInputFromUser();
+                actOnCell(cellPosition, userAction);
+                moveViewportTo(cellPosition);
+            } catch (GameException e) {
+                outputHandler.showExceptionMessage(e);
+            } catch (Exception e) {
+                outputHandler.showSimpleMessage("알 수 없는 오류가 발생했습니다.");
+            }
+        }
+
+        showViewport();
+
+        if (gameBoard.isLoseStatus()) {
+            outputHandler.showGameLosingComment();
+        }
+    }
+
+    private void showViewport() {
+        outputHandler.showBoardViewport(gameBoard, viewportTopLeft, VIEWPORT_ROW_COUNT, VIEWPORT_COL_COUNT);
+    }
+
+    private void moveViewportTo(CellPosition center) {
+        int topRow = clamp(center.getRowIndex() - VIEWPORT_ROW_COUNT / 2, gameBoard.getRowSize() - VIEWPORT_ROW_COUNT);
+        int leftCol = clamp(center.getColIndex() - VIEWPORT_COL_COUNT / 2, gameBoard.getColSize() - VIEWPORT_COL_COUNT);
+        viewportTopLeft = CellPosition.of(topRow, leftCol);
+    }
+
+    private int clamp(int value, int max) {
+        return Math.max(ZERO, Math.min(value, max));
+    }
+
+    private CellPosition getCellInputFromUser() {
+        outputHandler.showCommentForSelectingCell();
+        return inputHandler.getCellPositionFromUser();
+    }
+
+    private UserAction getUserActionInputFromUser() {
+        outputHandler.showCommentForUserAction();
+        return inputHandler.getUserActionFromUser();
+    }
+
+    private void actOnCell(CellPosition cellPosition, UserAction userAction) {
+        if (userAction == UserAction.FLAG) {
+            gameBoard.flagAt(cellPosition);
+            return;
+        }
+
+        if (userAction == UserAction.OPEN) {
+            gameBoard.openAt(cellPosition);
+            return;
+        }
+
+        if (userAction == UserAction.HINT) {
+            throw new GameException("끝없는 보드에서는 힌트를 볼 수 없습니다.");
+        }
+
+        throw new GameException("잘못된 입력입니다.");
+    }
+
+}
@@ -2,8 +2,11 @@ package cleancode.minesweeper.tobe.minesweeper;
 
 import cleancode.minesweeper.tobe.game.GameInitializable;
 import cleancode.minesweeper.tobe.game.GameRunnable;
+import cleancode.minesweeper.tobe.minesweeper.board.BoardGenerationMode;
 import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoardProvider;
 import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.board.solver.MineProbabilityEngine;
 import cleancode.minesweeper.tobe.minesweeper.config.GameConfig;
 import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
 import cleancode.minesweeper.tobe.minesweeper.io.InputHandler;
@@ -12,26 +15,43 @@ import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
 
 public class Minesweeper implements GameInitializable, GameRunnable {
 
-    private final GameBoard gameBoard;
+    private final GameBoardProvider gameBoardProvider;
     private final InputHandler inputHandler;
     private final OutputHandler outputHandler;
+    private GameBoard gameBoard;
+    private MineProbabilityEngine mineProbabilityEngine;
+    private boolean guessWarningShown;
 
     public Minesweeper(GameConfig gameConfig) {
-        this.gameBoard = new GameBoard(gameConfig.getGameLevel());
+        this.gameBoardProvider = gameConfig.getGameBoardProvider();
         this.inputHandler = gameConfig.getInputHandler();
         this.outputHandler = gameConfig.getOutputHandler();
     }
 
+    // 보드 풀을 쓰면 미리 만들어 둔 보드를 꺼내 오기만 한다.
     @Override
     public void initialize() {
-        gameBoard.initializeGame();
+        gameBoard = gameBoardProvider.provide();
+        mineProbabilityEngine = null;
+        guessWarningShown = false;
     }
 
+    // 오류 메시지에 남은 seed 로 같은 보드를 다시 만든다.
+    public void initialize(long seed) {
+        gameBoard = gameBoardProvider.provide(seed);
+        mineProbabilityEngine = null;
+        guessWarningShown = false;
+    }
+
+    // 스레드가 인터럽트되면(세션이 닫히면) 남은 입력을 기다리지 않고 바로 끝낸다.
     @Override
     public void run() {
         outputHandler.showGameStartComments();
 
         while (gameBoard.isInProgress()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
             try {
                 outputHandler.showBoard(gameBoard);
 
@@ -41,7 +61,7 @@ public class Minesweeper implements GameInitializable, GameRunnable {
             } catch (GameException e) {
                 outputHandler.showExceptionMessage(e);
             } catch (Exception e) {
-                outputHandler.showSimpleMessage("알 수 없는 오류가 발생했습니다.");
+                outputHandler.showSimpleMessage("알 수 없는 오류가 발생했습니다. (seed: " + gameBoard.getSeed() + ")");
             }
         }
 
@@ -55,6 +75,14 @@ public class Minesweeper implements GameInitializable, GameRunnable {
         }
     }
 
+    public boolean isWinStatus() {
+        return gameBoard.isWinStatus();
+    }
+
+    public boolean isLoseStatus() {
+        return gameBoard.isLoseStatus();
+    }
+
     private CellPosition getCellInputFromUser() {
         outputHandler.showCommentForSelectingCell();
         return inputHandler.getCellPositionFromUser();
@@ -73,12 +101,27 @@ public class Minesweeper implements GameInitializable, GameRunnable {
 
         if (doesUserChooseToOpenCell(userAction)) {
             gameBoard.openAt(cellPosition);
+            warnIfGuessMayBeNeeded();
+            return;
+        }
+
+        if (doesUserChooseToSeeHint(userAction)) {
+            showHint(cellPosition);
             return;
         }
 
         throw new GameException("잘못된 입력입니다.");
     }
 
+    // NO_GUESS 보드인데 추측 없이 풀리는 배치를 찾지 못했다면, 첫 수를 둔 뒤 한 번 알린다.
+    private void warnIfGuessMayBeNeeded() {
+        if (guessWarningShown || gameBoard.getGenerationMode() != BoardGenerationMode.NO_GUESS || gameBoard.isGuessFree()) {
+            return;
+        }
+        guessWarningShown = true;
+        outputHandler.showSimpleMessage("추측 없이 풀 수 있는 배치를 찾지 못했습니다. 이 판은 추측이 필요할 수 있습니다.");
+    }
+
     private boolean doesUserChooseToPlantFlag(UserAction userAction) {
         return userAction == UserAction.FLAG;
     }
@@ -87,4 +130,21 @@ public class Minesweeper implements GameInitializable, GameRunnable {
         return userAction == UserAction.OPEN;
     }
 
+    private boolean doesUserChooseToSeeHint(UserAction userAction) {
+        return userAction == UserAction.HINT;
+    }
+
+    // 지금 화면에서 알 수 있는 것만으로 구한 확률이다. 보드는 바뀌지 않는다.
+    // 확률 계산기는 보드 크기만큼 배열을 잡으므로 힌트를 처음 볼 때 만들고, 새 판을 시작하면 버린다.
+    private void showHint(CellPosition cellPosition) {
+        if (cellPosition.getRowIndex() >= gameBoard.getRowSize() || cellPosition.getColIndex() >= gameBoard.getColSize()) {
+            throw new GameException("잘못된 입력입니다.");
+        }
+        if (mineProbabilityEngine == null) {
+            mineProbabilityEngine = new MineProbabilityEngine(gameBoard);
+        }
+        double probability = mineProbabilityEngine.getProbability(cellPosition);
+        outputHandler.showSimpleMessage(String.format("지뢰일 확률: %.1f%%", probability * 100));
+    }
+
 }
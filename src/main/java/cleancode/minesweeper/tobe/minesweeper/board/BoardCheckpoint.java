@@ -0,0 +1,131 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.CustomGameLevel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+GameBoard 한 판을 파일 하나로 저장하고 되살린다. 파일을 FileChannel.map 으로 매핑해 셀 상태를 매핑된 메모리에 바로 묶어 쓰고 바로 푼다.
+- 헤더: int 매직 | short 버전 | byte 게임 상태 | byte 상태 플래그(GameBoard.writeState 와 같다) | byte 생성 방식 | int 행 수 | int 열 수 | int 지뢰 수
+        | long seed | byte 이름 길이(부호 없음) | 난수 알고리즘 이름
+- 셀 상태: 셀마다 4비트(지뢰/열림/깃발). 주변 지뢰 수는 불러올 때 지뢰 비트로 다시 센다.
+- 끝: int CRC32C. 헤더와 셀 상태를 모두 덮으므로, 불러올 때 CRC 부터 확인하고 나서 헤더를 읽는다.
+- 임시 파일에 쓰고 fsync 한 뒤 이름을 바꾸므로, 저장하다 멈춰도 이전 체크포인트는 그대로 남는다.
+ */
+public class BoardCheckpoint {
+
+    private static final int MAGIC = 0x4D53_4350;
+    private static final short VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Byte.BYTES * 3 + Integer.BYTES * 3
+            + Long.BYTES + Byte.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final int CELLS_PER_BYTE = 2;
+    private static final int MAX_ALGORITHM_NAME_LENGTH = (ONE << Byte.SIZE) - ONE;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private BoardCheckpoint() {
+    }
+
+    public static void save(GameBoard gameBoard, Path path) {
+        byte[] algorithmName = gameBoard.getRandomAlgorithm().getBytes(StandardCharsets.US_ASCII);
+        if (algorithmName.length > MAX_ALGORITHM_NAME_LENGTH) {
+            throw new IllegalArgumentException("난수 알고리즘 이름이 너무 깁니다.");
+        }
+        int headerSize = HEADER_SIZE + algorithmName.length;
+        int checksumOffset = headerSize + gameBoard.getCheckpointStateSize();
+        Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_WRITE, ZERO, (long) checksumOffset + CHECKSUM_SIZE);
+            gameBoard.writeCheckpointStates(file.slice(headerSize, gameBoard.getCheckpointStateSize()));
+
+            file.putInt(MAGIC);
+            file.putShort(VERSION);
+            file.put((byte) gameBoard.getGameStatus().ordinal());
+            file.put((byte) gameBoard.getStateFlags());
+            file.put((byte) gameBoard.getGenerationMode().ordinal());
+            file.putInt(gameBoard.getRowSize());
+            file.putInt(gameBoard.getColSize());
+            file.putInt(gameBoard.getLandMineCount());
+            file.putLong(gameBoard.getSeed());
+            file.put((byte) algorithmName.length);
+            file.put(algorithmName);
+            file.putInt(checksumOffset, checksumOf(file.slice(ZERO, checksumOffset)));
+            file.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트를 저장하지 못했습니다.", e);
+        }
+
+        try {
+            Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트를 저장하지 못했습니다.", e);
+        }
+    }
+
+    public static GameBoard load(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE + CHECKSUM_SIZE || fileSize > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("체크포인트 파일이 올바르지 않습니다.");
+            }
+            MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, ZERO, fileSize);
+            int checksumOffset = (int) fileSize - CHECKSUM_SIZE;
+            if (file.getInt() != MAGIC || file.getShort() != VERSION
+                    || checksumOf(file.slice(ZERO, checksumOffset)) != file.getInt(checksumOffset)) {
+                throw new IllegalArgumentException("체크포인트 파일이 올바르지 않습니다.");
+            }
+
+            // CRC 가 맞아도 값의 범위는 확인해, 다른 프로그램이 만든 파일로 엉뚱한 크기의 보드를 만들지 않는다.
+            int statusOrdinal = file.get();
+            int stateFlags = file.get();
+            int generationModeOrdinal = file.get();
+            int rowSize = file.getInt();
+            int colSize = file.getInt();
+            int landMineCount = file.getInt();
+            long seed = file.getLong();
+            int algorithmNameLength = Byte.toUnsignedInt(file.get());
+            if (statusOrdinal < ZERO || statusOrdinal >= GameStatus.values().length
+                    || generationModeOrdinal < ZERO || generationModeOrdinal >= BoardGenerationMode.values().length
+                    || algorithmNameLength > checksumOffset - file.position()) {
+                throw new IllegalArgumentException("체크포인트 파일이 올바르지 않습니다.");
+            }
+            byte[] algorithmName = new byte[algorithmNameLength];
+            file.get(algorithmName);
+
+            ByteBuffer states = file.slice(file.position(), checksumOffset - file.position());
+            if (rowSize <= ZERO || colSize <= ZERO
+                    || states.remaining() != ((long) rowSize * colSize + CELLS_PER_BYTE - ONE) / CELLS_PER_BYTE) {
+                throw new IllegalArgumentException("체크포인트 파일이 올바르지 않습니다.");
+            }
+            GameBoard gameBoard = new GameBoard(CustomGameLevel.of(rowSize, colSize, landMineCount),
+                    BoardRandom.of(new String(algorithmName, StandardCharsets.US_ASCII), seed),
+                    BoardGenerationMode.values()[generationModeOrdinal]);
+            gameBoard.restoreCheckpoint(seed, GameStatus.values()[statusOrdinal], stateFlags, states);
+            return gameBoard;
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트를 불러오지 못했습니다.", e);
+        }
+    }
+
+    private static int checksumOf(ByteBuffer contents) {
+        CRC32C crc = new CRC32C();
+        crc.update(contents);
+        return (int) crc.getValue();
+    }
+
+}
@@ -0,0 +1,17 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+public enum BoardGenerationMode {
+    RANDOM("무작위"),
+    NO_GUESS("추측 없이 풀 수 있는 보드"),
+    ;
+
+    private final String description;
+
+    BoardGenerationMode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,62 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/*
+보드 생성에 쓰는 난수를 정한다.
+- 보드 한 판은 seed 하나로 만들어지므로, seed 만 남겨 두면 같은 보드를 언제든 다시 만들 수 있다.
+- 판마다 쓸 seed 는 rootSeed 로 시작하는 SplittableRandom 에서 뽑는다. rootSeed 를 정하면 여러 판의 순서까지 재현된다.
+- 인스턴스는 스레드 하나가 쓴다. 다른 스레드에서 보드를 만들 때는 split() 으로 독립된 인스턴스를 나누어 주면 경합이 없다.
+- 난수 알고리즘은 RandomGeneratorFactory 이름(SplittableRandom, Xoshiro256PlusPlus, L64X128MixRandom 등)으로 바꿀 수 있다.
+ */
+public class BoardRandom {
+
+    public static final String DEFAULT_ALGORITHM = "SplittableRandom";
+
+    private final RandomGeneratorFactory<RandomGenerator> generatorFactory;
+    private final SplittableRandom seedSource;
+
+    private BoardRandom(RandomGeneratorFactory<RandomGenerator> generatorFactory, SplittableRandom seedSource) {
+        this.generatorFactory = generatorFactory;
+        this.seedSource = seedSource;
+    }
+
+    public static BoardRandom create() {
+        return new BoardRandom(RandomGeneratorFactory.of(DEFAULT_ALGORITHM), new SplittableRandom());
+    }
+
+    public static BoardRandom of(long rootSeed) {
+        return of(DEFAULT_ALGORITHM, rootSeed);
+    }
+
+    public static BoardRandom of(String algorithm, long rootSeed) {
+        return new BoardRandom(findGeneratorFactory(algorithm), new SplittableRandom(rootSeed));
+    }
+
+    private static RandomGeneratorFactory<RandomGenerator> findGeneratorFactory(String algorithm) {
+        try {
+            return RandomGeneratorFactory.of(algorithm);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 난수 알고리즘입니다: " + algorithm, e);
+        }
+    }
+
+    public long nextSeed() {
+        return seedSource.nextLong();
+    }
+
+    public RandomGenerator generatorFor(long seed) {
+        return generatorFactory.create(seed);
+    }
+
+    public String getAlgorithm() {
+        return generatorFactory.name();
+    }
+
+    public BoardRandom split() {
+        return new BoardRandom(generatorFactory, seedSource.split());
+    }
+
+}
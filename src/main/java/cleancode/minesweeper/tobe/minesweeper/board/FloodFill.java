@@ -0,0 +1,136 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+
+import java.util.Arrays;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+빈 셀에서 시작해 주변 셀을 연쇄적으로 여는 scanline flood fill.
+스택에서 꺼낸 빈 셀에서 같은 행의 닫힌 빈 셀 구간을 좌우로 넓혀 그 구간과 양 끝 숫자 셀을 한 번에 열고,
+위아래 행에서는 숫자 셀은 바로 열고 닫힌 빈 셀 구간마다 시작 셀 하나만 스택에 넣는다.
+셀마다가 아니라 구간마다 넣으므로 스택은 연쇄 영역의 크기가 아니라 구간 수만큼만 자란다.
+이미 열린 셀은 다시 넓히지 않으므로 PackedCells 의 열림 비트가 방문 집합 역할을 한다.
+큰 연쇄로 스택이 커졌으면 끝난 뒤 처음 크기로 되돌려 보드가 살아 있는 동안 붙잡고 있지 않는다.
+ */
+public class FloodFill {
+
+    private static final int INITIAL_STACK_CAPACITY = 64;
+    private static final int MAX_RETAINED_STACK_CAPACITY = 4096;
+
+    private final PackedCells cells;
+    private final int rowSize;
+    private final int colSize;
+    private int[] stack = new int[INITIAL_STACK_CAPACITY];
+    private int stackSize;
+
+    public FloodFill(PackedCells cells) {
+        this.cells = cells;
+        this.rowSize = cells.getRowSize();
+        this.colSize = cells.getColSize();
+    }
+
+    // 지뢰가 아닌 셀에서 시작해야 하며, 새로 연 셀의 개수를 반환한다.
+    public int openFrom(int startIndex) {
+        if (cells.isOpened(startIndex)) {
+            return ZERO;
+        }
+        if (cells.hasLandMineCount(startIndex)) {
+            cells.open(startIndex);
+            return ONE;
+        }
+
+        stackSize = ZERO;
+        push(startIndex);
+        int openedCount = ZERO;
+        while (stackSize > ZERO) {
+            openedCount += openSpanFrom(stack[--stackSize]);
+        }
+        trimStack();
+        return openedCount;
+    }
+
+    private int openSpanFrom(int index) {
+        if (cells.isOpened(index)) {
+            return ZERO;
+        }
+
+        int rowStart = index - cells.colOf(index);
+        int left = index;
+        while (left > rowStart && isClosedEmpty(left - ONE)) {
+            left--;
+        }
+        int right = index;
+        while (right < rowStart + colSize - ONE && isClosedEmpty(right + ONE)) {
+            right++;
+        }
+
+        // 빈 구간에 붙은 셀은 지뢰일 수 없으므로 양 끝 한 칸씩 넓힌 범위를 그대로 연다.
+        int firstIndex = Math.max(left - ONE, rowStart);
+        int lastIndex = Math.min(right + ONE, rowStart + colSize - ONE);
+        int openedCount = openRange(firstIndex, lastIndex);
+
+        int row = cells.rowOf(index);
+        if (row > ZERO) {
+            openedCount += openAdjacentRange(firstIndex - colSize, lastIndex - colSize);
+        }
+        if (row < rowSize - ONE) {
+            openedCount += openAdjacentRange(firstIndex + colSize, lastIndex + colSize);
+        }
+        return openedCount;
+    }
+
+    private int openRange(int firstIndex, int lastIndex) {
+        int openedCount = ZERO;
+        for (int index = firstIndex; index <= lastIndex; index++) {
+            if (!cells.isOpened(index)) {
+                cells.open(index);
+                openedCount++;
+            }
+        }
+        return openedCount;
+    }
+
+    // 숫자 셀은 바로 열고, 닫힌 빈 셀은 이어진 구간마다 첫 셀만 스택에 넣어 나중에 구간째 연다.
+    private int openAdjacentRange(int firstIndex, int lastIndex) {
+        int openedCount = ZERO;
+        boolean inEmptySpan = false;
+        for (int index = firstIndex; index <= lastIndex; index++) {
+            if (cells.isOpened(index)) {
+                inEmptySpan = false;
+                continue;
+            }
+            if (cells.hasLandMineCount(index)) {
+                inEmptySpan = false;
+                cells.open(index);
+                openedCount++;
+                continue;
+            }
+            if (!inEmptySpan) {
+                push(index);
+                inEmptySpan = true;
+            }
+        }
+        return openedCount;
+    }
+
+    private boolean isClosedEmpty(int index) {
+        return !cells.isOpened(index) && !cells.isLandMine(index) && !cells.hasLandMineCount(index);
+    }
+
+    private void push(int index) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[stackSize++] = index;
+    }
+
+    private void trimStack() {
+        if (stack.length > MAX_RETAINED_STACK_CAPACITY) {
+            stack = new int[INITIAL_STACK_CAPACITY];
+        }
+    }
+
+}
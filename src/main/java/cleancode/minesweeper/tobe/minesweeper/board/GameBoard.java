@@ -1,149 +1,209 @@
 package cleancode.minesweeper.tobe.minesweeper.board;
 
-import cleancode.minesweeper.tobe.minesweeper.board.cell.*;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellChangeSet;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.NearbyLandMineCountKernels;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
 import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
-import cleancode.minesweeper.tobe.minesweeper.board.position.CellPositions;
 import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
 
 import static cleancode.minesweeper.tobe.GameApplication.ZERO;
-import static cleancode.minesweeper.tobe.minesweeper.board.position.RelativePosition.SURROUND_RELATIVE_POSITIONS;
-import static java.util.stream.Collectors.summingInt;
 
 public class GameBoard {
 
+    private static final int STATE_HEADER_SIZE = Long.BYTES + Byte.BYTES + Byte.BYTES;
+    private static final int FIRST_OPEN_FLAG = 0b01;
+    private static final int GUESS_FREE_FLAG = 0b10;
+    private static final NearbyLandMineCounter NEARBY_LAND_MINE_COUNTER = new NearbyLandMineCounter(
+            ForkJoinPool.commonPool(),
+            NearbyLandMineCountKernels.best()
+    );
+
     private final int landMineCount;
-    private final Cell[][] board;
+    private final PackedCells cells;
+    private final LandMinePlacer landMinePlacer = new LandMinePlacer();
+    private final FloodFill floodFill;
+    private final SafeFirstClick safeFirstClick;
+    private final BoardRandom boardRandom;
+    private final BoardGenerationMode generationMode;
+    private ZeroRegionIndex zeroRegionIndex;
     private GameStatus gameStatus;
+    private long seed;
+    private RandomGenerator random;
+    private boolean firstOpen;
+    private boolean guessFree;
 
     public GameBoard(GameLevel gameLevel) {
+        this(gameLevel, BoardRandom.create());
+    }
+
+    public GameBoard(GameLevel gameLevel, BoardRandom boardRandom) {
+        this(gameLevel, boardRandom, BoardGenerationMode.RANDOM);
+    }
+
+    public GameBoard(GameLevel gameLevel, BoardRandom boardRandom, BoardGenerationMode generationMode) {
         int rowSize = gameLevel.getRowSize();
         int colSize = gameLevel.getColSize();
-        this.board = new Cell[rowSize][colSize];
+        this.cells = PackedCells.of(rowSize, colSize);
+        this.floodFill = new FloodFill(cells);
+        this.safeFirstClick = new SafeFirstClick(cells);
 
         this.landMineCount = gameLevel.getLandMineCount();
+        this.boardRandom = boardRandom;
+        this.generationMode = generationMode;
         initializeGameStatus();
     }
 
     public void initializeGame() {
-        initializeGameStatus();
-        CellPositions cellPositions = CellPositions.from(board);
-
-        initializeEmptyCells(cellPositions);
+        initializeGame(boardRandom.nextSeed());
+    }
 
-        List<CellPosition> landMinePositions = cellPositions.extractRandomPositions(landMineCount);
-        initializeLandMineCells(landMinePositions);
+    // 같은 seed 로 초기화하면 지뢰 배치가 똑같은 보드가 만들어진다.
+    // NO_GUESS 보드는 첫 클릭 위치에 맞춰 배치해야 하므로 지뢰를 첫 openAt 에서 심는다.
+    public void initializeGame(long seed) {
+        this.seed = seed;
+        this.random = boardRandom.generatorFor(seed);
+        this.firstOpen = true;
+        this.guessFree = false;
+        initializeGameStatus();
+        initializeEmptyCells();
+        initializeLandMineAndNumberCells();
+        rebuildZeroRegionIndex();
+    }
 
-        List<CellPosition> numberPositionsCandidates = cellPositions.subtract(landMinePositions);
-        initializeNumberCells(numberPositionsCandidates);
+    // 빈 영역을 자주 여는 환경(봇 등)을 위해 빈 셀 영역을 미리 계산해 둔다. 셀마다 int 하나 정도의 메모리가 추가로 든다.
+    public void enableZeroRegionIndex() {
+        if (zeroRegionIndex == null) {
+            zeroRegionIndex = new ZeroRegionIndex(cells);
+        }
+        zeroRegionIndex.rebuild();
     }
 
     private void initializeGameStatus() {
         this.gameStatus = GameStatus.IN_PROGRESS;
     }
 
-    private void initializeEmptyCells(CellPositions cellPositions) {
-        List<CellPosition> allPositions = cellPositions.getPositions();
-        for (CellPosition position : allPositions) {
-            updateCellAt(position, new EmptyCell());
-        }
+    private void initializeEmptyCells() {
+        cells.clear();
     }
 
-    private void initializeLandMineCells(List<CellPosition> landMinePositions) {
-        for (CellPosition position : landMinePositions) {
-            updateCellAt(position, new LandMineCell());
+    private void initializeLandMineAndNumberCells() {
+        if (generationMode == BoardGenerationMode.NO_GUESS) {
+            return;
         }
+        landMinePlacer.place(cells, landMineCount, random);
     }
 
-    private void initializeNumberCells(List<CellPosition> numberPositionsCandidates) {
-        for (CellPosition candidatePosition : numberPositionsCandidates) {
-            int nearbyLandMineCount = countNearbyLandMines(candidatePosition);
-            if (nearbyLandMineCount != ZERO) {
-                updateCellAt(candidatePosition, new NumberCell(nearbyLandMineCount));
-            }
+    private void rebuildZeroRegionIndex() {
+        if (zeroRegionIndex != null) {
+            zeroRegionIndex.rebuild();
         }
     }
 
     // 상태 변경
-    public void flagAt(CellPosition cellPosition) {
-        Cell cell = findCell(cellPosition);
-        cell.flag();
+    // openAt, flagAt 은 이번 수로 보이는 코드가 바뀐 셀들을 돌려준다. 보드가 계속 재사용하므로 다음 수를 두기 전까지만 유효하다.
+    // 바뀐 셀이 너무 많아 목록이 잘렸으면(isTruncated) writeSnapshotCodes 로 다시 읽는다.
+    public CellChangeSet flagAt(CellPosition cellPosition) {
+        int index = indexOf(cellPosition);
+        cells.clearChanges();
+        cells.flag(index);
 
         checkIfGameIsOver();
+        return cells.getChanges();
     }
 
-    public void openAt(CellPosition cellPosition) {
-        if (isLandMineCell(cellPosition)) {
-            openOneCellAt(cellPosition);
+    public CellChangeSet openAt(CellPosition cellPosition) {
+        int index = indexOf(cellPosition);
+        cells.clearChanges();
+        if (firstOpen) {
+            prepareFirstOpen(index);
+        }
+
+        if (cells.isLandMine(index)) {
+            cells.open(index);
             changeGameStatusToLose();
-            return;
+            return cells.getChanges();
         }
 
-        openSurroundedCells2(cellPosition);
+        openSurroundedCells(index);
         checkIfGameIsOver();
+        return cells.getChanges();
     }
 
-    private void openOneCellAt(CellPosition cellPosition) {
-        Cell cell = findCell(cellPosition);
-        cell.open();
-    }
-
-    private void openSurroundedCells(CellPosition cellPosition) {
-        if (isOpenedCell(cellPosition)) {
+    // 지뢰 배치에 쓴 난수 생성기를 이어서 쓰므로, 같은 seed 와 같은 첫 수라면 옮겨지는 위치(NO_GUESS 는 배치 전체)도 같다.
+    // 빈 셀 영역 인덱스를 켜 둔 보드는 지뢰가 옮겨지거나 새로 심긴 경우 인덱스를 다시 만든다.
+    // NO_GUESS 생성기는 셀마다 후보 보드와 풀이 상태를 들고 있으므로, 판이 이어지는 동안 붙잡아 두지 않도록 첫 수에서만 만들어 쓴다.
+    private void prepareFirstOpen(int index) {
+        firstOpen = false;
+        if (generationMode == BoardGenerationMode.NO_GUESS) {
+            NoGuessBoardGenerator noGuessBoardGenerator = new NoGuessBoardGenerator(ForkJoinPool.commonPool());
+            guessFree = noGuessBoardGenerator.generate(cells, landMineCount, index, boardRandom, random);
+            rebuildZeroRegionIndex();
             return;
         }
-
-        if (isLandMineCell(cellPosition)) {
-            return;
+        if (safeFirstClick.clearLandMinesAround(index, random) > ZERO) {
+            rebuildZeroRegionIndex();
         }
+    }
 
-        openOneCellAt(cellPosition);
-
-        if (doesCellHaveLandMineCount(cellPosition)) {
+    private void openSurroundedCells(int index) {
+        if (zeroRegionIndex != null && zeroRegionIndex.hasRegion(index)) {
+            zeroRegionIndex.reveal(index);
             return;
         }
-
-        calculateSurroundedPositions(cellPosition, getRowSize(), getColSize())
-                .forEach(this::openSurroundedCells2);
+        floodFill.openFrom(index);
     }
 
-    private void openSurroundedCells2(CellPosition cellPosition) {
-        Deque<CellPosition> deque = new ArrayDeque<>();
-        deque.push(cellPosition);
-
-        while (!deque.isEmpty()) {
-            openAndPushCellAt(deque);
+    // writeState 로 저장한 상태로 되돌린다. 레벨, 생성 방식, 난수 알고리즘이 같은 보드여야 한다.
+    public void restoreState(ByteBuffer source) {
+        if (source.remaining() < getStateSize()) {
+            throw new IllegalArgumentException("보드 상태가 부족합니다.");
+        }
+        long stateSeed = source.getLong();
+        int statusOrdinal = source.get();
+        int stateFlags = source.get();
+        if (statusOrdinal < ZERO || statusOrdinal >= GameStatus.values().length) {
+            throw new IllegalArgumentException("올바르지 않은 게임 상태입니다.");
         }
-    }
 
-    private void openAndPushCellAt(Deque<CellPosition> deque) {
-        CellPosition currentCellPosition = deque.pop();
+        prepareRestore(stateSeed, stateFlags);
+        cells.readFrom(source);
+        gameStatus = GameStatus.values()[statusOrdinal];
+        rebuildZeroRegionIndex();
+    }
 
-        if (isOpenedCell(currentCellPosition)) {
-            return;
+    // BoardCheckpoint 가 매핑한 파일의 셀 상태(PackedCells.writePackedStates 형식)로 되돌린다. 주변 지뢰 수는 다시 센다.
+    void restoreCheckpoint(long checkpointSeed, GameStatus checkpointStatus, int checkpointFlags, ByteBuffer packedStates) {
+        prepareRestore(checkpointSeed, checkpointFlags);
+        cells.readPackedStates(packedStates);
+        // 첫 수 전의 NO_GUESS 보드는 아직 지뢰를 심지 않았다.
+        int expectedLandMineCount = firstOpen && generationMode == BoardGenerationMode.NO_GUESS ? ZERO : landMineCount;
+        if (cells.getLandMineCount() != expectedLandMineCount) {
+            throw new IllegalArgumentException("체크포인트의 지뢰 수가 맞지 않습니다.");
         }
+        NEARBY_LAND_MINE_COUNTER.countInParallel(cells);
+        gameStatus = checkpointStatus;
+        rebuildZeroRegionIndex();
+    }
 
-        if (isLandMineCell(currentCellPosition)) {
-            return;
+    // 첫 수 전이면 seed 로 다시 초기화해 난수 생성기의 위치(첫 클릭 때 지뢰를 옮기는 데 쓴다)까지 맞춘다.
+    // 첫 수를 둔 보드는 더 이상 난수를 쓰지 않으므로 지뢰를 다시 심지 않는다.
+    private void prepareRestore(long restoredSeed, int restoredFlags) {
+        if ((restoredFlags & ~(FIRST_OPEN_FLAG | GUESS_FREE_FLAG)) != ZERO) {
+            throw new IllegalArgumentException("올바르지 않은 게임 상태입니다.");
         }
-
-        openOneCellAt(currentCellPosition);
-
-        if (doesCellHaveLandMineCount(currentCellPosition)) {
+        if ((restoredFlags & FIRST_OPEN_FLAG) != ZERO) {
+            initializeGame(restoredSeed);
             return;
         }
-
-        List<CellPosition> surroundedPositions = calculateSurroundedPositions(currentCellPosition, getRowSize(), getColSize());
-        for (CellPosition surroundedPosition : surroundedPositions) {
-            deque.push(surroundedPosition);
-        }
-    }
-
-    private void updateCellAt(CellPosition position, Cell cell) {
-        board[position.getRowIndex()][position.getColIndex()] = cell;
+        this.seed = restoredSeed;
+        this.random = boardRandom.generatorFor(restoredSeed);
+        this.firstOpen = false;
+        this.guessFree = (restoredFlags & GUESS_FREE_FLAG) != ZERO;
     }
 
     private void checkIfGameIsOver() {
@@ -160,30 +220,17 @@ public class GameBoard {
         gameStatus = GameStatus.LOSE;
     }
 
-    private int countNearbyLandMines(CellPosition cellPosition) {
-        int rowSize = getRowSize();
-        int colSize = getColSize();
-
-        return calculateSurroundedPositions(cellPosition, rowSize, colSize).stream()
-                .filter(this::isLandMineCell)
-                .mapToInt(value -> 1)
-                .sum();
-    }
-
-    private List<CellPosition> calculateSurroundedPositions(CellPosition cellPosition, int rowSize, int colSize) {
-        return SURROUND_RELATIVE_POSITIONS.stream()
-                .filter(cellPosition::canCalculatePositionBy)
-                .map(cellPosition::calculatePositionBy)
-                .filter(position -> position.isRowIndexLessThan(rowSize))
-                .filter(position -> position.isColIndexLessThan(colSize))
-                .toList();
-    }
-
     // 판별
     public boolean isInProgress() {
         return gameStatus == GameStatus.IN_PROGRESS;
     }
 
+    // NO_GUESS 보드가 첫 수에 맞춰 추측 없이 풀리는 배치를 만들었으면 true.
+    // 후보를 모두 써도 찾지 못한 보드, 첫 수 전의 보드, RANDOM 보드는 false 다.
+    public boolean isGuessFree() {
+        return guessFree;
+    }
+
     public boolean isWinStatus() {
         return gameStatus == GameStatus.WIN;
     }
@@ -193,39 +240,100 @@ public class GameBoard {
     }
 
     private boolean isAllCellChecked() {
-        Cells cells = Cells.from(board);
         return cells.isAllChecked();
     }
 
-    private boolean isLandMineCell(CellPosition cellPosition) {
-        Cell cell = findCell(cellPosition);
-        return cell.isLandMine();
+    // 조회
+    public CellSnapshot getSnapshot(CellPosition cellPosition) {
+        return cells.getSnapshot(indexOf(cellPosition));
+    }
+
+    // 보드 전체의 셀 코드(CellSnapshot.ofCode 로 되돌릴 수 있다)를 행 순서대로 destination 에 채운다.
+    public void writeSnapshotCodes(byte[] destination) {
+        writeSnapshotCodes(CellPosition.of(ZERO, ZERO), getRowSize(), getColSize(), destination, ZERO);
     }
 
-    private boolean doesCellHaveLandMineCount(CellPosition cellPosition) {
-        return findCell(cellPosition).hasLandMineCount();
+    public void writeSnapshotCodes(CellPosition topLeft, int rowCount, int colCount, byte[] destination, int offset) {
+        validateViewport(topLeft, rowCount, colCount);
+        if (offset < ZERO || destination.length - offset < (long) rowCount * colCount) {
+            throw new IllegalArgumentException("셀 코드를 담을 공간이 부족합니다.");
+        }
+        cells.writeVisibleCodes(topLeft.getRowIndex(), topLeft.getColIndex(), rowCount, colCount, destination, offset);
     }
 
-    private boolean isOpenedCell(CellPosition cellPosition) {
-        return findCell(cellPosition).isOpened();
+    public void writeSnapshotCodes(CellPosition topLeft, int rowCount, int colCount, ByteBuffer destination) {
+        validateViewport(topLeft, rowCount, colCount);
+        if (destination.remaining() < (long) rowCount * colCount) {
+            throw new IllegalArgumentException("셀 코드를 담을 공간이 부족합니다.");
+        }
+        cells.writeVisibleCodes(topLeft.getRowIndex(), topLeft.getColIndex(), rowCount, colCount, destination);
     }
 
-    // 조회
-    public CellSnapshot getSnapshot(CellPosition cellPosition) {
-        Cell cell = findCell(cellPosition);
-        return cell.getSnapshot();
+    // seed, 게임 상태, 상태 플래그(첫 수 전인지, 추측 없이 풀리는 배치인지), 셀마다 byte 하나(지뢰/열림/깃발/주변 지뢰 수) 순서로 쓴다.
+    public void writeState(ByteBuffer destination) {
+        if (destination.remaining() < getStateSize()) {
+            throw new IllegalArgumentException("보드 상태를 담을 공간이 부족합니다.");
+        }
+        destination.putLong(seed);
+        destination.put((byte) gameStatus.ordinal());
+        destination.put((byte) getStateFlags());
+        cells.writeTo(destination);
+    }
+
+    public int getStateSize() {
+        return STATE_HEADER_SIZE + cells.size();
+    }
+
+    void writeCheckpointStates(ByteBuffer destination) {
+        cells.writePackedStates(destination);
+    }
+
+    int getCheckpointStateSize() {
+        return cells.getPackedStateSize();
+    }
+
+    GameStatus getGameStatus() {
+        return gameStatus;
+    }
+
+    int getStateFlags() {
+        return (firstOpen ? FIRST_OPEN_FLAG : ZERO) | (guessFree ? GUESS_FREE_FLAG : ZERO);
+    }
+
+    String getRandomAlgorithm() {
+        return boardRandom.getAlgorithm();
+    }
+
+    public BoardGenerationMode getGenerationMode() {
+        return generationMode;
+    }
+
+    public int getLandMineCount() {
+        return landMineCount;
+    }
+
+    public long getSeed() {
+        return seed;
     }
 
     public int getRowSize() {
-        return board.length;
+        return cells.getRowSize();
     }
 
     public int getColSize() {
-        return board[0].length;
+        return cells.getColSize();
+    }
+
+    private void validateViewport(CellPosition topLeft, int rowCount, int colCount) {
+        if (rowCount < ZERO || colCount < ZERO
+                || topLeft.getRowIndex() + rowCount > getRowSize()
+                || topLeft.getColIndex() + colCount > getColSize()) {
+            throw new IllegalArgumentException("보드를 벗어난 영역입니다.");
+        }
     }
 
-    private Cell findCell(CellPosition cellPosition) {
-        return board[cellPosition.getRowIndex()][cellPosition.getColIndex()];
+    private int indexOf(CellPosition cellPosition) {
+        return cells.indexOf(cellPosition.getRowIndex(), cellPosition.getColIndex());
     }
 
 }
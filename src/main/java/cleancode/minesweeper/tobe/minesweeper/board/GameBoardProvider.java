@@ -0,0 +1,13 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+/*
+게임을 시작할 때 초기화가 끝난(지뢰와 숫자가 채워진) 보드를 건네준다.
+ */
+public interface GameBoardProvider {
+
+    GameBoard provide();
+
+    // 같은 seed 로 만든 보드를 다시 만들 때 사용한다. 미리 만들어 둘 수 없으므로 항상 그 자리에서 만든다.
+    GameBoard provide(long seed);
+
+}
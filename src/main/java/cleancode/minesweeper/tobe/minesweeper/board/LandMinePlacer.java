@@ -0,0 +1,95 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.NearbyLandMineCountKernel;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.NearbyLandMineCountKernels;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+import static cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes.MAX_SURROUNDED_COUNT;
+
+/*
+전체 좌표를 섞는 대신 Floyd 샘플링으로 지뢰 수만큼만 난수를 뽑는다.
+지뢰 여부는 PackedCells 의 지뢰 비트를 집합처럼 사용하므로 좌표 객체를 만들지 않는다.
+주변 지뢰 수는 모든 셀을 살펴보는 대신 지뢰 주변 셀의 숫자를 하나씩 올려서 계산한다.
+셀이 아주 많은 보드는 지뢰만 순서대로 심고, 주변 지뢰 수는 NearbyLandMineCounter 로 병렬 계산한다. 결과는 같다.
+병렬 계산에는 쓸 수 있는 가장 빠른 행 단위 커널(jdk.incubator.vector 모듈이 켜져 있으면 벡터 커널)을 사용한다.
+ */
+public class LandMinePlacer {
+
+    private static final int PARALLEL_THRESHOLD_CELL_COUNT = 1 << 20;
+
+    private final NearbyLandMineCounter nearbyLandMineCounter = new NearbyLandMineCounter(
+            ForkJoinPool.commonPool(),
+            NearbyLandMineCountKernels.best()
+    );
+
+    public void place(PackedCells cells, int landMineCount, RandomGenerator random) {
+        if (cells.size() >= PARALLEL_THRESHOLD_CELL_COUNT && ForkJoinPool.getCommonPoolParallelism() > ONE) {
+            placeInParallel(cells, landMineCount, random);
+            return;
+        }
+        placeSequentially(cells, landMineCount, random);
+    }
+
+    public void placeSequentially(PackedCells cells, int landMineCount, RandomGenerator random) {
+        validateLandMineCount(cells, landMineCount);
+
+        int[] landMineIndexes = plantLandMines(cells, landMineCount, random);
+        countNearbyLandMines(cells, landMineIndexes);
+    }
+
+    public void placeInParallel(PackedCells cells, int landMineCount, RandomGenerator random) {
+        validateLandMineCount(cells, landMineCount);
+
+        plantLandMines(cells, landMineCount, random);
+        nearbyLandMineCounter.countInParallel(cells);
+    }
+
+    // 지뢰를 심은 뒤 주어진 커널 하나로 보드 전체의 주변 지뢰 수를 한 스레드에서 계산한다.
+    public void placeWithKernel(PackedCells cells, int landMineCount, RandomGenerator random, NearbyLandMineCountKernel kernel) {
+        validateLandMineCount(cells, landMineCount);
+
+        plantLandMines(cells, landMineCount, random);
+        kernel.countRows(cells, ZERO, cells.getRowSize());
+    }
+
+    private void validateLandMineCount(PackedCells cells, int landMineCount) {
+        if (landMineCount < ZERO || landMineCount > cells.size()) {
+            throw new IllegalArgumentException("지뢰 수가 셀 수보다 많습니다.");
+        }
+    }
+
+    private int[] plantLandMines(PackedCells cells, int landMineCount, RandomGenerator random) {
+        int[] landMineIndexes = new int[landMineCount];
+        int cellCount = cells.size();
+
+        int plantedCount = ZERO;
+        for (int bound = cellCount - landMineCount; bound < cellCount; bound++) {
+            int candidate = random.nextInt(bound + ONE);
+            int index = cells.isLandMine(candidate) ? bound : candidate;
+
+            cells.plantLandMine(index);
+            landMineIndexes[plantedCount++] = index;
+        }
+        return landMineIndexes;
+    }
+
+    private void countNearbyLandMines(PackedCells cells, int[] landMineIndexes) {
+        int[] surroundedIndexes = new int[MAX_SURROUNDED_COUNT];
+
+        for (int landMineIndex : landMineIndexes) {
+            int surroundedCount = cells.collectSurroundedIndexes(landMineIndex, surroundedIndexes);
+            for (int i = ZERO; i < surroundedCount; i++) {
+                int surroundedIndex = surroundedIndexes[i];
+                if (!cells.isLandMine(surroundedIndex)) {
+                    cells.increaseNearbyLandMineCount(surroundedIndex);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.NearbyLandMineCountKernel;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+지뢰가 모두 심어진 보드의 주변 지뢰 수를 행 묶음(row band) 단위로 나누어 fork/join 으로 병렬 계산한다.
+각 작업은 자기 행의 숫자만 쓰고, 위아래 한 행(halo)은 지뢰 비트만 읽기 때문에 작업 사이에 잠금이 필요 없다.
+셀마다 주변 지뢰를 직접 세므로 지뢰를 심은 순서와 관계없이 순차 계산과 똑같은 결과가 나온다.
+행 묶음 하나의 계산은 NearbyLandMineCountKernel(스칼라 또는 벡터)이 맡는다.
+ */
+public class NearbyLandMineCounter {
+
+    private static final int MIN_BAND_CELL_COUNT = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final NearbyLandMineCountKernel kernel;
+
+    public NearbyLandMineCounter(ForkJoinPool pool, NearbyLandMineCountKernel kernel) {
+        this.pool = pool;
+        this.kernel = kernel;
+    }
+
+    public void countInParallel(PackedCells cells) {
+        int minBandRowCount = Math.max(ONE, MIN_BAND_CELL_COUNT / cells.getColSize());
+        pool.invoke(new RowBandTask(cells, kernel, ZERO, cells.getRowSize(), minBandRowCount));
+    }
+
+    private static class RowBandTask extends RecursiveAction {
+
+        private final PackedCells cells;
+        private final NearbyLandMineCountKernel kernel;
+        private final int fromRow;
+        private final int toRow;
+        private final int minBandRowCount;
+
+        private RowBandTask(PackedCells cells, NearbyLandMineCountKernel kernel, int fromRow, int toRow, int minBandRowCount) {
+            this.cells = cells;
+            this.kernel = kernel;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.minBandRowCount = minBandRowCount;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow <= minBandRowCount) {
+                countRows();
+                return;
+            }
+
+            int middleRow = (fromRow + toRow) >>> ONE;
+            invokeAll(
+                    new RowBandTask(cells, kernel, fromRow, middleRow, minBandRowCount),
+                    new RowBandTask(cells, kernel, middleRow, toRow, minBandRowCount)
+            );
+        }
+
+        private void countRows() {
+            kernel.countRows(cells, fromRow, toRow);
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+import cleancode.minesweeper.tobe.minesweeper.board.solver.ConstraintPropagationSolver;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+import static cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes.MAX_SURROUNDED_COUNT;
+
+/*
+첫 클릭 위치(startIndex)에서 추측 없이 논리만으로 끝까지 풀 수 있는 지뢰 배치를 만든다.
+- 후보 보드는 일반 보드처럼 지뢰를 뿌린 뒤 첫 클릭 주변 3x3 의 지뢰를 옮겨(SafeFirstClick) 만든다.
+- ConstraintPropagationSolver 가 막히면, 이미 열린 셀과 맞닿은 모르는 셀의 지뢰 하나를 열린 셀과 닿지 않은 빈 셀로 옮기고
+  처음부터 다시 풀어 본다(repair). 정해진 횟수 안에 풀리지 않으면 그 후보는 버린다.
+- 후보 여러 개를 fork/join 풀에서 동시에 만들고, 풀린 후보 중 번호가 가장 작은 것을 고른다.
+  후보마다 seed 를 미리 뽑아 두므로 스레드 수와 실행 순서가 달라도 같은 seed 에서는 같은 보드가 나온다.
+  앞 번호 후보가 이미 풀렸다면 뒤 번호 후보는 일을 멈춘다.
+- 후보 보드와 풀이기는 처음 쓸 때 한 번 만들어 두고, 보드 크기가 같으면 다음 generate 에서도 다시 쓴다.
+정해진 후보를 모두 써도 풀리는 보드가 없으면(지뢰 밀도가 너무 높은 경우 등) 마지막 묶음의 첫 후보를 그대로 쓰고 false 를 반환한다.
+호출한 쪽은 false 를 보고 추측이 필요할 수 있는 보드라는 것을 알려야 한다(GameBoard.isGuessFree).
+ */
+public class NoGuessBoardGenerator {
+
+    private static final int CANDIDATE_BATCH_SIZE = 8;
+    private static final int MAX_BATCH_COUNT = 16;
+    private static final int MAX_REPAIR_COUNT = 256;
+
+    private final ForkJoinPool pool;
+    private final LandMinePlacer landMinePlacer = new LandMinePlacer();
+    private Candidate[] candidates = new Candidate[ZERO];
+
+    public NoGuessBoardGenerator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    // cells 에 지뢰 배치와 주변 지뢰 수를 채운다(열림/깃발 상태는 그대로 둔다). 추측 없이 풀 수 있는 보드를 만들었으면 true.
+    public boolean generate(PackedCells cells, int landMineCount, int startIndex, BoardRandom boardRandom, RandomGenerator random) {
+        prepareCandidates(cells.getRowSize(), cells.getColSize());
+        for (int batch = ZERO; batch < MAX_BATCH_COUNT; batch++) {
+            Candidate solvedCandidate = runBatch(candidates, landMineCount, startIndex, boardRandom, random);
+            if (solvedCandidate != null) {
+                cells.copyLandMinesFrom(solvedCandidate.cells);
+                return true;
+            }
+        }
+
+        cells.copyLandMinesFrom(candidates[ZERO].cells);
+        return false;
+    }
+
+    private void prepareCandidates(int rowSize, int colSize) {
+        if (candidates.length == ZERO || !candidates[ZERO].hasSize(rowSize, colSize)) {
+            candidates = new Candidate[CANDIDATE_BATCH_SIZE];
+            for (int i = ZERO; i < CANDIDATE_BATCH_SIZE; i++) {
+                candidates[i] = new Candidate(i, rowSize, colSize);
+            }
+        }
+    }
+
+    private Candidate runBatch(Candidate[] candidates, int landMineCount, int startIndex, BoardRandom boardRandom, RandomGenerator random) {
+        AtomicInteger solvedIndex = new AtomicInteger(CANDIDATE_BATCH_SIZE);
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[candidates.length];
+        for (int i = ZERO; i < candidates.length; i++) {
+            Candidate candidate = candidates[i];
+            RandomGenerator candidateRandom = boardRandom.generatorFor(random.nextLong());
+            tasks[i] = pool.submit(() -> candidate.generate(landMineCount, startIndex, candidateRandom, solvedIndex));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+
+        int index = solvedIndex.get();
+        return index < candidates.length ? candidates[index] : null;
+    }
+
+    private class Candidate {
+
+        private final int index;
+        private final PackedCells cells;
+        private final SafeFirstClick safeFirstClick;
+        private final ConstraintPropagationSolver solver;
+        private final int[] frontierLandMineIndexes;
+        private final int[] interiorSafeIndexes;
+        private final int[] surroundedIndexBuffer = new int[MAX_SURROUNDED_COUNT];
+
+        private Candidate(int index, int rowSize, int colSize) {
+            this.index = index;
+            this.cells = PackedCells.of(rowSize, colSize);
+            this.safeFirstClick = new SafeFirstClick(cells);
+            this.solver = new ConstraintPropagationSolver(rowSize, colSize);
+            this.frontierLandMineIndexes = new int[cells.size()];
+            this.interiorSafeIndexes = new int[cells.size()];
+        }
+
+        private boolean hasSize(int rowSize, int colSize) {
+            return cells.getRowSize() == rowSize && cells.getColSize() == colSize;
+        }
+
+        private void generate(int landMineCount, int startIndex, RandomGenerator random, AtomicInteger solvedIndex) {
+            cells.clear();
+            landMinePlacer.placeSequentially(cells, landMineCount, random);
+            safeFirstClick.clearLandMinesAround(startIndex, random);
+            if (cells.isLandMine(startIndex)) {
+                return;
+            }
+
+            for (int repair = ZERO; repair <= MAX_REPAIR_COUNT; repair++) {
+                if (solvedIndex.get() < index) {
+                    return;
+                }
+                if (solver.solve(cells, startIndex)) {
+                    solvedIndex.accumulateAndGet(index, Math::min);
+                    return;
+                }
+                if (!moveFrontierLandMine(random)) {
+                    return;
+                }
+            }
+        }
+
+        // 풀이가 막힌 경계의 지뢰 하나를 아직 드러나지 않은 안쪽 빈 셀로 옮긴다. 옮길 곳이 없으면 false.
+        private boolean moveFrontierLandMine(RandomGenerator random) {
+            int frontierLandMineCount = ZERO;
+            int interiorSafeCount = ZERO;
+            for (int i = ZERO; i < cells.size(); i++) {
+                if (!solver.isUnknown(i)) {
+                    continue;
+                }
+                boolean frontier = touchesSafeCell(i);
+                if (frontier && cells.isLandMine(i)) {
+                    frontierLandMineIndexes[frontierLandMineCount++] = i;
+                } else if (!frontier && !cells.isLandMine(i)) {
+                    interiorSafeIndexes[interiorSafeCount++] = i;
+                }
+            }
+            if (frontierLandMineCount == ZERO || interiorSafeCount == ZERO) {
+                return false;
+            }
+
+            safeFirstClick.moveLandMine(
+                    frontierLandMineIndexes[random.nextInt(frontierLandMineCount)],
+                    interiorSafeIndexes[random.nextInt(interiorSafeCount)]
+            );
+            return true;
+        }
+
+        private boolean touchesSafeCell(int index) {
+            int surroundedCount = cells.collectSurroundedIndexes(index, surroundedIndexBuffer);
+            for (int i = ZERO; i < surroundedCount; i++) {
+                if (solver.isSafe(surroundedIndexBuffer[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
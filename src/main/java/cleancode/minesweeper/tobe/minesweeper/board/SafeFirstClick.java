@@ -0,0 +1,132 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+
+import java.util.random.RandomGenerator;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+import static cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes.MAX_SURROUNDED_COUNT;
+
+/*
+첫 번째로 연 셀과 그 주변 8칸에 있는 지뢰를 보드의 다른 빈 셀로 옮겨, 첫 수에 지뢰를 밟지 않고 빈 영역이 열리게 한다.
+보드를 다시 만들지 않고 옮긴 지뢰 주변의 숫자만 고치므로, 보드 크기와 관계없이 최대 9개의 지뢰만큼만 일한다.
+옮길 자리는 무작위로 골라 비어 있는지 확인하는 방식으로 찾는다. 지뢰가 거의 가득 찬 보드라 몇 번 만에 찾지 못하면
+무작위 위치부터 차례로 훑는다.
+주변 8칸까지 비울 자리가 없으면 첫 셀만 비우고, 그마저 없으면(모든 셀이 지뢰) 그대로 둔다.
+ */
+public class SafeFirstClick {
+
+    private static final int MAX_RANDOM_PICK_COUNT = 32;
+
+    private final PackedCells cells;
+    private final int[] areaIndexes = new int[MAX_SURROUNDED_COUNT + ONE];
+    private final int[] surroundedIndexBuffer = new int[MAX_SURROUNDED_COUNT];
+
+    public SafeFirstClick(PackedCells cells) {
+        this.cells = cells;
+    }
+
+    // 옮긴 지뢰 수를 반환한다.
+    public int clearLandMinesAround(int index, RandomGenerator random) {
+        int areaSize = collectArea(index);
+        int areaLandMineCount = countLandMinesIn(areaSize);
+        if (areaLandMineCount == ZERO) {
+            return ZERO;
+        }
+
+        int freeCellCountOutsideArea = (cells.size() - areaSize) - (cells.getLandMineCount() - areaLandMineCount);
+        if (freeCellCountOutsideArea < areaLandMineCount) {
+            areaSize = ONE;
+            areaLandMineCount = countLandMinesIn(areaSize);
+            freeCellCountOutsideArea = (cells.size() - ONE) - (cells.getLandMineCount() - areaLandMineCount);
+            if (areaLandMineCount == ZERO || freeCellCountOutsideArea < areaLandMineCount) {
+                return ZERO;
+            }
+        }
+
+        for (int i = ZERO; i < areaSize; i++) {
+            int areaIndex = areaIndexes[i];
+            if (cells.isLandMine(areaIndex)) {
+                moveLandMine(areaIndex, findFreeCellOutsideArea(areaSize, random));
+            }
+        }
+        return areaLandMineCount;
+    }
+
+    // areaIndexes[0] 은 클릭한 셀, 그 뒤는 주변 셀이다.
+    private int collectArea(int index) {
+        areaIndexes[ZERO] = index;
+        int surroundedCount = cells.collectSurroundedIndexes(index, surroundedIndexBuffer);
+        System.arraycopy(surroundedIndexBuffer, ZERO, areaIndexes, ONE, surroundedCount);
+        return surroundedCount + ONE;
+    }
+
+    private int countLandMinesIn(int areaSize) {
+        int count = ZERO;
+        for (int i = ZERO; i < areaSize; i++) {
+            if (cells.isLandMine(areaIndexes[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int findFreeCellOutsideArea(int areaSize, RandomGenerator random) {
+        for (int i = ZERO; i < MAX_RANDOM_PICK_COUNT; i++) {
+            int candidate = random.nextInt(cells.size());
+            if (isFreeCellOutsideArea(candidate, areaSize)) {
+                return candidate;
+            }
+        }
+
+        int start = random.nextInt(cells.size());
+        for (int offset = ZERO; offset < cells.size(); offset++) {
+            int candidate = (start + offset) % cells.size();
+            if (isFreeCellOutsideArea(candidate, areaSize)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("지뢰를 옮길 빈 셀이 없습니다.");
+    }
+
+    private boolean isFreeCellOutsideArea(int index, int areaSize) {
+        if (cells.isLandMine(index)) {
+            return false;
+        }
+        for (int i = ZERO; i < areaSize; i++) {
+            if (areaIndexes[i] == index) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 지뢰 셀은 숫자를 갖지 않으므로, 지뢰가 빠진 셀은 숫자를 새로 세고 지뢰가 들어간 셀은 숫자를 0 으로 둔다.
+    // from 은 지뢰, to 는 지뢰가 아닌 셀이어야 한다.
+    public void moveLandMine(int from, int to) {
+        cells.removeLandMine(from);
+        int surroundedCount = cells.collectSurroundedIndexes(from, surroundedIndexBuffer);
+        int nearbyLandMineCount = ZERO;
+        for (int i = ZERO; i < surroundedCount; i++) {
+            int surroundedIndex = surroundedIndexBuffer[i];
+            if (cells.isLandMine(surroundedIndex)) {
+                nearbyLandMineCount++;
+                continue;
+            }
+            cells.decreaseNearbyLandMineCount(surroundedIndex);
+        }
+        cells.updateNearbyLandMineCount(from, nearbyLandMineCount);
+
+        cells.updateNearbyLandMineCount(to, ZERO);
+        cells.plantLandMine(to);
+        surroundedCount = cells.collectSurroundedIndexes(to, surroundedIndexBuffer);
+        for (int i = ZERO; i < surroundedCount; i++) {
+            int surroundedIndex = surroundedIndexBuffer[i];
+            if (!cells.isLandMine(surroundedIndex)) {
+                cells.increaseNearbyLandMineCount(surroundedIndex);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+/*
+요청한 스레드에서 바로 보드를 만들어 초기화한다. 미리 만들어 둔 보드가 없을 때의 기본 방식이다.
+ */
+public class SynchronousGameBoardProvider implements GameBoardProvider {
+
+    private final GameLevel gameLevel;
+    private final BoardRandom boardRandom;
+    private final BoardGenerationMode generationMode;
+
+    public SynchronousGameBoardProvider(GameLevel gameLevel, BoardRandom boardRandom) {
+        this(gameLevel, boardRandom, BoardGenerationMode.RANDOM);
+    }
+
+    public SynchronousGameBoardProvider(GameLevel gameLevel, BoardRandom boardRandom, BoardGenerationMode generationMode) {
+        this.gameLevel = gameLevel;
+        this.boardRandom = boardRandom;
+        this.generationMode = generationMode;
+    }
+
+    @Override
+    public GameBoard provide() {
+        GameBoard gameBoard = new GameBoard(gameLevel, boardRandom, generationMode);
+        gameBoard.initializeGame();
+        return gameBoard;
+    }
+
+    @Override
+    public GameBoard provide(long seed) {
+        GameBoard gameBoard = new GameBoard(gameLevel, boardRandom, generationMode);
+        gameBoard.initializeGame(seed);
+        return gameBoard;
+    }
+
+}
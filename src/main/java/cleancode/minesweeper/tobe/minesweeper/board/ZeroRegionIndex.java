@@ -0,0 +1,182 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+import static cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes.MAX_SURROUNDED_COUNT;
+
+/*
+지뢰 배치가 끝난 뒤 서로 이어진 빈 셀 영역(과 그 경계의 숫자 셀)을 union-find 로 한 번만 계산해 둔다.
+빈 셀을 열면 BFS 로 영역을 다시 찾는 대신 미리 계산된 영역의 셀들을 바로 연다.
+셀마다 int 하나 이상의 메모리를 추가로 사용하므로 필요한 보드에서만 켜서 사용한다.
+ */
+public class ZeroRegionIndex {
+
+    private static final int NO_REGION = -1;
+    private static final int ROOT_CODE_OFFSET = -2;
+
+    private final PackedCells cells;
+    private final int[] regionOfCell;
+    private final int[] surroundedIndexBuffer = new int[MAX_SURROUNDED_COUNT];
+    private final int[] nearbyRegionBuffer = new int[MAX_SURROUNDED_COUNT];
+    private int[] regionStarts = new int[ONE];
+    private int[] regionCells = new int[ZERO];
+
+    public ZeroRegionIndex(PackedCells cells) {
+        this.cells = cells;
+        this.regionOfCell = new int[cells.size()];
+    }
+
+    public void rebuild() {
+        unionEmptyCells();
+        int regionCount = assignRegionIds();
+        collectRegionCells(regionCount);
+    }
+
+    public boolean hasRegion(int index) {
+        return regionOfCell[index] != NO_REGION;
+    }
+
+    // 빈 셀이 속한 영역 전체를 열고, 새로 연 셀의 개수를 반환한다.
+    public int reveal(int index) {
+        if (cells.isOpened(index)) {
+            return ZERO;
+        }
+
+        int region = regionOfCell[index];
+        int openedCount = ZERO;
+        for (int i = regionStarts[region]; i < regionStarts[region + ONE]; i++) {
+            int regionCell = regionCells[i];
+            if (!cells.isOpened(regionCell)) {
+                cells.open(regionCell);
+                openedCount++;
+            }
+        }
+        return openedCount;
+    }
+
+    private void unionEmptyCells() {
+        for (int index = ZERO; index < regionOfCell.length; index++) {
+            regionOfCell[index] = isEmptyCell(index) ? index : NO_REGION;
+        }
+
+        for (int index = ZERO; index < regionOfCell.length; index++) {
+            if (regionOfCell[index] == NO_REGION) {
+                continue;
+            }
+            int surroundedCount = cells.collectSurroundedIndexes(index, surroundedIndexBuffer);
+            for (int i = ZERO; i < surroundedCount; i++) {
+                int surroundedIndex = surroundedIndexBuffer[i];
+                if (surroundedIndex > index && regionOfCell[surroundedIndex] != NO_REGION) {
+                    union(index, surroundedIndex);
+                }
+            }
+        }
+    }
+
+    private void union(int index, int otherIndex) {
+        int root = find(index);
+        int otherRoot = find(otherIndex);
+        if (root != otherRoot) {
+            regionOfCell[Math.max(root, otherRoot)] = Math.min(root, otherRoot);
+        }
+    }
+
+    private int find(int index) {
+        while (regionOfCell[index] != index) {
+            regionOfCell[index] = regionOfCell[regionOfCell[index]];
+            index = regionOfCell[index];
+        }
+        return index;
+    }
+
+    // union-find 의 부모 배열을 그대로 재사용해 루트마다 0부터 시작하는 영역 번호를 매긴다.
+    private int assignRegionIds() {
+        for (int index = ZERO; index < regionOfCell.length; index++) {
+            if (regionOfCell[index] != NO_REGION) {
+                regionOfCell[index] = find(index);
+            }
+        }
+
+        int regionCount = ZERO;
+        for (int index = ZERO; index < regionOfCell.length; index++) {
+            if (regionOfCell[index] == index) {
+                regionOfCell[index] = ROOT_CODE_OFFSET - regionCount++;
+            }
+        }
+
+        for (int index = ZERO; index < regionOfCell.length; index++) {
+            if (regionOfCell[index] >= ZERO) {
+                regionOfCell[index] = regionOfCell[regionOfCell[index]];
+            }
+        }
+
+        for (int index = ZERO; index < regionOfCell.length; index++) {
+            if (regionOfCell[index] <= ROOT_CODE_OFFSET) {
+                regionOfCell[index] = ROOT_CODE_OFFSET - regionOfCell[index];
+            }
+        }
+        return regionCount;
+    }
+
+    private void collectRegionCells(int regionCount) {
+        int[] regionCursors = new int[regionCount];
+        for (int index = ZERO; index < regionOfCell.length; index++) {
+            int regionCountOfCell = collectRegionsOf(index);
+            for (int i = ZERO; i < regionCountOfCell; i++) {
+                regionCursors[nearbyRegionBuffer[i]]++;
+            }
+        }
+
+        regionStarts = regionStarts.length > regionCount ? regionStarts : new int[regionCount + ONE];
+        for (int region = ZERO; region < regionCount; region++) {
+            regionStarts[region + ONE] = regionStarts[region] + regionCursors[region];
+            regionCursors[region] = regionStarts[region];
+        }
+
+        int totalSize = regionStarts[regionCount];
+        regionCells = regionCells.length >= totalSize ? regionCells : new int[totalSize];
+        for (int index = ZERO; index < regionOfCell.length; index++) {
+            int regionCountOfCell = collectRegionsOf(index);
+            for (int i = ZERO; i < regionCountOfCell; i++) {
+                regionCells[regionCursors[nearbyRegionBuffer[i]]++] = index;
+            }
+        }
+    }
+
+    // 빈 셀은 자신의 영역 하나에, 숫자 셀은 맞닿은 서로 다른 영역마다 한 번씩 속한다.
+    private int collectRegionsOf(int index) {
+        if (regionOfCell[index] != NO_REGION) {
+            nearbyRegionBuffer[ZERO] = regionOfCell[index];
+            return ONE;
+        }
+        if (cells.isLandMine(index)) {
+            return ZERO;
+        }
+
+        int nearbyRegionCount = ZERO;
+        int surroundedCount = cells.collectSurroundedIndexes(index, surroundedIndexBuffer);
+        for (int i = ZERO; i < surroundedCount; i++) {
+            int region = regionOfCell[surroundedIndexBuffer[i]];
+            if (region != NO_REGION && !contains(nearbyRegionBuffer, nearbyRegionCount, region)) {
+                nearbyRegionBuffer[nearbyRegionCount++] = region;
+            }
+        }
+        return nearbyRegionCount;
+    }
+
+    private boolean isEmptyCell(int index) {
+        return !cells.isLandMine(index) && !cells.hasLandMineCount(index);
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        for (int i = ZERO; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
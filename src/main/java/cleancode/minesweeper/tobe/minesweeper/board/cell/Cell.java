@@ -1,17 +0,0 @@
-package cleancode.minesweeper.tobe.minesweeper.board.cell;
-
-public interface Cell {
-    boolean isLandMine();
-
-    boolean hasLandMineCount();
-
-    CellSnapshot getSnapshot();
-
-    void flag();
-
-    void open();
-
-    boolean isChecked();
-
-    boolean isOpened();
-}
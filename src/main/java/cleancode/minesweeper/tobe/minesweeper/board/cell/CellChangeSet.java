@@ -0,0 +1,96 @@
+package cleancode.minesweeper.tobe.minesweeper.board.cell;
+
+import java.util.Arrays;
+
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+한 수로 화면에 보이는 상태가 바뀐 셀들의 목록. 바뀐 순서대로 셀 인덱스와 바뀐 뒤의 셀 코드(CellSnapshot.ofCode 로 되돌릴 수 있다)를 담는다.
+셀마다 객체를 만들지 않도록 int/byte 배열 두 개를 계속 재사용하며, 내용은 PackedCells 만 바꿀 수 있다.
+큰 보드에서 한 수로 보드 대부분이 열려도 보드 크기만큼 자라지 않도록 MAX_SIZE 개까지만 담는다.
+넘친 뒤의 변경은 버리고 isTruncated 로 알리므로, 호출한 쪽은 GameBoard.writeSnapshotCodes 로 보드를 다시 읽어야 한다.
+MAX_RETAINED_CAPACITY 를 넘게 자란 배열은 clear 할 때 처음 크기로 되돌린다.
+ */
+public class CellChangeSet {
+
+    public static final int MAX_SIZE = 4096;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_RETAINED_CAPACITY = 256;
+
+    private final int colSize;
+    private int[] indexes = new int[INITIAL_CAPACITY];
+    private byte[] codes = new byte[INITIAL_CAPACITY];
+    private int size;
+    private boolean truncated;
+
+    CellChangeSet(int colSize) {
+        this.colSize = colSize;
+    }
+
+    // 상태 변경
+    void clear() {
+        size = ZERO;
+        truncated = false;
+        if (indexes.length > MAX_RETAINED_CAPACITY) {
+            indexes = new int[INITIAL_CAPACITY];
+            codes = new byte[INITIAL_CAPACITY];
+        }
+    }
+
+    void add(int index, int code) {
+        if (size == MAX_SIZE) {
+            truncated = true;
+            return;
+        }
+        if (size == indexes.length) {
+            indexes = Arrays.copyOf(indexes, size * 2);
+            codes = Arrays.copyOf(codes, size * 2);
+        }
+        indexes[size] = index;
+        codes[size] = (byte) code;
+        size++;
+    }
+
+    // 판별
+    public boolean isEmpty() {
+        return size == ZERO;
+    }
+
+    // true 면 MAX_SIZE 를 넘어 빠진 변경이 있다.
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    // 조회
+    public int size() {
+        return size;
+    }
+
+    public int getIndex(int i) {
+        return indexes[checkedIndex(i)];
+    }
+
+    public int getRowIndex(int i) {
+        return getIndex(i) / colSize;
+    }
+
+    public int getColIndex(int i) {
+        return getIndex(i) % colSize;
+    }
+
+    public int getCode(int i) {
+        return codes[checkedIndex(i)];
+    }
+
+    public CellSnapshot getSnapshot(int i) {
+        return CellSnapshot.ofCode(getCode(i));
+    }
+
+    private int checkedIndex(int i) {
+        if (i < ZERO || i >= size) {
+            throw new IllegalArgumentException("변경 목록의 범위를 벗어났습니다.");
+        }
+        return i;
+    }
+
+}
@@ -4,37 +4,108 @@ import java.util.Objects;
 
 import static cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus.*;
 
+/*
+CellSnapshot 은 불변이므로 상태별로 하나(숫자 셀은 주변 지뢰 수 1~8 마다 하나)만 만들어 두고 공유한다.
+보드 전체를 그려도 스냅샷 객체를 새로 만들지 않는다.
+
+스냅샷마다 0 ~ 11 사이의 코드가 하나씩 붙어 있어, 객체 대신 byte 하나로 주고받을 수 있다.
+0 은 빈 셀, 1 ~ 8 은 숫자 셀, 9 는 미확인, 10 은 깃발, 11 은 지뢰다.
+ */
 public class CellSnapshot {
+
+    public static final int MAX_NEARBY_LAND_MINE_COUNT = 8;
+
+    public static final int EMPTY_CODE = 0;
+    public static final int UNCHECKED_CODE = 9;
+    public static final int FLAG_CODE = 10;
+    public static final int LAND_MINE_CODE = 11;
+    public static final int CODE_COUNT = 12;
+
+    private static final CellSnapshot EMPTY_SNAPSHOT = new CellSnapshot(EMPTY, 0, EMPTY_CODE);
+    private static final CellSnapshot FLAG_SNAPSHOT = new CellSnapshot(FLAG, 0, FLAG_CODE);
+    private static final CellSnapshot LAND_MINE_SNAPSHOT = new CellSnapshot(LAND_MINE, 0, LAND_MINE_CODE);
+    private static final CellSnapshot UNCHECKED_SNAPSHOT = new CellSnapshot(UNCHECKED, 0, UNCHECKED_CODE);
+    private static final CellSnapshot[] NUMBER_SNAPSHOTS = createNumberSnapshots();
+    private static final CellSnapshot[] SNAPSHOTS_BY_CODE = createSnapshotsByCode();
+
     private final CellSnapshotStatus status;
     private final int nearbyLandMineCount;
+    private final int code;
 
-    private CellSnapshot(CellSnapshotStatus status, int nearbyLandMineCount) {
+    private CellSnapshot(CellSnapshotStatus status, int nearbyLandMineCount, int code) {
         this.status = status;
         this.nearbyLandMineCount = nearbyLandMineCount;
+        this.code = code;
     }
 
+    // 공유 스냅샷 중 하나를 돌려주므로 만들 수 있는 조합만 받는다. 숫자 셀은 주변 지뢰 수가 1 ~ 8, 나머지 상태는 0 이어야 한다.
     public static CellSnapshot of(CellSnapshotStatus status, int nearbyLandMineCount) {
-        return new CellSnapshot(status, nearbyLandMineCount);
+        if (status != NUMBER && nearbyLandMineCount != 0) {
+            throw new IllegalArgumentException("숫자 셀이 아니면 주변 지뢰 수는 0 이어야 합니다.");
+        }
+        return switch (status) {
+            case EMPTY -> ofEmpty();
+            case FLAG -> ofFlag();
+            case LAND_MINE -> ofLandMine();
+            case NUMBER -> ofNumber(nearbyLandMineCount);
+            case UNCHECKED -> ofUnchecked();
+        };
     }
 
     public static CellSnapshot ofEmpty() {
-        return new CellSnapshot(EMPTY, 0);
+        return EMPTY_SNAPSHOT;
     }
 
     public static CellSnapshot ofFlag() {
-        return new CellSnapshot(FLAG, 0);
+        return FLAG_SNAPSHOT;
     }
 
     public static CellSnapshot ofLandMine() {
-        return new CellSnapshot(LAND_MINE, 0);
+        return LAND_MINE_SNAPSHOT;
     }
 
     public static CellSnapshot ofNumber(int nearbyLandMineCount) {
-        return new CellSnapshot(NUMBER, nearbyLandMineCount);
+        if (nearbyLandMineCount < 1 || nearbyLandMineCount > MAX_NEARBY_LAND_MINE_COUNT) {
+            throw new IllegalArgumentException("주변 지뢰 수는 1 ~ 8 사이여야 합니다.");
+        }
+        return NUMBER_SNAPSHOTS[nearbyLandMineCount];
     }
 
     public static CellSnapshot ofUnchecked() {
-        return new CellSnapshot(UNCHECKED, 0);
+        return UNCHECKED_SNAPSHOT;
+    }
+
+    public static CellSnapshot ofCode(int code) {
+        if (code < EMPTY_CODE || code >= CODE_COUNT) {
+            throw new IllegalArgumentException("확인할 수 없는 셀 코드입니다.");
+        }
+        return SNAPSHOTS_BY_CODE[code];
+    }
+
+    private static CellSnapshot[] createNumberSnapshots() {
+        CellSnapshot[] numberSnapshots = new CellSnapshot[MAX_NEARBY_LAND_MINE_COUNT + 1];
+        for (int count = 1; count <= MAX_NEARBY_LAND_MINE_COUNT; count++) {
+            numberSnapshots[count] = new CellSnapshot(NUMBER, count, count);
+        }
+        return numberSnapshots;
+    }
+
+    private static CellSnapshot[] createSnapshotsByCode() {
+        CellSnapshot[] snapshotsByCode = new CellSnapshot[CODE_COUNT];
+        snapshotsByCode[EMPTY_CODE] = EMPTY_SNAPSHOT;
+        System.arraycopy(NUMBER_SNAPSHOTS, 1, snapshotsByCode, 1, MAX_NEARBY_LAND_MINE_COUNT);
+        snapshotsByCode[UNCHECKED_CODE] = UNCHECKED_SNAPSHOT;
+        snapshotsByCode[FLAG_CODE] = FLAG_SNAPSHOT;
+        snapshotsByCode[LAND_MINE_CODE] = LAND_MINE_SNAPSHOT;
+        return snapshotsByCode;
+    }
+
+    public CellSnapshotStatus getStatus() {
+        return status;
+    }
+
+    public int getCode() {
+        return code;
     }
 
     public boolean isSameStatus(CellSnapshotStatus status) {
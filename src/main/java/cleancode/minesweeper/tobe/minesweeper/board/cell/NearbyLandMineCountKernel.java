@@ -0,0 +1,11 @@
+package cleancode.minesweeper.tobe.minesweeper.board.cell;
+
+/*
+지뢰가 모두 심어진 PackedCells 에서 [fromRow, toRow) 행의 주변 지뢰 수를 계산해 채운다.
+계산하는 행의 숫자 비트만 쓰고 위아래 행은 지뢰 비트만 읽으므로, 겹치지 않는 행 묶음은 동시에 계산해도 된다.
+ */
+public interface NearbyLandMineCountKernel {
+
+    void countRows(PackedCells cells, int fromRow, int toRow);
+
+}
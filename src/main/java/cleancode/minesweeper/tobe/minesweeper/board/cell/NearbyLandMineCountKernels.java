@@ -0,0 +1,46 @@
+package cleancode.minesweeper.tobe.minesweeper.board.cell;
+
+/*
+사용할 수 있는 가장 빠른 NearbyLandMineCountKernel 을 고른다.
+jdk.incubator.vector 모듈은 --add-modules jdk.incubator.vector 로 JVM 을 띄웠을 때만 쓸 수 있으므로,
+모듈이 없으면 벡터 커널 클래스를 아예 불러오지 않고 스칼라 커널을 사용한다.
+ */
+public class NearbyLandMineCountKernels {
+
+    private static final String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL_CLASS_NAME = NearbyLandMineCountKernels.class.getPackageName()
+            + ".VectorNearbyLandMineCountKernel";
+
+    private static final NearbyLandMineCountKernel SCALAR_KERNEL = new ScalarNearbyLandMineCountKernel();
+    private static final NearbyLandMineCountKernel BEST_KERNEL = findBestKernel();
+
+    private NearbyLandMineCountKernels() {
+    }
+
+    public static NearbyLandMineCountKernel scalar() {
+        return SCALAR_KERNEL;
+    }
+
+    public static NearbyLandMineCountKernel best() {
+        return BEST_KERNEL;
+    }
+
+    public static boolean isVectorKernelAvailable() {
+        return BEST_KERNEL != SCALAR_KERNEL;
+    }
+
+    private static NearbyLandMineCountKernel findBestKernel() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE_NAME).isEmpty()) {
+            return SCALAR_KERNEL;
+        }
+
+        try {
+            return (NearbyLandMineCountKernel) Class.forName(VECTOR_KERNEL_CLASS_NAME)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR_KERNEL;
+        }
+    }
+
+}
@@ -0,0 +1,424 @@
+package cleancode.minesweeper.tobe.minesweeper.board.cell;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+셀 하나를 byte 하나로 표현한다.
+하위 4비트는 주변 지뢰 수(0~8), 상위 비트는 지뢰/열림/깃발 여부를 나타낸다.
+좌표는 row * colSize + col 형태의 평탄화된 인덱스로 다룬다.
+승리 판별을 위해 열린 안전 셀 수와 깃발이 꽂힌 지뢰 수를 상태가 바뀔 때마다 함께 센다.
+밖으로 보이는 상태는 byte 값마다 미리 계산해 둔 CellSnapshot 코드 표로 바로 바꾼다.
+보이는 코드가 바뀌는 open/flag 는 CellChangeSet 에 기록한다. 기록은 clearChanges 를 부를 때까지 CellChangeSet.MAX_SIZE 개까지 쌓인다.
+저장할 때는 셀마다 지뢰/열림/깃발 비트만 4비트로 묶는다(writePackedStates). 주변 지뢰 수는 지뢰 비트로 다시 셀 수 있다.
+ */
+public class PackedCells {
+
+    static final int NEARBY_LAND_MINE_COUNT_MASK = 0b0000_1111;
+    static final int LAND_MINE_BIT = 0b0001_0000;
+    static final int LAND_MINE_SHIFT = 4;
+    private static final int OPENED_BIT = 0b0010_0000;
+    private static final int FLAGGED_BIT = 0b0100_0000;
+    private static final int CELL_VALUE_COUNT = 0b1000_0000;
+    private static final int STATE_MASK = 0b0111;
+    private static final int NIBBLE_MASK = 0b1111;
+    private static final int STATE_BITS = 4;
+    private static final int STATES_PER_LONG = Long.SIZE / STATE_BITS;
+    private static final int STATES_PER_BYTE = Byte.SIZE / STATE_BITS;
+    private static final long RESERVED_STATE_BITS = 0x8888_8888_8888_8888L;
+    // cells 를 long 하나에 8셀씩 읽고 쓴다. 바이트 k 가 셀 index + k 다.
+    private static final VarHandle CELLS_AS_LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final int CELLS_PER_LONG = Long.BYTES;
+    private static final long LAND_MINE_BITS = 0x1010_1010_1010_1010L;
+    private static final long OPENED_BITS = 0x2020_2020_2020_2020L;
+    private static final long FLAGGED_BITS = 0x4040_4040_4040_4040L;
+    private static final byte[] VISIBLE_CODES = createVisibleCodes();
+
+    private final int rowSize;
+    private final int colSize;
+    private final byte[] cells;
+    private final SurroundedIndexes surroundedIndexes;
+    private final CellChangeSet changes;
+    private int landMineCount;
+    private int openedSafeCellCount;
+    private int flaggedLandMineCount;
+
+    private PackedCells(int rowSize, int colSize) {
+        this.rowSize = rowSize;
+        this.colSize = colSize;
+        this.cells = new byte[rowSize * colSize];
+        this.surroundedIndexes = SurroundedIndexes.of(rowSize, colSize);
+        this.changes = new CellChangeSet(colSize);
+    }
+
+    public static PackedCells of(int rowSize, int colSize) {
+        if (rowSize <= ZERO || colSize <= ZERO || (long) rowSize * colSize > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("지원하지 않는 보드 크기입니다.");
+        }
+        return new PackedCells(rowSize, colSize);
+    }
+
+    public int getRowSize() {
+        return rowSize;
+    }
+
+    public int getColSize() {
+        return colSize;
+    }
+
+    public int size() {
+        return cells.length;
+    }
+
+    public int indexOf(int rowIndex, int colIndex) {
+        if (rowIndex < ZERO || rowIndex >= rowSize || colIndex < ZERO || colIndex >= colSize) {
+            throw new IllegalArgumentException("올바르지 않은 좌표입니다.");
+        }
+        return rowIndex * colSize + colIndex;
+    }
+
+    public int rowOf(int index) {
+        return index / colSize;
+    }
+
+    public int colOf(int index) {
+        return index % colSize;
+    }
+
+    public int collectSurroundedIndexes(int index, int[] buffer) {
+        return surroundedIndexes.collect(index, buffer);
+    }
+
+    // 행 단위 커널(NearbyLandMineCountKernel)이 배열을 직접 훑을 수 있도록 같은 패키지에만 열어 둔다.
+    byte[] bytes() {
+        return cells;
+    }
+
+    // 상태 변경
+    public void clear() {
+        Arrays.fill(cells, (byte) ZERO);
+        changes.clear();
+        landMineCount = ZERO;
+        openedSafeCellCount = ZERO;
+        flaggedLandMineCount = ZERO;
+    }
+
+    // 지뢰 배치와 주변 지뢰 수는 그대로 두고 열림/깃발 상태만 처음으로 되돌린다.
+    public void resetCellStates() {
+        for (int index = ZERO; index < cells.length; index++) {
+            cells[index] &= LAND_MINE_BIT | NEARBY_LAND_MINE_COUNT_MASK;
+        }
+        changes.clear();
+        openedSafeCellCount = ZERO;
+        flaggedLandMineCount = ZERO;
+    }
+
+    // 같은 크기의 다른 보드에서 지뢰 배치와 주변 지뢰 수만 가져온다. 열림/깃발 상태는 그대로 둔다.
+    public void copyLandMinesFrom(PackedCells source) {
+        if (source.rowSize != rowSize || source.colSize != colSize) {
+            throw new IllegalArgumentException("보드의 크기가 다릅니다.");
+        }
+
+        openedSafeCellCount = ZERO;
+        flaggedLandMineCount = ZERO;
+        for (int index = ZERO; index < cells.length; index++) {
+            cells[index] = (byte) ((cells[index] & (OPENED_BIT | FLAGGED_BIT))
+                    | (source.cells[index] & (LAND_MINE_BIT | NEARBY_LAND_MINE_COUNT_MASK)));
+            if (isOpened(index) && !isLandMine(index)) {
+                openedSafeCellCount++;
+            }
+            if (isFlagged(index) && isLandMine(index)) {
+                flaggedLandMineCount++;
+            }
+        }
+        landMineCount = source.landMineCount;
+    }
+
+    public void plantLandMine(int index) {
+        if (isLandMine(index)) {
+            return;
+        }
+        cells[index] |= LAND_MINE_BIT;
+        landMineCount++;
+        if (isFlagged(index)) {
+            flaggedLandMineCount++;
+        }
+    }
+
+    public void removeLandMine(int index) {
+        if (!isLandMine(index)) {
+            return;
+        }
+        cells[index] &= ~LAND_MINE_BIT;
+        landMineCount--;
+        if (isFlagged(index)) {
+            flaggedLandMineCount--;
+        }
+    }
+
+    public void updateNearbyLandMineCount(int index, int nearbyLandMineCount) {
+        cells[index] = (byte) ((cells[index] & ~NEARBY_LAND_MINE_COUNT_MASK) | nearbyLandMineCount);
+    }
+
+    public void increaseNearbyLandMineCount(int index) {
+        cells[index]++;
+    }
+
+    public void decreaseNearbyLandMineCount(int index) {
+        cells[index]--;
+    }
+
+    public void flag(int index) {
+        if (isFlagged(index)) {
+            return;
+        }
+        cells[index] |= FLAGGED_BIT;
+        if (isLandMine(index)) {
+            flaggedLandMineCount++;
+        }
+        // 이미 열린 셀은 깃발을 꽂아도 보이는 코드가 그대로다.
+        if (!isOpened(index)) {
+            changes.add(index, CellSnapshot.FLAG_CODE);
+        }
+    }
+
+    public void open(int index) {
+        if (isOpened(index)) {
+            return;
+        }
+        cells[index] |= OPENED_BIT;
+        if (!isLandMine(index)) {
+            openedSafeCellCount++;
+        }
+        changes.add(index, getVisibleCode(index));
+    }
+
+    public void clearChanges() {
+        changes.clear();
+    }
+
+    // writeTo 로 옮긴 셀 byte 를 그대로 되돌리고, 지뢰 수와 승리 판별용 수를 다시 센다.
+    public void readFrom(ByteBuffer source) {
+        if (source.remaining() < cells.length) {
+            throw new IllegalArgumentException("셀 상태가 부족합니다.");
+        }
+        source.get(cells);
+        for (byte cell : cells) {
+            if (cell < ZERO) {
+                throw new IllegalArgumentException("올바르지 않은 셀 값입니다.");
+            }
+        }
+        recountCells();
+    }
+
+    // writePackedStates 로 묶은 셀 상태를 되돌린다. 주변 지뢰 수는 모두 0 이 되므로 다시 세어야 한다.
+    public void readPackedStates(ByteBuffer source) {
+        int stateSize = getPackedStateSize();
+        if (source.remaining() < stateSize) {
+            throw new IllegalArgumentException("셀 상태가 부족합니다.");
+        }
+        ByteBuffer states = source.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int index = ZERO;
+        for (; index + STATES_PER_LONG <= cells.length; index += STATES_PER_LONG) {
+            long packed = states.getLong(index / STATES_PER_BYTE);
+            if ((packed & RESERVED_STATE_BITS) != ZERO) {
+                throw new IllegalArgumentException("올바르지 않은 셀 값입니다.");
+            }
+            CELLS_AS_LONGS.set(cells, index, unpackStates(packed));
+            CELLS_AS_LONGS.set(cells, index + CELLS_PER_LONG, unpackStates(packed >>> Integer.SIZE));
+        }
+        for (; index < cells.length; index++) {
+            int state = states.get(index / STATES_PER_BYTE) >>> (index % STATES_PER_BYTE * STATE_BITS) & NIBBLE_MASK;
+            if ((state & ~STATE_MASK) != ZERO) {
+                throw new IllegalArgumentException("올바르지 않은 셀 값입니다.");
+            }
+            cells[index] = cellOf(state);
+        }
+        source.position(source.position() + stateSize);
+        recountCells();
+    }
+
+    private void recountCells() {
+        changes.clear();
+        landMineCount = ZERO;
+        openedSafeCellCount = ZERO;
+        flaggedLandMineCount = ZERO;
+        int index = ZERO;
+        for (; index + CELLS_PER_LONG <= cells.length; index += CELLS_PER_LONG) {
+            long values = (long) CELLS_AS_LONGS.get(cells, index);
+            landMineCount += Long.bitCount(values & LAND_MINE_BITS);
+            openedSafeCellCount += Long.bitCount(values & OPENED_BITS & ~(values << 1));
+            flaggedLandMineCount += Long.bitCount(values & FLAGGED_BITS & values << 2);
+        }
+        for (; index < cells.length; index++) {
+            if (isLandMine(index)) {
+                landMineCount++;
+            }
+            if (isOpened(index) && !isLandMine(index)) {
+                openedSafeCellCount++;
+            }
+            if (isFlagged(index) && isLandMine(index)) {
+                flaggedLandMineCount++;
+            }
+        }
+    }
+
+    // 판별
+    public boolean isLandMine(int index) {
+        return (cells[index] & LAND_MINE_BIT) != ZERO;
+    }
+
+    public boolean hasLandMineCount(int index) {
+        return !isLandMine(index) && getNearbyLandMineCount(index) != ZERO;
+    }
+
+    public boolean isOpened(int index) {
+        return (cells[index] & OPENED_BIT) != ZERO;
+    }
+
+    public boolean isFlagged(int index) {
+        return (cells[index] & FLAGGED_BIT) != ZERO;
+    }
+
+    public boolean isChecked(int index) {
+        if (isLandMine(index)) {
+            return isFlagged(index);
+        }
+        return isOpened(index);
+    }
+
+    public boolean isAllChecked() {
+        return openedSafeCellCount == cells.length - landMineCount
+                && flaggedLandMineCount == landMineCount;
+    }
+
+    // 조회
+    public int getLandMineCount() {
+        return landMineCount;
+    }
+
+    public int getNearbyLandMineCount(int index) {
+        return cells[index] & NEARBY_LAND_MINE_COUNT_MASK;
+    }
+
+    // 마지막 clearChanges 뒤로 보이는 코드가 바뀐 셀들. 같은 인스턴스를 계속 재사용한다.
+    public CellChangeSet getChanges() {
+        return changes;
+    }
+
+    public CellSnapshot getSnapshot(int index) {
+        return CellSnapshot.ofCode(getVisibleCode(index));
+    }
+
+    public int getVisibleCode(int index) {
+        return VISIBLE_CODES[cells[index]];
+    }
+
+    public void writeTo(ByteBuffer destination) {
+        destination.put(cells);
+    }
+
+    // 셀마다 지뢰/열림/깃발 비트를 4비트로 묶어 getPackedStateSize() 바이트를 쓴다. byte 하나에 두 셀이 들어가고 앞 셀이 하위 4비트다.
+    public void writePackedStates(ByteBuffer destination) {
+        int stateSize = getPackedStateSize();
+        if (destination.remaining() < stateSize) {
+            throw new IllegalArgumentException("셀 상태를 담을 공간이 부족합니다.");
+        }
+        ByteBuffer states = destination.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int index = ZERO;
+        for (; index + STATES_PER_LONG <= cells.length; index += STATES_PER_LONG) {
+            long low = packStates((long) CELLS_AS_LONGS.get(cells, index));
+            long high = packStates((long) CELLS_AS_LONGS.get(cells, index + CELLS_PER_LONG));
+            states.putLong(index / STATES_PER_BYTE, low | high << Integer.SIZE);
+        }
+        for (; index < cells.length; index += STATES_PER_BYTE) {
+            int packed = stateOf(cells[index]);
+            if (index + ONE < cells.length) {
+                packed |= stateOf(cells[index + ONE]) << STATE_BITS;
+            }
+            states.put(index / STATES_PER_BYTE, (byte) packed);
+        }
+        destination.position(destination.position() + stateSize);
+    }
+
+    public int getPackedStateSize() {
+        return (cells.length + STATES_PER_BYTE - ONE) / STATES_PER_BYTE;
+    }
+
+    // (rowIndex, colIndex) 부터 rowCount x colCount 영역의 코드를 행 순서대로 destination[offset] 부터 채운다.
+    public void writeVisibleCodes(int rowIndex, int colIndex, int rowCount, int colCount, byte[] destination, int offset) {
+        int start = rowIndex * colSize + colIndex;
+        for (int row = ZERO; row < rowCount; row++) {
+            int rowStart = start + row * colSize;
+            int destinationStart = offset + row * colCount;
+            for (int col = ZERO; col < colCount; col++) {
+                destination[destinationStart + col] = VISIBLE_CODES[cells[rowStart + col]];
+            }
+        }
+    }
+
+    public void writeVisibleCodes(int rowIndex, int colIndex, int rowCount, int colCount, ByteBuffer destination) {
+        int start = rowIndex * colSize + colIndex;
+        for (int row = ZERO; row < rowCount; row++) {
+            int rowStart = start + row * colSize;
+            for (int col = ZERO; col < colCount; col++) {
+                destination.put(VISIBLE_CODES[cells[rowStart + col]]);
+            }
+        }
+    }
+
+    private static int stateOf(byte cell) {
+        return cell >> LAND_MINE_SHIFT & STATE_MASK;
+    }
+
+    // 8셀의 상태 비트를 하위 32비트에 4비트씩 모은다. unpackStates 의 반대.
+    private static long packStates(long values) {
+        long states = values >>> LAND_MINE_SHIFT & 0x0707_0707_0707_0707L;
+        states = (states | states >>> 4) & 0x00FF_00FF_00FF_00FFL;
+        states = (states | states >>> 8) & 0x0000_FFFF_0000_FFFFL;
+        return (states | states >>> 16) & 0xFFFF_FFFFL;
+    }
+
+    // 하위 32비트의 4비트 상태 8개를 바이트마다 하나씩 펼쳐 셀 값으로 만든다. 주변 지뢰 수는 0 이다.
+    private static long unpackStates(long states) {
+        long values = states & 0xFFFF_FFFFL;
+        values = (values | values << 16) & 0x0000_FFFF_0000_FFFFL;
+        values = (values | values << 8) & 0x00FF_00FF_00FF_00FFL;
+        values = (values | values << 4) & 0x0F0F_0F0F_0F0F_0F0FL;
+        return values << LAND_MINE_SHIFT;
+    }
+
+    private static byte cellOf(int state) {
+        return (byte) ((state & STATE_MASK) << LAND_MINE_SHIFT);
+    }
+
+    private static byte[] createVisibleCodes() {
+        byte[] visibleCodes = new byte[CELL_VALUE_COUNT];
+        for (int value = ZERO; value < CELL_VALUE_COUNT; value++) {
+            visibleCodes[value] = (byte) visibleCodeOf(value);
+        }
+        return visibleCodes;
+    }
+
+    private static int visibleCodeOf(int value) {
+        if ((value & OPENED_BIT) != ZERO) {
+            if ((value & LAND_MINE_BIT) != ZERO) {
+                return CellSnapshot.LAND_MINE_CODE;
+            }
+            return Math.min(value & NEARBY_LAND_MINE_COUNT_MASK, CellSnapshot.MAX_NEARBY_LAND_MINE_COUNT);
+        }
+        if ((value & FLAGGED_BIT) != ZERO) {
+            return CellSnapshot.FLAG_CODE;
+        }
+        return CellSnapshot.UNCHECKED_CODE;
+    }
+
+}
@@ -0,0 +1,73 @@
+package cleancode.minesweeper.tobe.minesweeper.board.cell;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+import static cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells.LAND_MINE_BIT;
+import static cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells.LAND_MINE_SHIFT;
+import static cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells.NEARBY_LAND_MINE_COUNT_MASK;
+
+/*
+세로 3칸의 지뢰 수를 열마다 구해 두고, 가로 3칸씩 더해 가며 셀의 주변 지뢰 수를 구한다.
+ */
+public class ScalarNearbyLandMineCountKernel implements NearbyLandMineCountKernel {
+
+    @Override
+    public void countRows(PackedCells cells, int fromRow, int toRow) {
+        byte[] bytes = cells.bytes();
+        int rowSize = cells.getRowSize();
+        int colSize = cells.getColSize();
+        int[] verticalCounts = new int[colSize];
+
+        for (int row = fromRow; row < toRow; row++) {
+            for (int col = ZERO; col < colSize; col++) {
+                verticalCounts[col] = countLandMinesInColumnAround(bytes, rowSize, colSize, row, col);
+            }
+
+            int rowStart = row * colSize;
+            for (int col = ZERO; col < colSize; col++) {
+                int count = verticalCounts[col];
+                if (col > ZERO) {
+                    count += verticalCounts[col - ONE];
+                }
+                if (col < colSize - ONE) {
+                    count += verticalCounts[col + ONE];
+                }
+                updateCount(bytes, rowStart + col, count);
+            }
+        }
+    }
+
+    // 벡터 커널이 행의 양 끝처럼 한 번에 처리하지 못한 셀을 계산할 때도 사용한다.
+    static void countCell(byte[] bytes, int rowSize, int colSize, int row, int col) {
+        int count = ZERO;
+        for (int surroundedCol = Math.max(ZERO, col - ONE); surroundedCol <= Math.min(colSize - ONE, col + ONE); surroundedCol++) {
+            count += countLandMinesInColumnAround(bytes, rowSize, colSize, row, surroundedCol);
+        }
+        updateCount(bytes, row * colSize + col, count);
+    }
+
+    private static int countLandMinesInColumnAround(byte[] bytes, int rowSize, int colSize, int row, int col) {
+        int index = row * colSize + col;
+        int count = landMineBitOf(bytes[index]);
+        if (row > ZERO) {
+            count += landMineBitOf(bytes[index - colSize]);
+        }
+        if (row < rowSize - ONE) {
+            count += landMineBitOf(bytes[index + colSize]);
+        }
+        return count;
+    }
+
+    private static int landMineBitOf(byte value) {
+        return (value >> LAND_MINE_SHIFT) & ONE;
+    }
+
+    // 지뢰 셀은 숫자를 갖지 않는다. 지뢰가 아닌 셀은 자기 자신이 세어지지 않으므로 3x3 합이 곧 주변 지뢰 수다.
+    private static void updateCount(byte[] bytes, int index, int count) {
+        if ((bytes[index] & LAND_MINE_BIT) != ZERO) {
+            return;
+        }
+        bytes[index] = (byte) ((bytes[index] & ~NEARBY_LAND_MINE_COUNT_MASK) | count);
+    }
+
+}
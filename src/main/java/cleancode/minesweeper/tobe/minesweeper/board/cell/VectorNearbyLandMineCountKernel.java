@@ -0,0 +1,76 @@
+package cleancode.minesweeper.tobe.minesweeper.board.cell;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+import static cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells.LAND_MINE_BIT;
+import static cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells.LAND_MINE_SHIFT;
+import static cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells.NEARBY_LAND_MINE_COUNT_MASK;
+
+/*
+jdk.incubator.vector 로 한 행의 셀 여러 개(레인 수만큼)를 한 번에 계산하는 3x3 합성곱 커널.
+셀 바이트를 그대로 읽어 지뢰 비트만 뽑은 뒤, 위/가운데/아래 행을 왼쪽/가운데/오른쪽으로 한 칸씩 밀어 읽어 더한다.
+행의 양 끝 열과 레인 수로 나누어떨어지지 않는 나머지는 스칼라 커널과 같은 방법으로 계산한다.
+이 클래스는 모듈이 켜져 있을 때만 NearbyLandMineCountKernels 가 불러온다.
+ */
+public class VectorNearbyLandMineCountKernel implements NearbyLandMineCountKernel {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    public void countRows(PackedCells cells, int fromRow, int toRow) {
+        byte[] bytes = cells.bytes();
+        int rowSize = cells.getRowSize();
+        int colSize = cells.getColSize();
+        int laneCount = SPECIES.length();
+
+        for (int row = fromRow; row < toRow; row++) {
+            int rowStart = row * colSize;
+            boolean hasUpperRow = row > ZERO;
+            boolean hasLowerRow = row < rowSize - ONE;
+
+            ScalarNearbyLandMineCountKernel.countCell(bytes, rowSize, colSize, row, ZERO);
+
+            int col = ONE;
+            for (; col + laneCount <= colSize - ONE; col += laneCount) {
+                int index = rowStart + col;
+                ByteVector count = sumLandMinesInRow(bytes, index);
+                if (hasUpperRow) {
+                    count = count.add(sumLandMinesInRow(bytes, index - colSize));
+                }
+                if (hasLowerRow) {
+                    count = count.add(sumLandMinesInRow(bytes, index + colSize));
+                }
+
+                ByteVector current = ByteVector.fromArray(SPECIES, bytes, index);
+                VectorMask<Byte> landMines = current.and((byte) LAND_MINE_BIT).compare(VectorOperators.NE, (byte) ZERO);
+                current.and((byte) ~NEARBY_LAND_MINE_COUNT_MASK)
+                        .or(count)
+                        .blend(current, landMines)
+                        .intoArray(bytes, index);
+            }
+
+            for (; col < colSize; col++) {
+                ScalarNearbyLandMineCountKernel.countCell(bytes, rowSize, colSize, row, col);
+            }
+        }
+    }
+
+    // index - 1, index, index + 1 에서 시작하는 세 벡터의 지뢰 비트를 더한다. 즉 가로 3칸의 지뢰 수다.
+    private ByteVector sumLandMinesInRow(byte[] bytes, int index) {
+        return landMineBitsAt(bytes, index - ONE)
+                .add(landMineBitsAt(bytes, index))
+                .add(landMineBitsAt(bytes, index + ONE));
+    }
+
+    private ByteVector landMineBitsAt(byte[] bytes, int index) {
+        return ByteVector.fromArray(SPECIES, bytes, index)
+                .lanewise(VectorOperators.LSHR, LAND_MINE_SHIFT)
+                .and((byte) ONE);
+    }
+
+}
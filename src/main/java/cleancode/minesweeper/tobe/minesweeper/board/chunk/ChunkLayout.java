@@ -0,0 +1,98 @@
+package cleancode.minesweeper.tobe.minesweeper.board.chunk;
+
+import java.util.SplittableRandom;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+끝없는 보드를 chunkSize x chunkSize 크기의 청크로 나누었을 때, 각 청크의 지뢰 위치를 정한다.
+청크의 지뢰 위치는 (seed, 청크 좌표) 만으로 결정되므로 언제 다시 만들어도 같은 결과가 나온다.
+보드는 행/열 모두 0 부터 시작해 int 범위 안에서 청크 단위로 끝난다.
+ */
+public class ChunkLayout {
+
+    private static final int MIN_CHUNK_SIZE = 4;
+    private static final int MAX_CHUNK_SIZE = 1024;
+    private static final int BITS_PER_WORD = 64;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int chunkSize;
+    private final int landMineCountPerChunk;
+    private final long seed;
+
+    private ChunkLayout(int chunkSize, int landMineCountPerChunk, long seed) {
+        this.chunkSize = chunkSize;
+        this.landMineCountPerChunk = landMineCountPerChunk;
+        this.seed = seed;
+    }
+
+    public static ChunkLayout of(int chunkSize, int landMineCountPerChunk, long seed) {
+        if (chunkSize < MIN_CHUNK_SIZE || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("지원하지 않는 청크 크기입니다.");
+        }
+        if (landMineCountPerChunk < ZERO || landMineCountPerChunk >= chunkSize * chunkSize) {
+            throw new IllegalArgumentException("지뢰 수가 청크의 셀 수보다 많습니다.");
+        }
+        return new ChunkLayout(chunkSize, landMineCountPerChunk, seed);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getCellCountPerChunk() {
+        return chunkSize * chunkSize;
+    }
+
+    public int getLandMineCountPerChunk() {
+        return landMineCountPerChunk;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // 한 줄(행 또는 열)에 놓이는 청크 수. 보드의 한 변은 getChunkCountPerLine() * chunkSize 칸이다.
+    public int getChunkCountPerLine() {
+        return Integer.MAX_VALUE / chunkSize;
+    }
+
+    public int getWordCountPerChunk() {
+        return (getCellCountPerChunk() + BITS_PER_WORD - ONE) / BITS_PER_WORD;
+    }
+
+    // 청크 안의 지뢰 위치를 (행 * chunkSize + 열) 비트로 표시한 비트셋을 만든다.
+    public long[] createLandMineMask(int chunkRow, int chunkCol) {
+        long[] mask = new long[getWordCountPerChunk()];
+        SplittableRandom random = new SplittableRandom(chunkSeedOf(chunkRow, chunkCol));
+
+        int cellCount = getCellCountPerChunk();
+        for (int bound = cellCount - landMineCountPerChunk; bound < cellCount; bound++) {
+            int candidate = random.nextInt(bound + ONE);
+            setBit(mask, isBitSet(mask, candidate) ? bound : candidate);
+        }
+        return mask;
+    }
+
+    public static boolean isBitSet(long[] mask, int index) {
+        return (mask[index / BITS_PER_WORD] & (1L << index)) != ZERO;
+    }
+
+    public static void setBit(long[] mask, int index) {
+        mask[index / BITS_PER_WORD] |= 1L << index;
+    }
+
+    private long chunkSeedOf(int chunkRow, int chunkCol) {
+        long chunkKey = ((long) chunkRow << Integer.SIZE) | (chunkCol & 0xFFFF_FFFFL);
+        return mix(seed + mix(chunkKey + GOLDEN_GAMMA));
+    }
+
+    // SplitMix64 의 마무리 함수. 이웃한 청크 좌표도 서로 관계없는 시드가 되도록 비트를 섞는다.
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+}
@@ -0,0 +1,397 @@
+package cleancode.minesweeper.tobe.minesweeper.board.chunk;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameStatus;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.board.position.RelativePosition;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+import static cleancode.minesweeper.tobe.minesweeper.board.position.RelativePosition.SURROUND_RELATIVE_POSITIONS;
+
+/*
+끝없는 지뢰찾기 보드. 보드를 청크로 나누고, 청크는 처음 건드릴 때 ChunkLayout 으로 만든다.
+- 한 번도 건드리지 않은 청크는 메모리를 쓰지 않는다. 화면에는 모두 미확인 셀로 보인다.
+- 최근에 쓴 청크(hot)만 PackedCells 로 들고 있고, 개수를 넘으면 가장 오래된 청크를 내보낸다.
+  내보낸 청크(cold)는 열림/깃발 비트만 남기고, 다시 건드리면 지뢰와 숫자를 다시 만들어 상태를 되살린다.
+- 청크 가장자리의 숫자는 이웃 청크의 지뢰 위치까지 세어서 계산하므로, 연쇄 열기는 청크 경계를 그대로 넘어간다.
+- 끝이 없으므로 승리는 없고 지뢰를 열면 패배한다.
+- 화면은 writeSnapshotCodes 로 다시 읽으므로 청크의 변경 기록(CellChangeSet)은 쓰지 않는다. 셀을 바꿀 때마다 바로 비워 쌓이지 않게 한다.
+ */
+public class ChunkedGameBoard {
+
+    public static final int DEFAULT_MAX_HOT_CHUNK_COUNT = 256;
+
+    // 지뢰가 아주 적으면 빈 영역이 끝없이 이어질 수 있어, 한 번에 여는 셀 수를 제한한다.
+    // 선택한 셀에서 가까운 셀부터 여므로(FIFO), 제한에 걸리면 닫힌 채 남는 부분은 열린 영역의 바깥 경계다.
+    // 이어서 열려면 경계 바깥의 닫힌 셀을 다시 선택하면 된다.
+    private static final int MAX_CASCADE_CELL_COUNT = 1 << 16;
+    private static final int INITIAL_QUEUE_CAPACITY = 64;
+
+    private final ChunkLayout chunkLayout;
+    private final int chunkSize;
+    private final int sideLength;
+    private final Map<Long, PackedCells> hotChunks;
+    private final Map<Long, long[]> coldChunkStates = new HashMap<>();
+    // 셀마다 한 번만 들어오므로 연쇄 열기마다 처음부터 채우고 되감지 않는다.
+    private long[] cascadeQueue = new long[INITIAL_QUEUE_CAPACITY];
+    private int cascadeQueueHead;
+    private int cascadeQueueTail;
+    private GameStatus gameStatus;
+
+    public ChunkedGameBoard(ChunkLayout chunkLayout) {
+        this(chunkLayout, DEFAULT_MAX_HOT_CHUNK_COUNT);
+    }
+
+    public ChunkedGameBoard(ChunkLayout chunkLayout, int maxHotChunkCount) {
+        if (maxHotChunkCount < ONE) {
+            throw new IllegalArgumentException("청크를 하나 이상 들고 있어야 합니다.");
+        }
+        this.chunkLayout = chunkLayout;
+        this.chunkSize = chunkLayout.getChunkSize();
+        this.sideLength = chunkLayout.getChunkCountPerLine() * chunkSize;
+        this.hotChunks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, PackedCells> eldest) {
+                if (size() <= maxHotChunkCount) {
+                    return false;
+                }
+                coolDown(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+        initializeGameStatus();
+    }
+
+    public void initializeGame() {
+        initializeGameStatus();
+        hotChunks.clear();
+        coldChunkStates.clear();
+    }
+
+    private void initializeGameStatus() {
+        this.gameStatus = GameStatus.IN_PROGRESS;
+    }
+
+    // 상태 변경
+    public void flagAt(CellPosition cellPosition) {
+        int row = cellPosition.getRowIndex();
+        int col = cellPosition.getColIndex();
+        validateCellPosition(row, col);
+
+        flagCell(chunkAt(row, col), localIndexOf(row, col));
+    }
+
+    public void openAt(CellPosition cellPosition) {
+        int row = cellPosition.getRowIndex();
+        int col = cellPosition.getColIndex();
+        validateCellPosition(row, col);
+
+        PackedCells chunk = chunkAt(row, col);
+        int localIndex = localIndexOf(row, col);
+        if (chunk.isLandMine(localIndex)) {
+            openCell(chunk, localIndex);
+            changeGameStatusToLose();
+            return;
+        }
+
+        openSurroundedCells(row, col);
+    }
+
+    private void changeGameStatusToLose() {
+        gameStatus = GameStatus.LOSE;
+    }
+
+    private void openSurroundedCells(int row, int col) {
+        if (chunkAt(row, col).isOpened(localIndexOf(row, col))) {
+            return;
+        }
+
+        cascadeQueueHead = ZERO;
+        cascadeQueueTail = ZERO;
+        int openedCount = openAndEnqueueIfEmpty(row, col);
+
+        while (cascadeQueueHead < cascadeQueueTail && openedCount < MAX_CASCADE_CELL_COUNT) {
+            long position = cascadeQueue[cascadeQueueHead++];
+            openedCount += openSurroundedCellsOf((int) (position >>> Integer.SIZE), (int) position);
+        }
+    }
+
+    private int openSurroundedCellsOf(int row, int col) {
+        int openedCount = ZERO;
+
+        for (RelativePosition relativePosition : SURROUND_RELATIVE_POSITIONS) {
+            int surroundedRow = row + relativePosition.getDeltaRow();
+            int surroundedCol = col + relativePosition.getDeltaCol();
+            if (isOutOfBoard(surroundedRow, surroundedCol)) {
+                continue;
+            }
+
+            PackedCells chunk = chunkAt(surroundedRow, surroundedCol);
+            int localIndex = localIndexOf(surroundedRow, surroundedCol);
+            if (chunk.isOpened(localIndex) || chunk.isLandMine(localIndex)) {
+                continue;
+            }
+            openedCount += openAndEnqueueIfEmpty(surroundedRow, surroundedCol);
+        }
+        return openedCount;
+    }
+
+    private int openAndEnqueueIfEmpty(int row, int col) {
+        PackedCells chunk = chunkAt(row, col);
+        int localIndex = localIndexOf(row, col);
+
+        openCell(chunk, localIndex);
+        if (!chunk.hasLandMineCount(localIndex)) {
+            enqueue(row, col);
+        }
+        return ONE;
+    }
+
+    private void openCell(PackedCells chunk, int localIndex) {
+        chunk.open(localIndex);
+        chunk.clearChanges();
+    }
+
+    private void flagCell(PackedCells chunk, int localIndex) {
+        chunk.flag(localIndex);
+        chunk.clearChanges();
+    }
+
+    private void enqueue(int row, int col) {
+        if (cascadeQueueTail == cascadeQueue.length) {
+            cascadeQueue = Arrays.copyOf(cascadeQueue, cascadeQueue.length * 2);
+        }
+        cascadeQueue[cascadeQueueTail++] = ((long) row << Integer.SIZE) | col;
+    }
+
+    // 판별
+    public boolean isInProgress() {
+        return gameStatus == GameStatus.IN_PROGRESS;
+    }
+
+    public boolean isWinStatus() {
+        return gameStatus == GameStatus.WIN;
+    }
+
+    public boolean isLoseStatus() {
+        return gameStatus == GameStatus.LOSE;
+    }
+
+    private boolean isOutOfBoard(int row, int col) {
+        return row < ZERO || row >= sideLength || col < ZERO || col >= sideLength;
+    }
+
+    private boolean isTouched(long chunkKey) {
+        return hotChunks.containsKey(chunkKey) || coldChunkStates.containsKey(chunkKey);
+    }
+
+    // 조회
+    public CellSnapshot getSnapshot(CellPosition cellPosition) {
+        int row = cellPosition.getRowIndex();
+        int col = cellPosition.getColIndex();
+        validateCellPosition(row, col);
+
+        if (!isTouched(chunkKeyOf(row / chunkSize, col / chunkSize))) {
+            return CellSnapshot.ofUnchecked();
+        }
+        return chunkAt(row, col).getSnapshot(localIndexOf(row, col));
+    }
+
+    // topLeft 부터 rowCount x colCount 영역의 셀 코드를 행 순서대로 destination[offset] 부터 채운다.
+    public void writeSnapshotCodes(CellPosition topLeft, int rowCount, int colCount, byte[] destination, int offset) {
+        int firstRow = topLeft.getRowIndex();
+        int firstCol = topLeft.getColIndex();
+        if (rowCount < ZERO || colCount < ZERO
+                || (long) firstRow + rowCount > sideLength || (long) firstCol + colCount > sideLength) {
+            throw new IllegalArgumentException("보드를 벗어난 영역입니다.");
+        }
+        if (offset < ZERO || destination.length - offset < (long) rowCount * colCount) {
+            throw new IllegalArgumentException("셀 코드를 담을 공간이 부족합니다.");
+        }
+
+        for (int row = ZERO; row < rowCount; row++) {
+            writeRowSnapshotCodes(firstRow + row, firstCol, colCount, destination, offset + row * colCount);
+        }
+    }
+
+    private void writeRowSnapshotCodes(int row, int firstCol, int colCount, byte[] destination, int offset) {
+        int endCol = firstCol + colCount;
+        int col = firstCol;
+        while (col < endCol) {
+            int chunkCol = col / chunkSize;
+            int segmentEndCol = Math.min(endCol, (chunkCol + ONE) * chunkSize);
+            int segmentOffset = offset + (col - firstCol);
+
+            if (isTouched(chunkKeyOf(row / chunkSize, chunkCol))) {
+                chunkAt(row, col).writeVisibleCodes(row % chunkSize, col % chunkSize, ONE, segmentEndCol - col,
+                        destination, segmentOffset);
+            } else {
+                Arrays.fill(destination, segmentOffset, segmentOffset + (segmentEndCol - col), (byte) CellSnapshot.UNCHECKED_CODE);
+            }
+            col = segmentEndCol;
+        }
+    }
+
+    public int getRowSize() {
+        return sideLength;
+    }
+
+    public int getColSize() {
+        return sideLength;
+    }
+
+    public int getHotChunkCount() {
+        return hotChunks.size();
+    }
+
+    public int getColdChunkCount() {
+        return coldChunkStates.size();
+    }
+
+    private void validateCellPosition(int row, int col) {
+        if (isOutOfBoard(row, col)) {
+            throw new IllegalArgumentException("올바르지 않은 좌표입니다.");
+        }
+    }
+
+    private int localIndexOf(int row, int col) {
+        return (row % chunkSize) * chunkSize + (col % chunkSize);
+    }
+
+    private static long chunkKeyOf(int chunkRow, int chunkCol) {
+        return ((long) chunkRow << Integer.SIZE) | chunkCol;
+    }
+
+    // 청크 관리
+    private PackedCells chunkAt(int row, int col) {
+        int chunkRow = row / chunkSize;
+        int chunkCol = col / chunkSize;
+        long chunkKey = chunkKeyOf(chunkRow, chunkCol);
+
+        PackedCells chunk = hotChunks.get(chunkKey);
+        if (chunk == null) {
+            chunk = createChunk(chunkRow, chunkCol);
+            restoreColdState(chunkKey, chunk);
+            hotChunks.put(chunkKey, chunk);
+        }
+        return chunk;
+    }
+
+    private PackedCells createChunk(int chunkRow, int chunkCol) {
+        PackedCells chunk = PackedCells.of(chunkSize, chunkSize);
+        boolean[] paddedLandMines = createPaddedLandMines(chunkRow, chunkCol);
+        int paddedSize = chunkSize + 2;
+
+        for (int row = ZERO; row < chunkSize; row++) {
+            for (int col = ZERO; col < chunkSize; col++) {
+                int localIndex = row * chunkSize + col;
+                int paddedIndex = (row + ONE) * paddedSize + (col + ONE);
+                if (paddedLandMines[paddedIndex]) {
+                    chunk.plantLandMine(localIndex);
+                    continue;
+                }
+                chunk.updateNearbyLandMineCount(localIndex, countLandMinesAround(paddedLandMines, paddedIndex, paddedSize));
+            }
+        }
+        return chunk;
+    }
+
+    // 청크 주위로 한 칸씩 이웃 청크의 지뢰를 덧붙인 (chunkSize + 2) x (chunkSize + 2) 지뢰 지도를 만든다.
+    private boolean[] createPaddedLandMines(int chunkRow, int chunkCol) {
+        int paddedSize = chunkSize + 2;
+        boolean[] paddedLandMines = new boolean[paddedSize * paddedSize];
+        int chunkCountPerLine = chunkLayout.getChunkCountPerLine();
+
+        for (int deltaRow = -ONE; deltaRow <= ONE; deltaRow++) {
+            for (int deltaCol = -ONE; deltaCol <= ONE; deltaCol++) {
+                int neighborChunkRow = chunkRow + deltaRow;
+                int neighborChunkCol = chunkCol + deltaCol;
+                if (neighborChunkRow < ZERO || neighborChunkRow >= chunkCountPerLine
+                        || neighborChunkCol < ZERO || neighborChunkCol >= chunkCountPerLine) {
+                    continue;
+                }
+
+                long[] landMineMask = chunkLayout.createLandMineMask(neighborChunkRow, neighborChunkCol);
+                copyBorderLandMines(landMineMask, deltaRow, deltaCol, paddedLandMines, paddedSize);
+            }
+        }
+        return paddedLandMines;
+    }
+
+    // 이웃 청크에서 가운데 청크와 맞닿은 줄만 옮긴다. (deltaRow, deltaCol) 이 (0, 0) 이면 청크 전체를 옮긴다.
+    private void copyBorderLandMines(long[] landMineMask, int deltaRow, int deltaCol, boolean[] paddedLandMines, int paddedSize) {
+        int firstRow = deltaRow < ZERO ? chunkSize - ONE : ZERO;
+        int lastRow = deltaRow > ZERO ? ZERO : chunkSize - ONE;
+        int firstCol = deltaCol < ZERO ? chunkSize - ONE : ZERO;
+        int lastCol = deltaCol > ZERO ? ZERO : chunkSize - ONE;
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                if (!ChunkLayout.isBitSet(landMineMask, row * chunkSize + col)) {
+                    continue;
+                }
+                int paddedRow = row + ONE + deltaRow * chunkSize;
+                int paddedCol = col + ONE + deltaCol * chunkSize;
+                paddedLandMines[paddedRow * paddedSize + paddedCol] = true;
+            }
+        }
+    }
+
+    private int countLandMinesAround(boolean[] paddedLandMines, int paddedIndex, int paddedSize) {
+        int count = ZERO;
+        for (RelativePosition relativePosition : SURROUND_RELATIVE_POSITIONS) {
+            if (paddedLandMines[paddedIndex + relativePosition.getDeltaRow() * paddedSize + relativePosition.getDeltaCol()]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 열림/깃발 비트를 [열림 비트셋 | 깃발 비트셋] 순서로 이어 붙여 보관한다. 바뀐 셀이 없는 청크는 그냥 버린다.
+    private void coolDown(long chunkKey, PackedCells chunk) {
+        int wordCount = chunkLayout.getWordCountPerChunk();
+        long[] state = new long[wordCount * 2];
+        boolean changed = false;
+
+        for (int localIndex = ZERO; localIndex < chunk.size(); localIndex++) {
+            if (chunk.isOpened(localIndex)) {
+                ChunkLayout.setBit(state, localIndex);
+                changed = true;
+            }
+            if (chunk.isFlagged(localIndex)) {
+                ChunkLayout.setBit(state, wordCount * Long.SIZE + localIndex);
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            coldChunkStates.put(chunkKey, state);
+        }
+    }
+
+    private void restoreColdState(long chunkKey, PackedCells chunk) {
+        long[] state = coldChunkStates.remove(chunkKey);
+        if (state == null) {
+            return;
+        }
+
+        int wordCount = chunkLayout.getWordCountPerChunk();
+        for (int localIndex = ZERO; localIndex < chunk.size(); localIndex++) {
+            if (ChunkLayout.isBitSet(state, localIndex)) {
+                chunk.open(localIndex);
+            }
+            if (ChunkLayout.isBitSet(state, wordCount * Long.SIZE + localIndex)) {
+                chunk.flag(localIndex);
+            }
+        }
+        chunk.clearChanges();
+    }
+
+}
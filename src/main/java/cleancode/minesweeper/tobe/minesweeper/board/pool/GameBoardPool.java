@@ -0,0 +1,207 @@
+package cleancode.minesweeper.tobe.minesweeper.board.pool;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoardProvider;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+GameLevel 하나에 대한 보드를 백그라운드 스레드가 미리 만들어 두는 풀.
+- 남은 보드가 lowWatermark 이하로 내려가면 작업 스레드가 깨어나 highWatermark 까지 채운다.
+- provide() 는 큐에서 보드 하나를 꺼내기만 하므로 보드 크기와 관계없이 O(1) 이다.
+  풀이 비어 있을 때만 요청한 스레드에서 바로 보드를 만든다.
+- 작업 스레드마다 BoardRandom 을 split 해서 쓰므로 스레드끼리 난수 상태를 두고 경합하지 않는다.
+- 다 만든 보드는 버리지 않는다. 여러 작업 스레드가 동시에 채우다 큐가 가득 차면 자리가 날 때까지 기다렸다 넣는다.
+- start() 는 보드 하나를 요청한 스레드에서 먼저 만들어 보고, 만들 수 없는 레벨이면 작업 스레드를 띄우지 않고 그 예외를 던진다.
+- 보드 하나를 만들다 예외가 나면 실패 횟수와 마지막 예외를 남기고, 잠시 쉬었다 다음 보드를 만든다.
+  쉬는 시간은 연달아 실패할 때마다 두 배로 늘고, MAX_CONSECUTIVE_FAILURES 번 연달아 실패한 작업 스레드는 채우기를 그만둔다.
+ */
+public class GameBoardPool implements GameBoardProvider, AutoCloseable {
+
+    private static final AtomicInteger POOL_SEQUENCE = new AtomicInteger();
+    private static final int MAX_CONSECUTIVE_FAILURES = 8;
+    private static final long INITIAL_FAILURE_BACKOFF_MILLIS = 10;
+
+    private final GameLevel gameLevel;
+    private final int lowWatermark;
+    private final BlockingQueue<GameBoard> readyBoards;
+    private final BoardRandom fallbackRandom;
+    private final ExecutorService workers;
+    private final Object refillLock = new Object();
+    private final AtomicLong fallbackCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicReference<RuntimeException> lastFailure = new AtomicReference<>();
+    private boolean refilling = true;
+    private volatile boolean closed;
+
+    private GameBoardPool(GameLevel gameLevel, int lowWatermark, int highWatermark, int workerCount, BoardRandom boardRandom) {
+        this.gameLevel = gameLevel;
+        this.lowWatermark = lowWatermark;
+        this.readyBoards = new ArrayBlockingQueue<>(highWatermark);
+        this.fallbackRandom = boardRandom.split();
+        readyBoards.add(createFirstBoard(gameLevel, fallbackRandom.split()));
+        this.workers = Executors.newFixedThreadPool(workerCount, createWorkerThreadFactory());
+
+        for (int i = ZERO; i < workerCount; i++) {
+            BoardRandom workerRandom = boardRandom.split();
+            workers.execute(() -> fillUntilClosed(workerRandom));
+        }
+    }
+
+    public static GameBoardPool start(GameLevel gameLevel, int lowWatermark, int highWatermark, int workerCount, BoardRandom boardRandom) {
+        if (lowWatermark < ZERO || highWatermark <= lowWatermark) {
+            throw new IllegalArgumentException("highWatermark 는 lowWatermark 보다 커야 합니다.");
+        }
+        if (workerCount < ONE) {
+            throw new IllegalArgumentException("작업 스레드가 하나 이상 필요합니다.");
+        }
+        return new GameBoardPool(gameLevel, lowWatermark, highWatermark, workerCount, boardRandom);
+    }
+
+    // 레벨로 보드를 만들 수 없으면 여기서 예외가 난다.
+    private static GameBoard createFirstBoard(GameLevel gameLevel, BoardRandom boardRandom) {
+        GameBoard gameBoard = new GameBoard(gameLevel, boardRandom);
+        gameBoard.initializeGame();
+        return gameBoard;
+    }
+
+    @Override
+    public GameBoard provide() {
+        GameBoard gameBoard = readyBoards.poll();
+        if (readyBoards.size() <= lowWatermark) {
+            requestRefill();
+        }
+        if (gameBoard != null) {
+            return gameBoard;
+        }
+
+        fallbackCount.incrementAndGet();
+        GameBoard fallbackBoard = new GameBoard(gameLevel, splitFallbackRandom());
+        fallbackBoard.initializeGame();
+        return fallbackBoard;
+    }
+
+    @Override
+    public GameBoard provide(long seed) {
+        GameBoard gameBoard = new GameBoard(gameLevel, splitFallbackRandom());
+        gameBoard.initializeGame(seed);
+        return gameBoard;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        workers.shutdownNow();
+    }
+
+    public int getReadyBoardCount() {
+        return readyBoards.size();
+    }
+
+    // 풀이 비어 있어 요청한 스레드에서 보드를 만든 횟수. 워터마크와 작업 스레드 수를 정할 때 참고한다.
+    public long getFallbackCount() {
+        return fallbackCount.get();
+    }
+
+    // 작업 스레드가 보드를 만들다 실패한 횟수와 마지막 예외. 연달아 실패한 작업 스레드가 멈추면 풀 대신 요청한 스레드에서 보드를 만들게 된다.
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    public RuntimeException getLastFailure() {
+        return lastFailure.get();
+    }
+
+    private BoardRandom splitFallbackRandom() {
+        synchronized (fallbackRandom) {
+            return fallbackRandom.split();
+        }
+    }
+
+    private void requestRefill() {
+        synchronized (refillLock) {
+            if (!refilling) {
+                refilling = true;
+                refillLock.notifyAll();
+            }
+        }
+    }
+
+    private void fillUntilClosed(BoardRandom workerRandom) {
+        int consecutiveFailures = ZERO;
+        try {
+            while (!closed) {
+                awaitRefillRequest();
+
+                GameBoard gameBoard = createBoard(workerRandom);
+                if (gameBoard == null) {
+                    consecutiveFailures++;
+                    if (consecutiveFailures >= MAX_CONSECUTIVE_FAILURES) {
+                        return;
+                    }
+                    Thread.sleep(INITIAL_FAILURE_BACKOFF_MILLIS << (consecutiveFailures - ONE));
+                    continue;
+                }
+                consecutiveFailures = ZERO;
+                readyBoards.put(gameBoard);
+
+                if (readyBoards.remainingCapacity() == ZERO) {
+                    stopRefill();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private GameBoard createBoard(BoardRandom workerRandom) {
+        try {
+            GameBoard gameBoard = new GameBoard(gameLevel, workerRandom.split());
+            gameBoard.initializeGame();
+            return gameBoard;
+        } catch (RuntimeException e) {
+            failureCount.incrementAndGet();
+            lastFailure.set(e);
+            return null;
+        }
+    }
+
+    private void awaitRefillRequest() throws InterruptedException {
+        synchronized (refillLock) {
+            while (!refilling) {
+                refillLock.wait();
+            }
+        }
+    }
+
+    private void stopRefill() {
+        synchronized (refillLock) {
+            if (readyBoards.size() > lowWatermark) {
+                refilling = false;
+            }
+        }
+    }
+
+    private static ThreadFactory createWorkerThreadFactory() {
+        int poolNumber = POOL_SEQUENCE.incrementAndGet();
+        AtomicInteger threadSequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "game-board-pool-" + poolNumber + "-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
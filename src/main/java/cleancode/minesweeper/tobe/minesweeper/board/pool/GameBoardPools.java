@@ -0,0 +1,49 @@
+package cleancode.minesweeper.tobe.minesweeper.board.pool;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+GameLevel 마다 GameBoardPool 을 하나씩 만들어 둔다. 풀은 처음 요청될 때 만들어지고 같은 워터마크 설정을 공유한다.
+GameLevel 구현체는 equals 를 정의하지 않으므로 (행 수, 열 수, 지뢰 수)가 같은 레벨을 같은 레벨로 본다.
+ */
+public class GameBoardPools implements AutoCloseable {
+
+    private final int lowWatermark;
+    private final int highWatermark;
+    private final int workerCountPerPool;
+    private final BoardRandom boardRandom;
+    private final Map<List<Integer>, GameBoardPool> pools = new ConcurrentHashMap<>();
+
+    public GameBoardPools(int lowWatermark, int highWatermark, int workerCountPerPool, BoardRandom boardRandom) {
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        this.workerCountPerPool = workerCountPerPool;
+        this.boardRandom = boardRandom;
+    }
+
+    public GameBoardPool poolFor(GameLevel gameLevel) {
+        return pools.computeIfAbsent(keyOf(gameLevel), key -> startPool(gameLevel));
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(GameBoardPool::close);
+        pools.clear();
+    }
+
+    private GameBoardPool startPool(GameLevel gameLevel) {
+        synchronized (boardRandom) {
+            return GameBoardPool.start(gameLevel, lowWatermark, highWatermark, workerCountPerPool, boardRandom.split());
+        }
+    }
+
+    private List<Integer> keyOf(GameLevel gameLevel) {
+        return List.of(gameLevel.getRowSize(), gameLevel.getColSize(), gameLevel.getLandMineCount());
+    }
+
+}
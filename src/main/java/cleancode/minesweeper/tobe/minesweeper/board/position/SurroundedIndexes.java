@@ -0,0 +1,90 @@
+package cleancode.minesweeper.tobe.minesweeper.board.position;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+import static cleancode.minesweeper.tobe.minesweeper.board.position.RelativePosition.SURROUND_RELATIVE_POSITIONS;
+
+/*
+평탄화된 인덱스(row * colSize + col)의 주변 셀 인덱스를 객체 생성 없이 구한다.
+셀이 보드의 어느 가장자리에 닿아 있는지에 따라 16가지 경우로 나누고,
+각 경우에 유효한 오프셋 목록을 생성 시점에 한 번만 계산해 둔다.
+ */
+public class SurroundedIndexes {
+
+    public static final int MAX_SURROUNDED_COUNT = 8;
+
+    private static final int HAS_UPPER = 0b0001;
+    private static final int HAS_LOWER = 0b0010;
+    private static final int HAS_LEFT = 0b0100;
+    private static final int HAS_RIGHT = 0b1000;
+    private static final int BORDER_CASE_COUNT = 16;
+
+    private final int rowSize;
+    private final int colSize;
+    private final int[][] offsetsByBorderCase;
+
+    private SurroundedIndexes(int rowSize, int colSize) {
+        this.rowSize = rowSize;
+        this.colSize = colSize;
+        this.offsetsByBorderCase = createOffsetsByBorderCase(colSize);
+    }
+
+    public static SurroundedIndexes of(int rowSize, int colSize) {
+        return new SurroundedIndexes(rowSize, colSize);
+    }
+
+    // buffer 에 주변 셀 인덱스를 채우고 채운 개수를 반환한다. buffer 의 길이는 MAX_SURROUNDED_COUNT 이상이어야 한다.
+    public int collect(int index, int[] buffer) {
+        int[] offsets = offsetsByBorderCase[borderCaseOf(index)];
+        for (int i = ZERO; i < offsets.length; i++) {
+            buffer[i] = index + offsets[i];
+        }
+        return offsets.length;
+    }
+
+    private int borderCaseOf(int index) {
+        int row = index / colSize;
+        int col = index - row * colSize;
+
+        int borderCase = ZERO;
+        if (row > ZERO) {
+            borderCase |= HAS_UPPER;
+        }
+        if (row < rowSize - ONE) {
+            borderCase |= HAS_LOWER;
+        }
+        if (col > ZERO) {
+            borderCase |= HAS_LEFT;
+        }
+        if (col < colSize - ONE) {
+            borderCase |= HAS_RIGHT;
+        }
+        return borderCase;
+    }
+
+    private static int[][] createOffsetsByBorderCase(int colSize) {
+        int[][] offsetsByBorderCase = new int[BORDER_CASE_COUNT][];
+        for (int borderCase = ZERO; borderCase < BORDER_CASE_COUNT; borderCase++) {
+            offsetsByBorderCase[borderCase] = createOffsets(borderCase, colSize);
+        }
+        return offsetsByBorderCase;
+    }
+
+    private static int[] createOffsets(int borderCase, int colSize) {
+        return SURROUND_RELATIVE_POSITIONS.stream()
+                .filter(relativePosition -> isReachable(relativePosition, borderCase))
+                .mapToInt(relativePosition -> relativePosition.getDeltaRow() * colSize + relativePosition.getDeltaCol())
+                .toArray();
+    }
+
+    private static boolean isReachable(RelativePosition relativePosition, int borderCase) {
+        int deltaRow = relativePosition.getDeltaRow();
+        int deltaCol = relativePosition.getDeltaCol();
+
+        return (deltaRow >= ZERO || (borderCase & HAS_UPPER) != ZERO)
+                && (deltaRow <= ZERO || (borderCase & HAS_LOWER) != ZERO)
+                && (deltaCol >= ZERO || (borderCase & HAS_LEFT) != ZERO)
+                && (deltaCol <= ZERO || (borderCase & HAS_RIGHT) != ZERO);
+    }
+
+}
@@ -0,0 +1,768 @@
+package cleancode.minesweeper.tobe.minesweeper.board.solver;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellChangeSet;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+GameBoard 를 공개된 화면(셀 코드)만 보고 끝까지 플레이한다. 지뢰 배치는 보지 않는다.
+매 수마다 다음 순서로 할 일을 찾는다.
+1. 단일 제약: 숫자 셀의 남은 지뢰가 0 이면 주변을 열고, 모르는 셀 수와 같으면 깃발을 꽂는다.
+2. 두 제약 비교: 5x5 안의 두 숫자 셀의 모르는 셀 집합을 비교한다(부분집합/차집합 규칙).
+3. 전체 지뢰 수: 남은 지뢰가 0 이거나 모르는 셀 수와 같으면 나머지를 한 번에 정한다.
+4. 완전 탐색: 경계(열린 숫자와 맞닿은 모르는 셀)를 제약으로 이어진 컴포넌트로 나누고,
+   컴포넌트마다 가능한 지뢰 배치를 모두 세어 항상 안전하거나 항상 지뢰인 셀을 찾는다.
+5. 그래도 없으면 지뢰일 확률이 가장 낮아 보이는 셀을 연다.
+
+숫자 셀마다 남은 지뢰 수와 모르는 주변 셀 수를 들고 있다가, 셀이 열리거나 깃발이 꽂힐 때 주변 숫자 셀의 값만 고친다.
+상태가 바뀐 숫자 셀만 단일 제약, 두 제약 비교, 완전 탐색 큐에 들어가므로, 한 수에 드는 일은 바뀐 셀 주변에 비례한다.
+openAt 뒤에는 돌려받은 변경 목록으로 새로 열린 셀을 찾는다. 보드 전체를 다시 읽는 것은 시작할 때와 변경 목록이 잘린 수뿐이다.
+인스턴스는 스레드 하나가 쓴다.
+ */
+public class AutoSolver {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte OPENED = 1;
+    private static final byte LAND_MINE = 2;
+    private static final int PAIR_DISTANCE = 2;
+    private static final int WINDOW_RADIUS = 3;
+    private static final int WINDOW_SIZE = WINDOW_RADIUS * 2 + ONE;
+    private static final int MAX_COMPONENT_CELL_COUNT = 48;
+    private static final long MAX_ENUMERATION_NODE_COUNT = 1L << 20;
+    private static final float UNKNOWN_PROBABILITY = -ONE;
+
+    private GameBoard gameBoard;
+    private IntConsumer cascadeListener;
+    private int rowSize;
+    private int colSize;
+    private byte[] states;
+    private byte[] snapshotCodes;
+    private byte[] remainingLandMineCounts;
+    private byte[] unknownCounts;
+    private IndexQueue singleQueue;
+    private IndexQueue pairQueue;
+    private IndexQueue enumerationQueue;
+    private IndexSet constraints;
+    private int[] componentQueue;
+    private int unknownCellCount;
+    private int remainingLandMineCount;
+    private int interiorCursor;
+    private int moveCount;
+    private int guessCount;
+
+    private int[] componentStamps;
+    private int[] localIndexes;
+    private float[] landMineProbabilities;
+    private int componentEpoch;
+
+    public AutoSolverResult solve(GameBoard gameBoard) {
+        return solve(gameBoard, openedCellCount -> {
+        });
+    }
+
+    // cascadeListener 는 openAt 이 지뢰를 밟지 않을 때마다 그 한 번으로 새로 열린 셀 수를 받는다.
+    public AutoSolverResult solve(GameBoard gameBoard, IntConsumer cascadeListener) {
+        this.cascadeListener = cascadeListener;
+        reset(gameBoard);
+
+        while (gameBoard.isInProgress()) {
+            if (drainSingleQueue() || comparePairs() || applyTotalLandMineCount() || enumerateComponents()) {
+                continue;
+            }
+            guess();
+        }
+        return AutoSolverResult.of(gameBoard.isWinStatus(), moveCount, guessCount);
+    }
+
+    private void reset(GameBoard gameBoard) {
+        this.gameBoard = gameBoard;
+        this.rowSize = gameBoard.getRowSize();
+        this.colSize = gameBoard.getColSize();
+        int size = rowSize * colSize;
+        if (states == null || states.length != size) {
+            states = new byte[size];
+            snapshotCodes = new byte[size];
+            remainingLandMineCounts = new byte[size];
+            unknownCounts = new byte[size];
+            singleQueue = new IndexQueue(size);
+            pairQueue = new IndexQueue(size);
+            enumerationQueue = new IndexQueue(size);
+            constraints = new IndexSet(size);
+            componentQueue = new int[size];
+            componentStamps = new int[size];
+            localIndexes = new int[size];
+            landMineProbabilities = new float[size];
+        }
+        Arrays.fill(states, UNKNOWN);
+        Arrays.fill(componentStamps, ZERO);
+        singleQueue.clear();
+        pairQueue.clear();
+        enumerationQueue.clear();
+        constraints.clear();
+        componentEpoch = ZERO;
+        unknownCellCount = size;
+        remainingLandMineCount = gameBoard.getLandMineCount();
+        interiorCursor = ZERO;
+        moveCount = ZERO;
+        guessCount = ZERO;
+
+        // 깃발은 사람이 잘못 꽂았을 수도 있으므로 모르는 셀로 본다.
+        gameBoard.writeSnapshotCodes(snapshotCodes);
+        for (int index = ZERO; index < size; index++) {
+            if (snapshotCodes[index] <= CellSnapshot.MAX_NEARBY_LAND_MINE_COUNT) {
+                markOpened(index, snapshotCodes[index]);
+            }
+        }
+    }
+
+    // 1. 단일 제약
+    private boolean drainSingleQueue() {
+        boolean moved = false;
+        while (!singleQueue.isEmpty() && gameBoard.isInProgress()) {
+            moved |= applySingleConstraint(singleQueue.poll());
+        }
+        return moved;
+    }
+
+    private boolean applySingleConstraint(int index) {
+        int unknownCount = unknownCounts[index];
+        if (states[index] != OPENED || unknownCount == ZERO) {
+            return false;
+        }
+        int remaining = remainingLandMineCounts[index];
+        if (remaining == ZERO) {
+            resolveUnknownAround(index, OPENED);
+            return true;
+        }
+        if (remaining == unknownCount) {
+            resolveUnknownAround(index, LAND_MINE);
+            return true;
+        }
+        return false;
+    }
+
+    private void resolveUnknownAround(int index, byte state) {
+        int row = index / colSize;
+        int col = index - row * colSize;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                resolve(r * colSize + c, state);
+            }
+        }
+    }
+
+    // 2. 두 제약 비교
+    private boolean comparePairs() {
+        while (!pairQueue.isEmpty()) {
+            int index = pairQueue.poll();
+            if (!constraints.contains(index)) {
+                continue;
+            }
+            if (comparePairsAround(index)) {
+                pairQueue.offer(index);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean comparePairsAround(int index) {
+        int row = index / colSize;
+        int col = index - row * colSize;
+        for (int r = Math.max(ZERO, row - PAIR_DISTANCE); r <= Math.min(rowSize - ONE, row + PAIR_DISTANCE); r++) {
+            for (int c = Math.max(ZERO, col - PAIR_DISTANCE); c <= Math.min(colSize - ONE, col + PAIR_DISTANCE); c++) {
+                int otherIndex = r * colSize + c;
+                if (otherIndex == index || !constraints.contains(otherIndex)) {
+                    continue;
+                }
+                if (comparePair(row, col, r, c) || comparePair(r, c, row, col)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 두 셀의 모르는 주변 셀을 A 를 중심으로 한 7x7 창의 비트로 나타내 비교한다.
+    private boolean comparePair(int rowA, int colA, int rowB, int colB) {
+        long unknownA = unknownMaskAround(rowA, colA, rowA, colA);
+        long unknownB = unknownMaskAround(rowB, colB, rowA, colA);
+        int remainingA = remainingLandMineCounts[rowA * colSize + colA];
+        int remainingB = remainingLandMineCounts[rowB * colSize + colB];
+
+        long onlyA = unknownA & ~unknownB;
+        long onlyB = unknownB & ~unknownA;
+        if (onlyB == ZERO || (onlyA | onlyB) == (unknownA | unknownB)) {
+            return false;
+        }
+        if (onlyA == ZERO && remainingA == remainingB) {
+            resolveMask(onlyB, rowA, colA, OPENED);
+            return true;
+        }
+        if (remainingB - remainingA == Long.bitCount(onlyB)) {
+            resolveMask(onlyB, rowA, colA, LAND_MINE);
+            resolveMask(onlyA, rowA, colA, OPENED);
+            return true;
+        }
+        return false;
+    }
+
+    private long unknownMaskAround(int row, int col, int centerRow, int centerCol) {
+        long mask = ZERO;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                if (states[r * colSize + c] == UNKNOWN) {
+                    mask |= 1L << ((r - centerRow + WINDOW_RADIUS) * WINDOW_SIZE + (c - centerCol + WINDOW_RADIUS));
+                }
+            }
+        }
+        return mask;
+    }
+
+    private void resolveMask(long mask, int centerRow, int centerCol, byte state) {
+        while (mask != ZERO && gameBoard.isInProgress()) {
+            int bit = Long.numberOfTrailingZeros(mask);
+            mask &= mask - ONE;
+            int row = centerRow + bit / WINDOW_SIZE - WINDOW_RADIUS;
+            int col = centerCol + bit % WINDOW_SIZE - WINDOW_RADIUS;
+            resolve(row * colSize + col, state);
+        }
+    }
+
+    // 3. 전체 지뢰 수
+    private boolean applyTotalLandMineCount() {
+        if (unknownCellCount == ZERO || (remainingLandMineCount != ZERO && remainingLandMineCount != unknownCellCount)) {
+            return false;
+        }
+
+        byte state = remainingLandMineCount == ZERO ? OPENED : LAND_MINE;
+        for (int index = ZERO; index < states.length && gameBoard.isInProgress(); index++) {
+            resolve(index, state);
+        }
+        return true;
+    }
+
+    // 4. 완전 탐색
+    // 지난번 탐색 뒤로 제약이 바뀐 컴포넌트만 다시 센다. 바뀌지 않은 컴포넌트는 여전히 정할 셀이 없고 확률도 그대로다.
+    private boolean enumerateComponents() {
+        componentEpoch++;
+        while (!enumerationQueue.isEmpty()) {
+            int constraintIndex = enumerationQueue.poll();
+            if (!constraints.contains(constraintIndex) || componentStamps[constraintIndex] == componentEpoch) {
+                continue;
+            }
+            if (new Component(constraintIndex).enumerate()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 제약(열린 숫자 셀)과 경계 셀을 서로 번갈아 따라가며 이어진 것끼리 모은다.
+    private class Component {
+
+        private final int[] constraintIndexes = new int[MAX_COMPONENT_CELL_COUNT * 2];
+        private final int[] cellIndexes = new int[MAX_COMPONENT_CELL_COUNT];
+        private int constraintCount;
+        private int cellCount;
+        private boolean tooLarge;
+
+        private int[][] cellConstraints;
+        private int[] constraintMines;
+        private int[] constraintUnassigned;
+        private boolean[] assigned;
+        private long[] mineSolutionCounts;
+        private long solutionCount;
+        private long nodeCount;
+
+        private Component(int startConstraintIndex) {
+            collect(startConstraintIndex);
+        }
+
+        private void collect(int startConstraintIndex) {
+            componentStamps[startConstraintIndex] = componentEpoch;
+            int[] queue = componentQueue;
+            int head = ZERO;
+            int tail = ZERO;
+            queue[tail++] = startConstraintIndex;
+
+            while (head < tail) {
+                int constraintIndex = queue[head++];
+                if (constraintCount < constraintIndexes.length) {
+                    constraintIndexes[constraintCount++] = constraintIndex;
+                } else {
+                    tooLarge = true;
+                }
+                int row = constraintIndex / colSize;
+                int col = constraintIndex - row * colSize;
+                for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+                    for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                        int cellIndex = r * colSize + c;
+                        if (states[cellIndex] != UNKNOWN || componentStamps[cellIndex] == componentEpoch) {
+                            continue;
+                        }
+                        componentStamps[cellIndex] = componentEpoch;
+                        landMineProbabilities[cellIndex] = UNKNOWN_PROBABILITY;
+                        if (cellCount < cellIndexes.length) {
+                            localIndexes[cellIndex] = cellCount;
+                            cellIndexes[cellCount++] = cellIndex;
+                        } else {
+                            tooLarge = true;
+                        }
+                        tail = enqueueConstraintsAround(cellIndex, queue, tail);
+                    }
+                }
+            }
+        }
+
+        private int enqueueConstraintsAround(int cellIndex, int[] queue, int tail) {
+            int row = cellIndex / colSize;
+            int col = cellIndex - row * colSize;
+            for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+                for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                    int constraintIndex = r * colSize + c;
+                    if (constraints.contains(constraintIndex) && componentStamps[constraintIndex] != componentEpoch) {
+                        componentStamps[constraintIndex] = componentEpoch;
+                        queue[tail++] = constraintIndex;
+                    }
+                }
+            }
+            return tail;
+        }
+
+        // 항상 안전하거나 항상 지뢰인 셀을 찾아 처리했으면 true. 아니면 셀마다 지뢰가 있는 배치의 비율을 남겨 둔다.
+        private boolean enumerate() {
+            if (tooLarge) {
+                return false;
+            }
+            prepare();
+            search(ZERO, ZERO);
+            if (nodeCount > MAX_ENUMERATION_NODE_COUNT || solutionCount == ZERO) {
+                return false;
+            }
+
+            boolean resolved = false;
+            for (int local = ZERO; local < cellCount && gameBoard.isInProgress(); local++) {
+                long mineSolutionCount = mineSolutionCounts[local];
+                if (mineSolutionCount == ZERO) {
+                    resolve(cellIndexes[local], OPENED);
+                    resolved = true;
+                } else if (mineSolutionCount == solutionCount) {
+                    resolve(cellIndexes[local], LAND_MINE);
+                    resolved = true;
+                } else {
+                    landMineProbabilities[cellIndexes[local]] = (float) mineSolutionCount / solutionCount;
+                }
+            }
+            return resolved;
+        }
+
+        private void prepare() {
+            int[][] constraintCells = new int[constraintCount][];
+            int[] cellConstraintCounts = new int[cellCount];
+            for (int k = ZERO; k < constraintCount; k++) {
+                constraintCells[k] = unknownLocalIndexesAround(constraintIndexes[k]);
+                for (int local : constraintCells[k]) {
+                    cellConstraintCounts[local]++;
+                }
+            }
+
+            cellConstraints = new int[cellCount][];
+            for (int local = ZERO; local < cellCount; local++) {
+                cellConstraints[local] = new int[cellConstraintCounts[local]];
+                cellConstraintCounts[local] = ZERO;
+            }
+            constraintMines = new int[constraintCount];
+            constraintUnassigned = new int[constraintCount];
+            for (int k = ZERO; k < constraintCount; k++) {
+                for (int local : constraintCells[k]) {
+                    cellConstraints[local][cellConstraintCounts[local]++] = k;
+                }
+                constraintUnassigned[k] = constraintCells[k].length;
+            }
+            assigned = new boolean[cellCount];
+            mineSolutionCounts = new long[cellCount];
+        }
+
+        private int[] unknownLocalIndexesAround(int constraintIndex) {
+            int[] locals = new int[unknownCounts[constraintIndex]];
+            int count = ZERO;
+            int row = constraintIndex / colSize;
+            int col = constraintIndex - row * colSize;
+            for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+                for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                    int cellIndex = r * colSize + c;
+                    if (states[cellIndex] == UNKNOWN) {
+                        locals[count++] = localIndexes[cellIndex];
+                    }
+                }
+            }
+            return locals;
+        }
+
+        // 셀을 경계를 따라 모은 순서대로 하나씩 정하며, 제약을 어기는 순간 되돌아간다.
+        private void search(int local, int mineCount) {
+            if (++nodeCount > MAX_ENUMERATION_NODE_COUNT) {
+                return;
+            }
+            if (local == cellCount) {
+                solutionCount++;
+                for (int i = ZERO; i < cellCount; i++) {
+                    if (assigned[i]) {
+                        mineSolutionCounts[i]++;
+                    }
+                }
+                return;
+            }
+
+            if (assign(local, false)) {
+                search(local + ONE, mineCount);
+            }
+            unassign(local, false);
+
+            if (mineCount < remainingLandMineCount && assign(local, true)) {
+                search(local + ONE, mineCount + ONE);
+            }
+            unassign(local, true);
+        }
+
+        private boolean assign(int local, boolean landMine) {
+            assigned[local] = landMine;
+            boolean feasible = true;
+            for (int k : cellConstraints[local]) {
+                constraintUnassigned[k]--;
+                if (landMine) {
+                    constraintMines[k]++;
+                }
+                int remaining = remainingLandMineCounts[constraintIndexes[k]];
+                if (constraintMines[k] > remaining || constraintMines[k] + constraintUnassigned[k] < remaining) {
+                    feasible = false;
+                }
+            }
+            return feasible;
+        }
+
+        private void unassign(int local, boolean landMine) {
+            assigned[local] = false;
+            for (int k : cellConstraints[local]) {
+                constraintUnassigned[k]++;
+                if (landMine) {
+                    constraintMines[k]--;
+                }
+            }
+        }
+    }
+
+    // 5. 추측
+    private void guess() {
+        guessCount++;
+        if (unknownCellCount == states.length) {
+            openCell((rowSize / 2) * colSize + colSize / 2);
+            return;
+        }
+
+        int frontierIndex = findSafestFrontierCell();
+        int interiorIndex = findInteriorCell();
+        float interiorProbability = (float) remainingLandMineCount / unknownCellCount;
+        if (frontierIndex >= ZERO && (interiorIndex < ZERO || landMineProbabilities[frontierIndex] <= interiorProbability)) {
+            openCell(frontierIndex);
+            return;
+        }
+        if (interiorIndex >= ZERO) {
+            openCell(interiorIndex);
+            return;
+        }
+        openCell(findLeastConstrainedFrontierCell());
+    }
+
+    // 완전 탐색으로 확률을 구한 경계 셀 중 지뢰일 확률이 가장 낮은 셀. 없으면 -1.
+    private int findSafestFrontierCell() {
+        int bestIndex = -ONE;
+        for (int i = ZERO; i < constraints.size(); i++) {
+            int constraintIndex = constraints.get(i);
+            int row = constraintIndex / colSize;
+            int col = constraintIndex - row * colSize;
+            for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+                for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                    int index = r * colSize + c;
+                    if (states[index] != UNKNOWN || landMineProbabilities[index] == UNKNOWN_PROBABILITY) {
+                        continue;
+                    }
+                    if (bestIndex < ZERO || landMineProbabilities[index] < landMineProbabilities[bestIndex]) {
+                        bestIndex = index;
+                    }
+                }
+            }
+        }
+        return bestIndex;
+    }
+
+    // 모르는 셀이면서 열린 셀과 닿지 않은 셀. 한 번 조건을 벗어난 셀은 다시 조건을 만족하지 않으므로 커서는 앞으로만 간다.
+    private int findInteriorCell() {
+        while (interiorCursor < states.length) {
+            if (states[interiorCursor] == UNKNOWN && !touchesOpenedCell(interiorCursor)) {
+                return interiorCursor;
+            }
+            interiorCursor++;
+        }
+        return -ONE;
+    }
+
+    private boolean touchesOpenedCell(int index) {
+        int row = index / colSize;
+        int col = index - row * colSize;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                if (states[r * colSize + c] == OPENED) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 완전 탐색이 너무 커서 확률이 없을 때는 남은 지뢰 비율이 가장 낮은 숫자 셀 주변을 연다.
+    private int findLeastConstrainedFrontierCell() {
+        int bestConstraintIndex = constraints.get(ZERO);
+        for (int i = ONE; i < constraints.size(); i++) {
+            int constraintIndex = constraints.get(i);
+            if (remainingLandMineCounts[constraintIndex] * unknownCounts[bestConstraintIndex]
+                    < remainingLandMineCounts[bestConstraintIndex] * unknownCounts[constraintIndex]) {
+                bestConstraintIndex = constraintIndex;
+            }
+        }
+
+        int row = bestConstraintIndex / colSize;
+        int col = bestConstraintIndex - row * colSize;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                if (states[r * colSize + c] == UNKNOWN) {
+                    return r * colSize + c;
+                }
+            }
+        }
+        throw new IllegalStateException("열 수 있는 셀이 없습니다.");
+    }
+
+    // 상태 변경
+    private void resolve(int index, byte state) {
+        if (states[index] != UNKNOWN) {
+            return;
+        }
+        if (state == OPENED) {
+            openCell(index);
+            return;
+        }
+        flagCell(index);
+    }
+
+    private void openCell(int index) {
+        moveCount++;
+        CellChangeSet changes = gameBoard.openAt(positionOf(index));
+        if (gameBoard.isLoseStatus()) {
+            return;
+        }
+        int unknownCellCountBeforeOpen = unknownCellCount;
+        markOpenedCells(changes);
+        cascadeListener.accept(unknownCellCountBeforeOpen - unknownCellCount);
+    }
+
+    private void flagCell(int index) {
+        moveCount++;
+        gameBoard.flagAt(positionOf(index));
+        markLandMine(index);
+    }
+
+    // openAt 이 돌려준 변경 목록에서 새로 열린 셀을 찾는다. 목록이 잘렸으면 보드 전체를 다시 읽는다.
+    private void markOpenedCells(CellChangeSet changes) {
+        if (changes.isTruncated()) {
+            markOpenedCellsFromSnapshot();
+            return;
+        }
+        for (int i = ZERO; i < changes.size(); i++) {
+            int changedIndex = changes.getIndex(i);
+            int code = changes.getCode(i);
+            if (states[changedIndex] == UNKNOWN && code <= CellSnapshot.MAX_NEARBY_LAND_MINE_COUNT) {
+                markOpened(changedIndex, code);
+            }
+        }
+    }
+
+    private void markOpenedCellsFromSnapshot() {
+        gameBoard.writeSnapshotCodes(snapshotCodes);
+        for (int index = ZERO; index < states.length; index++) {
+            if (states[index] == UNKNOWN && snapshotCodes[index] <= CellSnapshot.MAX_NEARBY_LAND_MINE_COUNT) {
+                markOpened(index, snapshotCodes[index]);
+            }
+        }
+    }
+
+    private void markOpened(int index, int nearbyLandMineCount) {
+        states[index] = OPENED;
+        unknownCellCount--;
+
+        int unknownCount = ZERO;
+        int remaining = nearbyLandMineCount;
+        int row = index / colSize;
+        int col = index - row * colSize;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                int surroundedIndex = r * colSize + c;
+                byte state = states[surroundedIndex];
+                if (state == UNKNOWN) {
+                    unknownCount++;
+                } else if (state == LAND_MINE) {
+                    remaining--;
+                } else if (surroundedIndex != index) {
+                    unknownCounts[surroundedIndex]--;
+                    touchConstraint(surroundedIndex);
+                }
+            }
+        }
+
+        remainingLandMineCounts[index] = (byte) remaining;
+        unknownCounts[index] = (byte) unknownCount;
+        if (nearbyLandMineCount != ZERO) {
+            touchConstraint(index);
+        }
+    }
+
+    private void markLandMine(int index) {
+        states[index] = LAND_MINE;
+        unknownCellCount--;
+        remainingLandMineCount--;
+
+        int row = index / colSize;
+        int col = index - row * colSize;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                int surroundedIndex = r * colSize + c;
+                if (states[surroundedIndex] == OPENED) {
+                    unknownCounts[surroundedIndex]--;
+                    remainingLandMineCounts[surroundedIndex]--;
+                    touchConstraint(surroundedIndex);
+                }
+            }
+        }
+    }
+
+    // 모르는 주변 셀이 남은 숫자 셀만 제약으로 남기고, 값이 바뀌었으니 두 큐에 다시 넣는다.
+    private void touchConstraint(int index) {
+        if (unknownCounts[index] == ZERO) {
+            constraints.remove(index);
+            return;
+        }
+        constraints.add(index);
+        singleQueue.offer(index);
+        pairQueue.offer(index);
+        enumerationQueue.offer(index);
+    }
+
+    private CellPosition positionOf(int index) {
+        return CellPosition.of(index / colSize, index % colSize);
+    }
+
+    // 셀 인덱스를 한 번씩만 담는 원형 큐
+    private static class IndexQueue {
+
+        private final int[] items;
+        private final boolean[] queued;
+        private int head;
+        private int tail;
+        private int size;
+
+        private IndexQueue(int capacity) {
+            this.items = new int[capacity];
+            this.queued = new boolean[capacity];
+        }
+
+        private void clear() {
+            Arrays.fill(queued, false);
+            head = ZERO;
+            tail = ZERO;
+            size = ZERO;
+        }
+
+        private boolean isEmpty() {
+            return size == ZERO;
+        }
+
+        private void offer(int index) {
+            if (queued[index]) {
+                return;
+            }
+            queued[index] = true;
+            items[tail] = index;
+            tail = tail + ONE == items.length ? ZERO : tail + ONE;
+            size++;
+        }
+
+        private int poll() {
+            int index = items[head];
+            head = head + ONE == items.length ? ZERO : head + ONE;
+            size--;
+            queued[index] = false;
+            return index;
+        }
+    }
+
+    // 넣기, 빼기, 포함 여부가 모두 O(1) 인 셀 인덱스 집합. 순회 순서는 보장하지 않는다.
+    private static class IndexSet {
+
+        private final int[] items;
+        private final int[] positions;
+        private int size;
+
+        private IndexSet(int capacity) {
+            this.items = new int[capacity];
+            this.positions = new int[capacity];
+            Arrays.fill(positions, -ONE);
+        }
+
+        private void clear() {
+            for (int i = ZERO; i < size; i++) {
+                positions[items[i]] = -ONE;
+            }
+            size = ZERO;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int get(int i) {
+            return items[i];
+        }
+
+        private boolean contains(int index) {
+            return positions[index] >= ZERO;
+        }
+
+        private void add(int index) {
+            if (contains(index)) {
+                return;
+            }
+            positions[index] = size;
+            items[size++] = index;
+        }
+
+        private void remove(int index) {
+            int position = positions[index];
+            if (position < ZERO) {
+                return;
+            }
+            int last = items[--size];
+            items[position] = last;
+            positions[last] = position;
+            positions[index] = -ONE;
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package cleancode.minesweeper.tobe.minesweeper.board.solver;
+
+public class AutoSolverResult {
+
+    private final boolean win;
+    private final int moveCount;
+    private final int guessCount;
+
+    private AutoSolverResult(boolean win, int moveCount, int guessCount) {
+        this.win = win;
+        this.moveCount = moveCount;
+        this.guessCount = guessCount;
+    }
+
+    public static AutoSolverResult of(boolean win, int moveCount, int guessCount) {
+        return new AutoSolverResult(win, moveCount, guessCount);
+    }
+
+    public boolean isWin() {
+        return win;
+    }
+
+    // openAt, flagAt 을 부른 횟수
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    // 추론할 수 없어 확률로 고른 횟수. 첫 수도 포함한다.
+    public int getGuessCount() {
+        return guessCount;
+    }
+
+}
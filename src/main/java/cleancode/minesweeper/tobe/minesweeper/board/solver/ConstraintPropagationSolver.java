@@ -0,0 +1,321 @@
+package cleancode.minesweeper.tobe.minesweeper.board.solver;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+
+import java.util.Arrays;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+지뢰 배치를 모두 아는 보드에서, 사람이 startIndex 부터 추측 없이 어디까지 풀 수 있는지 따라가 본다.
+열린 숫자 셀 하나하나를 "주변의 모르는 셀 중 지뢰가 몇 개"라는 제약으로 보고 다음 규칙을 더 이상 진행이 없을 때까지 반복한다.
+- 단일 제약: 남은 지뢰가 0 이면 모르는 셀은 모두 안전, 모르는 셀 수와 같으면 모두 지뢰.
+- 두 제약 비교: 5x5 안의 두 숫자 셀 A, B 에 대해 B 의 남은 지뢰 - A 의 남은 지뢰가 B\A 의 크기와 같으면
+  B\A 는 모두 지뢰, A\B 는 모두 안전이다. A 가 B 에 포함되고 남은 지뢰가 같으면 B\A 는 모두 안전이다.
+- 전체 지뢰 수: 남은 지뢰가 0 이거나 모르는 셀 수와 같으면 나머지가 모두 정해진다.
+단일 제약은 상태가 바뀐 셀 주변만 작업 큐에 넣어 다시 보고, 두 제약 비교와 전체 지뢰 수는 큐가 빌 때만 확인한다.
+인스턴스는 스레드 하나가 쓰며, 같은 크기의 보드라면 배열을 재사용한다.
+ */
+public class ConstraintPropagationSolver {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte SAFE = 1;
+    private static final byte LAND_MINE = 2;
+    private static final int PAIR_DISTANCE = 2;
+    private static final int WINDOW_RADIUS = 3;
+    private static final int WINDOW_SIZE = WINDOW_RADIUS * 2 + ONE;
+
+    private final int rowSize;
+    private final int colSize;
+    private final byte[] states;
+    private final boolean[] queued;
+    private final int[] queue;
+    private final int[] openStack;
+    private PackedCells cells;
+    private int queueHead;
+    private int queueTail;
+    private int safeCellCount;
+    private int landMineCellCount;
+
+    public ConstraintPropagationSolver(int rowSize, int colSize) {
+        this.rowSize = rowSize;
+        this.colSize = colSize;
+        int size = rowSize * colSize;
+        this.states = new byte[size];
+        this.queued = new boolean[size];
+        this.queue = new int[size];
+        this.openStack = new int[size];
+    }
+
+    // startIndex 를 연 뒤 추론만으로 모든 안전한 셀을 열 수 있으면 true 를 반환한다. startIndex 는 지뢰가 아니어야 한다.
+    public boolean solve(PackedCells cells, int startIndex) {
+        if (cells.getRowSize() != rowSize || cells.getColSize() != colSize) {
+            throw new IllegalArgumentException("솔버와 보드의 크기가 다릅니다.");
+        }
+        reset(cells);
+        open(startIndex);
+
+        while (true) {
+            drainQueue();
+            if (isSolved()) {
+                return true;
+            }
+            if (!comparePairs() && !applyTotalLandMineCount()) {
+                return false;
+            }
+        }
+    }
+
+    // 판별
+    public boolean isUnknown(int index) {
+        return states[index] == UNKNOWN;
+    }
+
+    public boolean isSafe(int index) {
+        return states[index] == SAFE;
+    }
+
+    public boolean isSolved() {
+        return safeCellCount == states.length - cells.getLandMineCount();
+    }
+
+    private void reset(PackedCells cells) {
+        this.cells = cells;
+        Arrays.fill(states, UNKNOWN);
+        Arrays.fill(queued, false);
+        queueHead = ZERO;
+        queueTail = ZERO;
+        safeCellCount = ZERO;
+        landMineCellCount = ZERO;
+    }
+
+    // 단일 제약
+    private void drainQueue() {
+        while (queueHead != queueTail) {
+            int index = queue[queueHead];
+            queueHead = (queueHead + ONE) % queue.length;
+            queued[index] = false;
+            applySingleConstraint(index);
+        }
+    }
+
+    private void applySingleConstraint(int index) {
+        int unknownCount = ZERO;
+        int remainingLandMineCount = cells.getNearbyLandMineCount(index);
+        int row = index / colSize;
+        int col = index - row * colSize;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                byte state = states[r * colSize + c];
+                if (state == UNKNOWN) {
+                    unknownCount++;
+                } else if (state == LAND_MINE) {
+                    remainingLandMineCount--;
+                }
+            }
+        }
+
+        if (unknownCount == ZERO) {
+            return;
+        }
+        if (remainingLandMineCount == ZERO) {
+            resolveUnknownAround(row, col, SAFE);
+        } else if (remainingLandMineCount == unknownCount) {
+            resolveUnknownAround(row, col, LAND_MINE);
+        }
+    }
+
+    private void resolveUnknownAround(int row, int col, byte state) {
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                resolve(r * colSize + c, state);
+            }
+        }
+    }
+
+    // 두 제약 비교
+    private boolean comparePairs() {
+        boolean progressed = false;
+        for (int index = ZERO; index < states.length; index++) {
+            if (!isConstraint(index)) {
+                continue;
+            }
+            int row = index / colSize;
+            int col = index - row * colSize;
+            for (int r = Math.max(ZERO, row - PAIR_DISTANCE); r <= Math.min(rowSize - ONE, row + PAIR_DISTANCE); r++) {
+                for (int c = Math.max(ZERO, col - PAIR_DISTANCE); c <= Math.min(colSize - ONE, col + PAIR_DISTANCE); c++) {
+                    int otherIndex = r * colSize + c;
+                    if (otherIndex != index && isConstraint(otherIndex) && comparePair(row, col, r, c)) {
+                        progressed = true;
+                    }
+                }
+            }
+        }
+        return progressed;
+    }
+
+    private boolean isConstraint(int index) {
+        return states[index] == SAFE && cells.getNearbyLandMineCount(index) != ZERO && hasUnknownAround(index);
+    }
+
+    private boolean hasUnknownAround(int index) {
+        int row = index / colSize;
+        int col = index - row * colSize;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                if (states[r * colSize + c] == UNKNOWN) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 두 셀의 모르는 주변 셀을 A 를 중심으로 한 7x7 창의 비트로 나타내 비교한다.
+    private boolean comparePair(int rowA, int colA, int rowB, int colB) {
+        long unknownA = unknownMaskAround(rowA, colA, rowA, colA);
+        long unknownB = unknownMaskAround(rowB, colB, rowA, colA);
+        int remainingA = remainingLandMineCountOf(rowA, colA);
+        int remainingB = remainingLandMineCountOf(rowB, colB);
+
+        long onlyA = unknownA & ~unknownB;
+        long onlyB = unknownB & ~unknownA;
+        if (onlyB == ZERO) {
+            return false;
+        }
+        if (onlyA == ZERO && remainingA == remainingB) {
+            resolveMask(onlyB, rowA, colA, SAFE);
+            return true;
+        }
+        if (remainingB - remainingA == Long.bitCount(onlyB)) {
+            resolveMask(onlyB, rowA, colA, LAND_MINE);
+            resolveMask(onlyA, rowA, colA, SAFE);
+            return true;
+        }
+        return false;
+    }
+
+    private long unknownMaskAround(int row, int col, int centerRow, int centerCol) {
+        long mask = ZERO;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                if (states[r * colSize + c] == UNKNOWN) {
+                    mask |= 1L << windowBitOf(r - centerRow, c - centerCol);
+                }
+            }
+        }
+        return mask;
+    }
+
+    private int remainingLandMineCountOf(int row, int col) {
+        int remainingLandMineCount = cells.getNearbyLandMineCount(row * colSize + col);
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                if (states[r * colSize + c] == LAND_MINE) {
+                    remainingLandMineCount--;
+                }
+            }
+        }
+        return remainingLandMineCount;
+    }
+
+    private void resolveMask(long mask, int centerRow, int centerCol, byte state) {
+        while (mask != ZERO) {
+            int bit = Long.numberOfTrailingZeros(mask);
+            mask &= mask - ONE;
+            int row = centerRow + bit / WINDOW_SIZE - WINDOW_RADIUS;
+            int col = centerCol + bit % WINDOW_SIZE - WINDOW_RADIUS;
+            resolve(row * colSize + col, state);
+        }
+    }
+
+    private static int windowBitOf(int deltaRow, int deltaCol) {
+        return (deltaRow + WINDOW_RADIUS) * WINDOW_SIZE + (deltaCol + WINDOW_RADIUS);
+    }
+
+    // 전체 지뢰 수
+    private boolean applyTotalLandMineCount() {
+        int remainingLandMineCount = cells.getLandMineCount() - landMineCellCount;
+        int unknownCount = states.length - safeCellCount - landMineCellCount;
+        if (unknownCount == ZERO || (remainingLandMineCount != ZERO && remainingLandMineCount != unknownCount)) {
+            return false;
+        }
+
+        byte state = remainingLandMineCount == ZERO ? SAFE : LAND_MINE;
+        for (int index = ZERO; index < states.length; index++) {
+            resolve(index, state);
+        }
+        return true;
+    }
+
+    // 상태 변경
+    private void resolve(int index, byte state) {
+        if (states[index] != UNKNOWN) {
+            return;
+        }
+        if (state == SAFE) {
+            open(index);
+            return;
+        }
+        states[index] = LAND_MINE;
+        landMineCellCount++;
+        enqueueSafeCellsAround(index);
+    }
+
+    // 빈 셀(주변 지뢰 0)은 사람이 연 것처럼 주변을 연쇄적으로 연다. 스택에 넣을 때 바로 열어 두므로 셀마다 한 번만 들어간다.
+    private void open(int startIndex) {
+        int stackSize = ZERO;
+        if (markSafe(startIndex)) {
+            openStack[stackSize++] = startIndex;
+        }
+        while (stackSize > ZERO) {
+            int index = openStack[--stackSize];
+            int row = index / colSize;
+            int col = index - row * colSize;
+            for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+                for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                    int surroundedIndex = r * colSize + c;
+                    if (states[surroundedIndex] == UNKNOWN && markSafe(surroundedIndex)) {
+                        openStack[stackSize++] = surroundedIndex;
+                    }
+                }
+            }
+        }
+    }
+
+    // 빈 셀이면 true 를 반환해 주변도 열게 한다.
+    private boolean markSafe(int index) {
+        if (cells.isLandMine(index)) {
+            throw new IllegalStateException("지뢰 셀을 안전하다고 추론했습니다.");
+        }
+        states[index] = SAFE;
+        safeCellCount++;
+        enqueue(index);
+        enqueueSafeCellsAround(index);
+        return cells.getNearbyLandMineCount(index) == ZERO;
+    }
+
+    private void enqueueSafeCellsAround(int index) {
+        int row = index / colSize;
+        int col = index - row * colSize;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                int surroundedIndex = r * colSize + c;
+                if (states[surroundedIndex] == SAFE) {
+                    enqueue(surroundedIndex);
+                }
+            }
+        }
+    }
+
+    private void enqueue(int index) {
+        if (queued[index] || cells.getNearbyLandMineCount(index) == ZERO) {
+            return;
+        }
+        queued[index] = true;
+        queue[queueTail] = index;
+        queueTail = (queueTail + ONE) % queue.length;
+    }
+
+}
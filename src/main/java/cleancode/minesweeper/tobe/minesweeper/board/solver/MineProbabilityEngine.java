@@ -0,0 +1,628 @@
+package cleancode.minesweeper.tobe.minesweeper.board.solver;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+공개된 화면(셀 코드)만 보고 열리지 않은 셀마다 지뢰일 확률을 구한다. 깃발은 사람이 잘못 꽂았을 수도 있으므로 모르는 셀로 본다.
+- 경계(열린 숫자와 맞닿은 모르는 셀)를 숫자 제약으로 이어진 컴포넌트로 나누고, 컴포넌트마다 가능한 배치를
+  지뢰 수별로 세어 둔다(셀별로 그 셀이 지뢰인 배치 수도 함께).
+- 컴포넌트별 결과는 그 컴포넌트의 셀이나 주변 숫자가 바뀔 때까지 그대로 쓴다. 새로 열린 셀 주변의 컴포넌트만 버리고,
+  버린 컴포넌트의 숫자에서 다시 이어 붙여 새 컴포넌트를 만든다. 이때 닿은 다른 컴포넌트는 하나로 합친다.
+- 마지막에 컴포넌트별 분포와 경계 밖 셀(interior)에 남은 지뢰를 놓는 경우의 수 C(U, M - f)를 합쳐 확률을 낸다.
+  이 단계는 컴포넌트 수와 지뢰 수 범위에만 비례하므로 매번 다시 한다.
+- 컴포넌트가 너무 크거나 탐색 한도를 넘으면 그 컴포넌트만 숫자 비율로 어림한다.
+화면이 바뀌었는지는 보드 전체의 셀 코드를 한 번 읽어 이전 값과 비교해 알아낸다.
+인스턴스는 보드 하나, 스레드 하나가 쓴다.
+ */
+public class MineProbabilityEngine {
+
+    private static final int MAX_COMPONENT_CELL_COUNT = 128;
+    private static final long MAX_ENUMERATION_NODE_COUNT = 1L << 21;
+    private static final int NO_COMPONENT = -ONE;
+
+    private final GameBoard gameBoard;
+    private final int rowSize;
+    private final int colSize;
+    private final byte[] codes;
+    private final byte[] freshCodes;
+    private final int[] componentIds;
+    private final int[] localIndexes;
+    private final double[] frontierProbabilities;
+    private final Map<Integer, Component> components = new HashMap<>();
+    private final IntList seeds = new IntList();
+    private int nextComponentId;
+    private int unknownCellCount;
+    private int knownLandMineCount;
+    private double interiorProbability;
+    private long enumeratedComponentCount;
+
+    public MineProbabilityEngine(GameBoard gameBoard) {
+        this.gameBoard = gameBoard;
+        this.rowSize = gameBoard.getRowSize();
+        this.colSize = gameBoard.getColSize();
+        int size = rowSize * colSize;
+        this.codes = new byte[size];
+        this.freshCodes = new byte[size];
+        this.componentIds = new int[size];
+        this.localIndexes = new int[size];
+        this.frontierProbabilities = new double[size];
+        clear();
+    }
+
+    // 조회
+    public double getProbability(CellPosition cellPosition) {
+        refresh();
+        return probabilityOf(cellPosition.getRowIndex() * colSize + cellPosition.getColIndex());
+    }
+
+    // 열린 셀은 0, 드러난 지뢰는 1 이다.
+    public void writeProbabilities(double[] destination) {
+        if (destination.length < codes.length) {
+            throw new IllegalArgumentException("확률을 담을 공간이 부족합니다.");
+        }
+        refresh();
+        for (int index = ZERO; index < codes.length; index++) {
+            destination[index] = probabilityOf(index);
+        }
+    }
+
+    // 지금까지 컴포넌트를 새로 센 횟수. 캐시가 얼마나 맞는지 확인할 때 쓴다.
+    public long getEnumeratedComponentCount() {
+        return enumeratedComponentCount;
+    }
+
+    public int getComponentCount() {
+        return components.size();
+    }
+
+    private double probabilityOf(int index) {
+        int code = codes[index];
+        if (code == CellSnapshot.LAND_MINE_CODE) {
+            return ONE;
+        }
+        if (!isUnknownCode(code)) {
+            return ZERO;
+        }
+        if (componentIds[index] != NO_COMPONENT) {
+            return frontierProbabilities[index];
+        }
+        return interiorProbability;
+    }
+
+    // 상태 변경
+    public void refresh() {
+        gameBoard.writeSnapshotCodes(freshCodes);
+        boolean changed = false;
+        for (int index = ZERO; index < codes.length; index++) {
+            int oldCode = codes[index];
+            int newCode = freshCodes[index];
+            if (oldCode == newCode) {
+                continue;
+            }
+            if (!isUnknownCode(oldCode)) {
+                // 열린 셀이 다시 닫혔다면 새 판이 시작된 것이므로 처음부터 다시 센다.
+                clear();
+                refresh();
+                return;
+            }
+            codes[index] = (byte) newCode;
+            if (!isUnknownCode(newCode)) {
+                revealCell(index, newCode);
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            rebuildComponentsFromSeeds();
+            combineComponents();
+        }
+    }
+
+    private void clear() {
+        Arrays.fill(codes, (byte) CellSnapshot.UNCHECKED_CODE);
+        Arrays.fill(componentIds, NO_COMPONENT);
+        components.clear();
+        seeds.clear();
+        unknownCellCount = codes.length;
+        knownLandMineCount = ZERO;
+        interiorProbability = (double) gameBoard.getLandMineCount() / codes.length;
+    }
+
+    private void revealCell(int index, int code) {
+        unknownCellCount--;
+        if (code == CellSnapshot.LAND_MINE_CODE) {
+            knownLandMineCount++;
+        }
+
+        invalidateComponentOf(index);
+        if (isNumberCode(code)) {
+            seeds.add(index);
+        }
+        int row = index / colSize;
+        int col = index - row * colSize;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                int surroundedIndex = r * colSize + c;
+                invalidateComponentOf(surroundedIndex);
+                if (isNumberCode(codes[surroundedIndex])) {
+                    seeds.add(surroundedIndex);
+                }
+            }
+        }
+    }
+
+    // 컴포넌트를 버리고 그 숫자 셀들을 다시 이어 붙일 출발점으로 남긴다.
+    private void invalidateComponentOf(int index) {
+        Component component = components.remove(componentIds[index]);
+        if (component == null) {
+            return;
+        }
+        for (int constraintIndex : component.constraintIndexes) {
+            componentIds[constraintIndex] = NO_COMPONENT;
+            seeds.add(constraintIndex);
+        }
+        for (int cellIndex : component.cellIndexes) {
+            componentIds[cellIndex] = NO_COMPONENT;
+        }
+    }
+
+    private void rebuildComponentsFromSeeds() {
+        for (int i = ZERO; i < seeds.size(); i++) {
+            int seed = seeds.get(i);
+            if (componentIds[seed] == NO_COMPONENT && isConstraint(seed)) {
+                Component component = collectComponent(seed);
+                component.enumerate();
+                enumeratedComponentCount++;
+                components.put(component.id, component);
+            }
+        }
+        seeds.clear();
+    }
+
+    // 숫자 셀과 모르는 셀을 번갈아 따라가며 이어진 것을 모은다. 아직 살아 있는 다른 컴포넌트와 닿으면 그 컴포넌트를 버리고 합친다.
+    private Component collectComponent(int seed) {
+        int id = nextComponentId++;
+        IntList constraintIndexes = new IntList();
+        IntList cellIndexes = new IntList();
+        claim(seed, id);
+        constraintIndexes.add(seed);
+
+        for (int head = ZERO; head < constraintIndexes.size(); head++) {
+            int constraintIndex = constraintIndexes.get(head);
+            int row = constraintIndex / colSize;
+            int col = constraintIndex - row * colSize;
+            for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+                for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                    int cellIndex = r * colSize + c;
+                    if (!isUnknownCode(codes[cellIndex]) || componentIds[cellIndex] == id) {
+                        continue;
+                    }
+                    claim(cellIndex, id);
+                    cellIndexes.add(cellIndex);
+                    collectConstraintsAround(cellIndex, id, constraintIndexes);
+                }
+            }
+        }
+        // 어디서부터 이어 붙였든 같은 컴포넌트는 같은 순서로 세도록 정렬한다. 탐색 한도에 걸리는지도 순서에 따라 달라진다.
+        int[] sortedConstraintIndexes = constraintIndexes.toArray();
+        int[] sortedCellIndexes = cellIndexes.toArray();
+        Arrays.sort(sortedConstraintIndexes);
+        Arrays.sort(sortedCellIndexes);
+        return new Component(id, sortedConstraintIndexes, sortedCellIndexes);
+    }
+
+    private void collectConstraintsAround(int cellIndex, int id, IntList constraintIndexes) {
+        int row = cellIndex / colSize;
+        int col = cellIndex - row * colSize;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                int constraintIndex = r * colSize + c;
+                if (isNumberCode(codes[constraintIndex]) && componentIds[constraintIndex] != id) {
+                    claim(constraintIndex, id);
+                    constraintIndexes.add(constraintIndex);
+                }
+            }
+        }
+    }
+
+    private void claim(int index, int id) {
+        if (componentIds[index] != NO_COMPONENT) {
+            invalidateComponentOf(index);
+        }
+        componentIds[index] = id;
+    }
+
+    // 컴포넌트별 분포를 합쳐 경계 셀과 interior 셀의 확률을 구한다. 배율이 같은 값끼리만 나누므로 분포마다 크기를 맞춰도 된다.
+    private void combineComponents() {
+        int remainingLandMineCount = gameBoard.getLandMineCount() - knownLandMineCount;
+        List<Component> componentList = new ArrayList<>(components.values());
+        int frontierCellCount = ZERO;
+        for (Component component : componentList) {
+            frontierCellCount += component.cellIndexes.length;
+        }
+        int interiorCellCount = unknownCellCount - frontierCellCount;
+        double[] interiorWeights = interiorWeightsOf(interiorCellCount, remainingLandMineCount, frontierCellCount);
+
+        int componentCount = componentList.size();
+        double[][] prefixes = new double[componentCount + ONE][];
+        double[][] suffixes = new double[componentCount + ONE][];
+        prefixes[ZERO] = new double[]{ONE};
+        suffixes[componentCount] = new double[]{ONE};
+        for (int i = ZERO; i < componentCount; i++) {
+            prefixes[i + ONE] = convolve(prefixes[i], componentList.get(i).solutionCounts);
+        }
+        for (int i = componentCount - ONE; i >= ZERO; i--) {
+            suffixes[i] = convolve(componentList.get(i).solutionCounts, suffixes[i + ONE]);
+        }
+
+        for (int i = ZERO; i < componentCount; i++) {
+            double[] others = convolve(prefixes[i], suffixes[i + ONE]);
+            componentList.get(i).writeProbabilities(others, interiorWeights);
+        }
+        interiorProbability = interiorProbabilityOf(prefixes[componentCount], interiorWeights, interiorCellCount, remainingLandMineCount);
+    }
+
+    // interiorWeights[f] = 경계에 지뢰가 f 개일 때 남은 지뢰를 interior 에 놓는 경우의 수(가장 큰 값이 1 이 되도록 줄인 값)
+    private double[] interiorWeightsOf(int interiorCellCount, int remainingLandMineCount, int frontierCellCount) {
+        double[] logWeights = new double[frontierCellCount + ONE];
+        double maxLogWeight = Double.NEGATIVE_INFINITY;
+        double logBinomial = ZERO;
+        int interiorLandMineCount = ZERO;
+        for (int f = frontierCellCount; f >= ZERO; f--) {
+            int target = remainingLandMineCount - f;
+            if (target < ZERO || target > interiorCellCount) {
+                logWeights[f] = Double.NEGATIVE_INFINITY;
+                continue;
+            }
+            while (interiorLandMineCount < target) {
+                logBinomial += Math.log((double) (interiorCellCount - interiorLandMineCount) / (interiorLandMineCount + ONE));
+                interiorLandMineCount++;
+            }
+            logWeights[f] = logBinomial;
+            maxLogWeight = Math.max(maxLogWeight, logBinomial);
+        }
+
+        double[] weights = new double[frontierCellCount + ONE];
+        for (int f = ZERO; f <= frontierCellCount; f++) {
+            weights[f] = Math.exp(logWeights[f] - maxLogWeight);
+        }
+        return weights;
+    }
+
+    private double interiorProbabilityOf(double[] frontierCounts, double[] interiorWeights, int interiorCellCount, int remainingLandMineCount) {
+        if (interiorCellCount == ZERO) {
+            return ZERO;
+        }
+        double total = ZERO;
+        double landMineWeighted = ZERO;
+        for (int f = ZERO; f < frontierCounts.length && f < interiorWeights.length; f++) {
+            double weight = frontierCounts[f] * interiorWeights[f];
+            total += weight;
+            landMineWeighted += weight * (remainingLandMineCount - f) / interiorCellCount;
+        }
+        return total == ZERO ? (double) remainingLandMineCount / unknownCellCount : landMineWeighted / total;
+    }
+
+    private static double[] convolve(double[] left, double[] right) {
+        double[] result = new double[left.length + right.length - ONE];
+        for (int i = ZERO; i < left.length; i++) {
+            if (left[i] == ZERO) {
+                continue;
+            }
+            for (int j = ZERO; j < right.length; j++) {
+                result[i + j] += left[i] * right[j];
+            }
+        }
+        return normalize(result);
+    }
+
+    private static double[] normalize(double[] values) {
+        double max = ZERO;
+        for (double value : values) {
+            max = Math.max(max, value);
+        }
+        if (max > ZERO) {
+            for (int i = ZERO; i < values.length; i++) {
+                values[i] /= max;
+            }
+        }
+        return values;
+    }
+
+    // 판별
+    private boolean isConstraint(int index) {
+        if (!isNumberCode(codes[index])) {
+            return false;
+        }
+        int row = index / colSize;
+        int col = index - row * colSize;
+        for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+            for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                if (isUnknownCode(codes[r * colSize + c])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isUnknownCode(int code) {
+        return code == CellSnapshot.UNCHECKED_CODE || code == CellSnapshot.FLAG_CODE;
+    }
+
+    private static boolean isNumberCode(int code) {
+        return code > CellSnapshot.EMPTY_CODE && code <= CellSnapshot.MAX_NEARBY_LAND_MINE_COUNT;
+    }
+
+    private class Component {
+
+        private final int id;
+        private final int[] constraintIndexes;
+        private final int[] cellIndexes;
+        // solutionCounts[m] = 지뢰가 m 개인 배치 수, cellLandMineCounts[cell][m] = 그중 cell 이 지뢰인 배치 수
+        // 어림한 컴포넌트는 셀별 확률만 두고, 분포는 어림한 지뢰 수 하나에만 값을 둔다.
+        private double[] solutionCounts;
+        private double[][] cellLandMineCounts;
+        private double[] approximateProbabilities;
+
+        private int[] targets;
+        private int[][] cellConstraints;
+        private int[] constraintLandMineCounts;
+        private int[] constraintUnassignedCounts;
+        private int[] landMineStack;
+        private long nodeCount;
+
+        private Component(int id, int[] constraintIndexes, int[] cellIndexes) {
+            this.id = id;
+            this.constraintIndexes = constraintIndexes;
+            this.cellIndexes = cellIndexes;
+        }
+
+        private void enumerate() {
+            int cellCount = cellIndexes.length;
+            if (cellCount <= MAX_COMPONENT_CELL_COUNT) {
+                solutionCounts = new double[cellCount + ONE];
+                cellLandMineCounts = new double[cellCount][cellCount + ONE];
+                prepare();
+                search(ZERO, ZERO);
+                if (nodeCount <= MAX_ENUMERATION_NODE_COUNT && hasSolution()) {
+                    normalizeCounts();
+                    return;
+                }
+            }
+            cellLandMineCounts = null;
+            approximate();
+        }
+
+        private void prepare() {
+            for (int local = ZERO; local < cellIndexes.length; local++) {
+                localIndexes[cellIndexes[local]] = local;
+            }
+
+            targets = new int[constraintIndexes.length];
+            int[][] constraintCells = new int[constraintIndexes.length][];
+            int[] cellConstraintCounts = new int[cellIndexes.length];
+            for (int k = ZERO; k < constraintIndexes.length; k++) {
+                targets[k] = codes[constraintIndexes[k]] - landMineCountAround(constraintIndexes[k]);
+                constraintCells[k] = unknownLocalIndexesAround(constraintIndexes[k]);
+                for (int local : constraintCells[k]) {
+                    cellConstraintCounts[local]++;
+                }
+            }
+
+            cellConstraints = new int[cellIndexes.length][];
+            for (int local = ZERO; local < cellIndexes.length; local++) {
+                cellConstraints[local] = new int[cellConstraintCounts[local]];
+                cellConstraintCounts[local] = ZERO;
+            }
+            constraintUnassignedCounts = new int[constraintIndexes.length];
+            for (int k = ZERO; k < constraintIndexes.length; k++) {
+                for (int local : constraintCells[k]) {
+                    cellConstraints[local][cellConstraintCounts[local]++] = k;
+                }
+                constraintUnassignedCounts[k] = constraintCells[k].length;
+            }
+            constraintLandMineCounts = new int[constraintIndexes.length];
+            landMineStack = new int[cellIndexes.length];
+        }
+
+        private int landMineCountAround(int index) {
+            int count = ZERO;
+            int row = index / colSize;
+            int col = index - row * colSize;
+            for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+                for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                    if (codes[r * colSize + c] == CellSnapshot.LAND_MINE_CODE) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        private int[] unknownLocalIndexesAround(int index) {
+            IntList locals = new IntList();
+            int row = index / colSize;
+            int col = index - row * colSize;
+            for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+                for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                    int cellIndex = r * colSize + c;
+                    if (isUnknownCode(codes[cellIndex])) {
+                        locals.add(localIndexes[cellIndex]);
+                    }
+                }
+            }
+            return locals.toArray();
+        }
+
+        private void search(int local, int landMineCount) {
+            if (++nodeCount > MAX_ENUMERATION_NODE_COUNT) {
+                return;
+            }
+            if (local == cellIndexes.length) {
+                solutionCounts[landMineCount]++;
+                for (int i = ZERO; i < landMineCount; i++) {
+                    cellLandMineCounts[landMineStack[i]][landMineCount]++;
+                }
+                return;
+            }
+
+            if (assign(local, false)) {
+                search(local + ONE, landMineCount);
+            }
+            unassign(local, false);
+
+            if (assign(local, true)) {
+                landMineStack[landMineCount] = local;
+                search(local + ONE, landMineCount + ONE);
+            }
+            unassign(local, true);
+        }
+
+        private boolean assign(int local, boolean landMine) {
+            boolean feasible = true;
+            for (int k : cellConstraints[local]) {
+                constraintUnassignedCounts[k]--;
+                if (landMine) {
+                    constraintLandMineCounts[k]++;
+                }
+                if (constraintLandMineCounts[k] > targets[k] || constraintLandMineCounts[k] + constraintUnassignedCounts[k] < targets[k]) {
+                    feasible = false;
+                }
+            }
+            return feasible;
+        }
+
+        private void unassign(int local, boolean landMine) {
+            for (int k : cellConstraints[local]) {
+                constraintUnassignedCounts[k]++;
+                if (landMine) {
+                    constraintLandMineCounts[k]--;
+                }
+            }
+        }
+
+        private boolean hasSolution() {
+            for (double solutionCount : solutionCounts) {
+                if (solutionCount > ZERO) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 배치 수가 아주 커질 수 있으므로 같은 배율로 줄여 둔다.
+        private void normalizeCounts() {
+            double max = ZERO;
+            for (double solutionCount : solutionCounts) {
+                max = Math.max(max, solutionCount);
+            }
+            for (int m = ZERO; m < solutionCounts.length; m++) {
+                solutionCounts[m] /= max;
+                for (double[] cellLandMineCount : cellLandMineCounts) {
+                    cellLandMineCount[m] /= max;
+                }
+            }
+        }
+
+        // 셀마다 주변 숫자의 남은 지뢰 비율을 평균 내고, 컴포넌트 전체 지뢰 수는 그 합으로 고정한다.
+        private void approximate() {
+            approximateProbabilities = new double[cellIndexes.length];
+            double expectedLandMineCount = ZERO;
+            for (int local = ZERO; local < cellIndexes.length; local++) {
+                approximateProbabilities[local] = averageConstraintRatioAround(cellIndexes[local]);
+                expectedLandMineCount += approximateProbabilities[local];
+            }
+
+            int landMineCount = (int) Math.round(expectedLandMineCount);
+            solutionCounts = new double[landMineCount + ONE];
+            solutionCounts[landMineCount] = ONE;
+        }
+
+        private double averageConstraintRatioAround(int cellIndex) {
+            double ratioSum = ZERO;
+            int constraintCount = ZERO;
+            int row = cellIndex / colSize;
+            int col = cellIndex - row * colSize;
+            for (int r = Math.max(ZERO, row - ONE); r <= Math.min(rowSize - ONE, row + ONE); r++) {
+                for (int c = Math.max(ZERO, col - ONE); c <= Math.min(colSize - ONE, col + ONE); c++) {
+                    int constraintIndex = r * colSize + c;
+                    if (isNumberCode(codes[constraintIndex])) {
+                        int unknownCount = unknownLocalIndexesAround(constraintIndex).length;
+                        ratioSum += (double) (codes[constraintIndex] - landMineCountAround(constraintIndex)) / unknownCount;
+                        constraintCount++;
+                    }
+                }
+            }
+            return ratioSum / constraintCount;
+        }
+
+        // others[r] = 다른 컴포넌트 전체에 지뢰가 r 개인 배치 수
+        private void writeProbabilities(double[] others, double[] interiorWeights) {
+            if (approximateProbabilities != null) {
+                for (int local = ZERO; local < cellIndexes.length; local++) {
+                    frontierProbabilities[cellIndexes[local]] = approximateProbabilities[local];
+                }
+                return;
+            }
+
+            double[] weights = new double[solutionCounts.length];
+            double total = ZERO;
+            for (int m = ZERO; m < solutionCounts.length; m++) {
+                for (int r = ZERO; r < others.length && m + r < interiorWeights.length; r++) {
+                    weights[m] += others[r] * interiorWeights[m + r];
+                }
+                total += solutionCounts[m] * weights[m];
+            }
+
+            for (int local = ZERO; local < cellIndexes.length; local++) {
+                double landMineWeighted = ZERO;
+                for (int m = ZERO; m < solutionCounts.length; m++) {
+                    landMineWeighted += cellLandMineCounts[local][m] * weights[m];
+                }
+                frontierProbabilities[cellIndexes[local]] = total == ZERO ? ZERO : landMineWeighted / total;
+            }
+        }
+    }
+
+    private static class IntList {
+
+        private int[] items = new int[16];
+        private int size;
+
+        private void add(int value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+
+        private int get(int i) {
+            return items[i];
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void clear() {
+            size = ZERO;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+
+}
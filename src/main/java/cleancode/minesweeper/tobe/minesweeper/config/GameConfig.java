@@ -1,17 +1,31 @@
 package cleancode.minesweeper.tobe.minesweeper.config;
 
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoardProvider;
+import cleancode.minesweeper.tobe.minesweeper.board.SynchronousGameBoardProvider;
 import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
-import cleancode.minesweeper.tobe.minesweeper.io.ConsoleInputHandler;
-import cleancode.minesweeper.tobe.minesweeper.io.ConsoleOutputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.InputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.OutputHandler;
 
 public class GameConfig {
 
     private final GameLevel gameLevel;
-    private final ConsoleInputHandler inputHandler;
-    private final ConsoleOutputHandler outputHandler;
+    private final GameBoardProvider gameBoardProvider;
+    private final InputHandler inputHandler;
+    private final OutputHandler outputHandler;
 
-    public GameConfig(GameLevel gameLevel, ConsoleInputHandler inputHandler, ConsoleOutputHandler outputHandler) {
+    public GameConfig(GameLevel gameLevel, InputHandler inputHandler, OutputHandler outputHandler) {
+        this(gameLevel, BoardRandom.create(), inputHandler, outputHandler);
+    }
+
+    public GameConfig(GameLevel gameLevel, BoardRandom boardRandom, InputHandler inputHandler, OutputHandler outputHandler) {
+        this(gameLevel, new SynchronousGameBoardProvider(gameLevel, boardRandom), inputHandler, outputHandler);
+    }
+
+    // 보드 풀(GameBoardPool) 같은 다른 방식으로 보드를 받아 올 때 사용한다.
+    public GameConfig(GameLevel gameLevel, GameBoardProvider gameBoardProvider, InputHandler inputHandler, OutputHandler outputHandler) {
         this.gameLevel = gameLevel;
+        this.gameBoardProvider = gameBoardProvider;
         this.inputHandler = inputHandler;
         this.outputHandler = outputHandler;
     }
@@ -20,11 +34,15 @@ public class GameConfig {
         return gameLevel;
     }
 
-    public ConsoleInputHandler getInputHandler() {
+    public GameBoardProvider getGameBoardProvider() {
+        return gameBoardProvider;
+    }
+
+    public InputHandler getInputHandler() {
         return inputHandler;
     }
 
-    public ConsoleOutputHandler getOutputHandler() {
+    public OutputHandler getOutputHandler() {
         return outputHandler;
     }
 }
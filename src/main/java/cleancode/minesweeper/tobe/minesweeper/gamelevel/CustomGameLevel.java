@@ -0,0 +1,33 @@
+package cleancode.minesweeper.tobe.minesweeper.gamelevel;
+
+public class CustomGameLevel implements GameLevel {
+
+    private final int rowSize;
+    private final int colSize;
+    private final int landMineCount;
+
+    private CustomGameLevel(int rowSize, int colSize, int landMineCount) {
+        this.rowSize = rowSize;
+        this.colSize = colSize;
+        this.landMineCount = landMineCount;
+    }
+
+    public static CustomGameLevel of(int rowSize, int colSize, int landMineCount) {
+        return new CustomGameLevel(rowSize, colSize, landMineCount);
+    }
+
+    @Override
+    public int getRowSize() {
+        return rowSize;
+    }
+
+    @Override
+    public int getColSize() {
+        return colSize;
+    }
+
+    @Override
+    public int getLandMineCount() {
+        return landMineCount;
+    }
+}
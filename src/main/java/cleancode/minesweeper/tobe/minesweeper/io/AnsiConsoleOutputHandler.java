@@ -0,0 +1,81 @@
+package cleancode.minesweeper.tobe.minesweeper.io;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.chunk.ChunkedGameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+ANSI 커서 이동을 지원하는 터미널(SSH 등)용 출력 핸들러.
+첫 화면은 화면을 지우고 보드 전체를 그리고, 이후에는 이전 화면과 셀 코드가 달라진 셀만 커서를 옮겨 다시 그린다.
+보드 아래에 출력된 안내 문구는 매 화면마다 지우므로 보드는 항상 화면 맨 위에 고정된다.
+보드가 터미널 높이보다 크면 화면이 스크롤되어 좌표가 어긋나므로 ConsoleOutputHandler 를 사용한다.
+ */
+public class AnsiConsoleOutputHandler extends ConsoleOutputHandler {
+
+    private static final int CELL_WIDTH = 2;
+
+    private byte[] lastCodes = new byte[ZERO];
+    private int lastRowSize;
+    private int lastColSize;
+
+    @Override
+    public void showBoard(GameBoard gameBoard) {
+        BoardFrame boardFrame = getBoardFrame();
+        boardFrame.clear();
+
+        if (isSameShapeAsLastFrame(gameBoard)) {
+            appendChangedCells(gameBoard);
+        } else {
+            appendWholeBoard(gameBoard);
+        }
+
+        boardFrame.appendCursorMove(headerLineCountOf(gameBoard) + gameBoard.getRowSize() + 2, ONE)
+                .appendClearToEndOfScreen();
+        boardFrame.writeTo(System.out);
+    }
+
+    // 뷰포트 화면은 보드 전체를 새로 그리므로, 다음 showBoard 가 이전 화면과 비교하지 않도록 기억해 둔 화면을 버린다.
+    @Override
+    public void showBoardViewport(ChunkedGameBoard gameBoard, CellPosition topLeft, int rowCount, int colCount) {
+        lastRowSize = ZERO;
+        lastColSize = ZERO;
+        super.showBoardViewport(gameBoard, topLeft, rowCount, colCount);
+    }
+
+    private boolean isSameShapeAsLastFrame(GameBoard gameBoard) {
+        return lastRowSize == gameBoard.getRowSize() && lastColSize == gameBoard.getColSize();
+    }
+
+    private void appendWholeBoard(GameBoard gameBoard) {
+        getBoardFrame().appendClearScreen();
+        appendBoard(gameBoard);
+
+        lastRowSize = gameBoard.getRowSize();
+        lastColSize = gameBoard.getColSize();
+        lastCodes = readSnapshotCodes(gameBoard).clone();
+    }
+
+    private void appendChangedCells(GameBoard gameBoard) {
+        BoardFrame boardFrame = getBoardFrame();
+        int firstCellTerminalRow = headerLineCountOf(gameBoard) + ONE;
+        int firstCellTerminalCol = rowLabelWidthOf(gameBoard) + 3;
+        byte[] codes = readSnapshotCodes(gameBoard);
+
+        for (int row = ZERO; row < lastRowSize; row++) {
+            for (int col = ZERO; col < lastColSize; col++) {
+                int index = row * lastColSize + col;
+                if (codes[index] == lastCodes[index]) {
+                    continue;
+                }
+
+                lastCodes[index] = codes[index];
+                boardFrame.appendCursorMove(firstCellTerminalRow + row, firstCellTerminalCol + col * CELL_WIDTH)
+                        .append(findCellSignOf(codes[index]));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package cleancode.minesweeper.tobe.minesweeper.io;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/*
+한 화면(frame)을 재사용하는 버퍼에 모아 두었다가 한 번에 출력한다.
+셀마다 System.out.print 를 호출하는 대신, System.out 과 같은 기본 문자셋으로 인코딩한 바이트를 write 한 번으로 내보낸다.
+ */
+public class BoardFrame {
+
+    private static final int INITIAL_CAPACITY = 4 * 1024;
+    private static final String ESC = "\u001B[";
+
+    private final StringBuilder text = new StringBuilder(INITIAL_CAPACITY);
+    private final CharsetEncoder encoder = Charset.defaultCharset().newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private ByteBuffer bytes = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+    public void clear() {
+        text.setLength(0);
+    }
+
+    public BoardFrame append(String value) {
+        text.append(value);
+        return this;
+    }
+
+    public BoardFrame append(char value) {
+        text.append(value);
+        return this;
+    }
+
+    public BoardFrame append(int value) {
+        text.append(value);
+        return this;
+    }
+
+    public BoardFrame appendPadded(int value, int width) {
+        for (int i = digitsOf(value); i < width; i++) {
+            text.append(' ');
+        }
+        text.append(value);
+        return this;
+    }
+
+    // 터미널 좌표는 1부터 시작한다.
+    public BoardFrame appendCursorMove(int terminalRow, int terminalCol) {
+        text.append(ESC).append(terminalRow).append(';').append(terminalCol).append('H');
+        return this;
+    }
+
+    public BoardFrame appendClearScreen() {
+        text.append(ESC).append("2J").append(ESC).append('H');
+        return this;
+    }
+
+    public BoardFrame appendClearToEndOfScreen() {
+        text.append(ESC).append('J');
+        return this;
+    }
+
+    public void writeTo(PrintStream out) {
+        encode();
+        out.write(bytes.array(), 0, bytes.position());
+        out.flush();
+    }
+
+    public static int digitsOf(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private void encode() {
+        while (true) {
+            bytes.clear();
+            encoder.reset();
+            CharBuffer chars = CharBuffer.wrap(text);
+
+            CoderResult result = encoder.encode(chars, bytes, true);
+            if (!result.isOverflow()) {
+                result = encoder.flush(bytes);
+            }
+            if (!result.isOverflow()) {
+                return;
+            }
+            bytes = ByteBuffer.allocate(bytes.capacity() * 2);
+        }
+    }
+
+}
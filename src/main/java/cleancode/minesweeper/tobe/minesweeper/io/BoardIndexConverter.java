@@ -5,23 +5,51 @@ import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
 import static cleancode.minesweeper.tobe.GameApplication.ONE;
 import static cleancode.minesweeper.tobe.GameApplication.ZERO;
 
+/*
+열은 엑셀처럼 a ~ z 다음에 aa, ab, ... zz, aaa 순서로 이어지는 알파벳으로 표기한다. (예: ab12 = 28번째 열, 12번째 행)
+ */
 public class BoardIndexConverter {
 
     private static final char BASE_CHAR_FOR_COL = 'a';
+    private static final char LAST_CHAR_FOR_COL = 'z';
+    private static final int ALPHABET_COUNT = 26;
 
     public int getSelectedRowIndex(String cellInput) {
-        String cellInputRow = cellInput.substring(ONE);
+        String cellInputRow = cellInput.substring(colLabelLengthOf(cellInput));
         return convertRowFrom(cellInputRow);
     }
 
     public int getSelectedColIndex(String cellInput) {
-        char cellInputCol = cellInput.charAt(ZERO);
+        String cellInputCol = cellInput.substring(ZERO, colLabelLengthOf(cellInput));
         return convertColFrom(cellInputCol);
     }
 
+    public String getColLabelOf(int colIndex) {
+        if (colIndex < ZERO) {
+            throw new IllegalArgumentException("올바르지 않은 좌표입니다.");
+        }
+
+        StringBuilder label = new StringBuilder();
+        for (long remaining = colIndex + 1L; remaining > ZERO; remaining = (remaining - ONE) / ALPHABET_COUNT) {
+            label.append((char) (BASE_CHAR_FOR_COL + (remaining - ONE) % ALPHABET_COUNT));
+        }
+        return label.reverse().toString();
+    }
+
+    private int colLabelLengthOf(String cellInput) {
+        int length = ZERO;
+        while (length < cellInput.length() && isColChar(cellInput.charAt(length))) {
+            length++;
+        }
+        return length;
+    }
+
+    private boolean isColChar(char value) {
+        return BASE_CHAR_FOR_COL <= value && value <= LAST_CHAR_FOR_COL;
+    }
 
     private int convertRowFrom(String cellInputRow) {
-        int rowIndex = Integer.parseInt(cellInputRow) - ONE;
+        int rowIndex = parseNumber(cellInputRow) - ONE;
 
         if (rowIndex < 0) {
             throw new GameException("잘못된 입력입니다.");
@@ -30,13 +58,26 @@ public class BoardIndexConverter {
         return rowIndex;
     }
 
-    private int convertColFrom(char cellInputCol) {
-        int colIndex = cellInputCol - BASE_CHAR_FOR_COL;
+    private int parseNumber(String cellInputRow) {
+        try {
+            return Integer.parseInt(cellInputRow);
+        } catch (NumberFormatException e) {
+            throw new GameException("잘못된 입력입니다.");
+        }
+    }
 
-        if (colIndex < 0) {
+    private int convertColFrom(String cellInputCol) {
+        if (cellInputCol.isEmpty()) {
             throw new GameException("잘못된 입력입니다.");
         }
 
-        return colIndex;
+        long colNumber = ZERO;
+        for (int i = ZERO; i < cellInputCol.length(); i++) {
+            colNumber = colNumber * ALPHABET_COUNT + (cellInputCol.charAt(i) - BASE_CHAR_FOR_COL + ONE);
+            if (colNumber - ONE > Integer.MAX_VALUE) {
+                throw new GameException("잘못된 입력입니다.");
+            }
+        }
+        return (int) (colNumber - ONE);
     }
 }
@@ -2,20 +2,21 @@ package cleancode.minesweeper.tobe.minesweeper.io;
 
 import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.chunk.ChunkedGameBoard;
 import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
 import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
 import cleancode.minesweeper.tobe.minesweeper.io.sign.CellSignFinder;
 import cleancode.minesweeper.tobe.minesweeper.io.sign.CellSignProvider;
 
-import java.util.List;
-import java.util.stream.IntStream;
-
 import static cleancode.minesweeper.tobe.GameApplication.ONE;
 import static cleancode.minesweeper.tobe.GameApplication.ZERO;
 
-public class ConsoleOutputHandler implements OutputHandler {
+public class ConsoleOutputHandler implements EndlessOutputHandler {
 
     private final CellSignFinder cellSignFinder = new CellSignFinder();
+    private final BoardFrame boardFrame = new BoardFrame();
+    private final BoardIndexConverter boardIndexConverter = new BoardIndexConverter();
+    private byte[] snapshotCodes = new byte[ZERO];
 
     @Override
     public void showGameStartComments() {
@@ -26,29 +27,108 @@ public class ConsoleOutputHandler implements OutputHandler {
 
     @Override
     public void showBoard(GameBoard gameBoard) {
-        String alphabets = generateColAlphabets(gameBoard);
-
-        System.out.println("    " + alphabets);
-        for (int row = ZERO; row < gameBoard.getRowSize(); row++) {
-            System.out.printf("%2d  ", row + ONE);
-            for (int col = ZERO; col < gameBoard.getColSize(); col++) {
-                CellPosition cellPosition = CellPosition.of(row, col);
-                CellSnapshot snapshot = gameBoard.getSnapshot(cellPosition);
-//                String cellSign = cellSignFinder.findCellSignFrom(snapshot);
-                String cellSign = CellSignProvider.findCellSignFrom(snapshot);
-                System.out.print(cellSign + " ");
+        boardFrame.clear();
+        appendBoard(gameBoard);
+        boardFrame.writeTo(System.out);
+    }
+
+    @Override
+    public void showBoardViewport(ChunkedGameBoard gameBoard, CellPosition topLeft, int rowCount, int colCount) {
+        ensureSnapshotCodesCapacity(rowCount * colCount);
+        gameBoard.writeSnapshotCodes(topLeft, rowCount, colCount, snapshotCodes, ZERO);
+
+        boardFrame.clear();
+        appendCells(snapshotCodes, topLeft.getRowIndex(), topLeft.getColIndex(), rowCount, colCount);
+        boardFrame.writeTo(System.out);
+    }
+
+    protected void appendBoard(GameBoard gameBoard) {
+        byte[] codes = readSnapshotCodes(gameBoard);
+        appendCells(codes, ZERO, ZERO, gameBoard.getRowSize(), gameBoard.getColSize());
+    }
+
+    // codes 는 (firstRow, firstCol) 부터 rowCount x colCount 영역의 셀 코드를 행 순서대로 담고 있다.
+    private void appendCells(byte[] codes, int firstRow, int firstCol, int rowCount, int colCount) {
+        int rowLabelWidth = rowLabelWidthOf(firstRow + rowCount);
+
+        appendColLabels(firstCol, colCount, rowLabelWidth);
+        for (int row = ZERO; row < rowCount; row++) {
+            boardFrame.appendPadded(firstRow + row + ONE, rowLabelWidth).append("  ");
+            for (int col = ZERO; col < colCount; col++) {
+                boardFrame.append(findCellSignOf(codes[row * colCount + col])).append(' ');
             }
-            System.out.println();
+            boardFrame.append('\n');
         }
-        System.out.println();
+        boardFrame.append('\n');
+    }
+
+    // 두 글자 이상인 열 이름(aa, ab, ...)은 한 글자씩 세로로 쌓아 오른쪽 끝을 맞춘다.
+    private void appendColLabels(int firstCol, int colCount, int rowLabelWidth) {
+        String[] colLabels = new String[colCount];
+        for (int col = ZERO; col < colCount; col++) {
+            colLabels[col] = boardIndexConverter.getColLabelOf(firstCol + col);
+        }
+
+        int headerLineCount = headerLineCountOf(firstCol, colCount);
+        for (int line = ZERO; line < headerLineCount; line++) {
+            appendBlank(rowLabelWidth + 2);
+            for (int col = ZERO; col < colCount; col++) {
+                if (col > ZERO) {
+                    boardFrame.append(' ');
+                }
+                int charIndex = line - (headerLineCount - colLabels[col].length());
+                boardFrame.append(charIndex < ZERO ? ' ' : colLabels[col].charAt(charIndex));
+            }
+            boardFrame.append('\n');
+        }
+    }
+
+    // 보드 전체의 셀 코드를 재사용하는 버퍼에 한 번에 읽어 온다.
+    protected byte[] readSnapshotCodes(GameBoard gameBoard) {
+        ensureSnapshotCodesCapacity(gameBoard.getRowSize() * gameBoard.getColSize());
+        gameBoard.writeSnapshotCodes(snapshotCodes);
+        return snapshotCodes;
     }
 
-    private String generateColAlphabets(GameBoard gameBoard) {
-        List<String> alphabets = IntStream.range(ZERO, gameBoard.getColSize())
-                .mapToObj(index -> (char) ('a' + index))
-                .map(Object::toString)
-                .toList();
-        return String.join(" ", alphabets);
+    private void ensureSnapshotCodesCapacity(int cellCount) {
+        if (snapshotCodes.length != cellCount) {
+            snapshotCodes = new byte[cellCount];
+        }
+    }
+
+    protected String findCellSignOf(int snapshotCode) {
+        CellSnapshot snapshot = CellSnapshot.ofCode(snapshotCode);
+//        return cellSignFinder.findCellSignFrom(snapshot);
+        return CellSignProvider.findCellSignFrom(snapshot);
+    }
+
+    protected int rowLabelWidthOf(GameBoard gameBoard) {
+        return rowLabelWidthOf(gameBoard.getRowSize());
+    }
+
+    private int rowLabelWidthOf(int lastRowNumber) {
+        return Math.max(2, BoardFrame.digitsOf(lastRowNumber));
+    }
+
+    protected int headerLineCountOf(GameBoard gameBoard) {
+        return headerLineCountOf(ZERO, gameBoard.getColSize());
+    }
+
+    private int headerLineCountOf(int firstCol, int colCount) {
+        if (colCount == ZERO) {
+            return ONE;
+        }
+        return boardIndexConverter.getColLabelOf(firstCol + colCount - ONE).length();
+    }
+
+    protected BoardFrame getBoardFrame() {
+        return boardFrame;
+    }
+
+    private void appendBlank(int count) {
+        for (int i = ZERO; i < count; i++) {
+            boardFrame.append(' ');
+        }
     }
 
     @Override
@@ -68,7 +148,7 @@ public class ConsoleOutputHandler implements OutputHandler {
 
     @Override
     public void showCommentForUserAction() {
-        System.out.println("선택한 셀에 대한 행위를 선택하세요. (1: 오픈, 2: 깃발 꽂기)");
+        System.out.println("선택한 셀에 대한 행위를 선택하세요. (1: 오픈, 2: 깃발 꽂기, 3: 힌트)");
     }
 
     @Override
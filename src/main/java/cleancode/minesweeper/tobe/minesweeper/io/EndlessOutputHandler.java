@@ -0,0 +1,11 @@
+package cleancode.minesweeper.tobe.minesweeper.io;
+
+import cleancode.minesweeper.tobe.minesweeper.board.chunk.ChunkedGameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+
+/*
+끝없는 보드는 전체를 그릴 수 없으므로 뷰포트만 그린다. EndlessMinesweeper 에 쓸 출력 핸들러만 구현하면 된다.
+ */
+public interface EndlessOutputHandler extends OutputHandler {
+    void showBoardViewport(ChunkedGameBoard gameBoard, CellPosition topLeft, int rowCount, int colCount);
+}
@@ -0,0 +1,36 @@
+package cleancode.minesweeper.tobe.minesweeper.io;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+/*
+사용자 입력을 한 줄씩 받아 해석하는 InputHandler. 한 줄을 어디서 읽어 올지만 구현체가 정한다.
+ */
+public abstract class LineInputHandler implements InputHandler {
+
+    private final BoardIndexConverter boardIndexConverter = new BoardIndexConverter();
+
+    @Override
+    public UserAction getUserActionFromUser() {
+        String userInput = readLine();
+
+        return switch (userInput) {
+            case "1" -> UserAction.OPEN;
+            case "2" -> UserAction.FLAG;
+            case "3" -> UserAction.HINT;
+            default -> UserAction.UNKNOWN;
+        };
+    }
+
+    @Override
+    public CellPosition getCellPositionFromUser() {
+        String userInput = readLine();
+
+        int colIndex = boardIndexConverter.getSelectedColIndex(userInput);
+        int rowIndex = boardIndexConverter.getSelectedRowIndex(userInput);
+
+        return CellPosition.of(rowIndex, colIndex);
+    }
+
+    protected abstract String readLine();
+}
@@ -1,6 +1,7 @@
 package cleancode.minesweeper.tobe.minesweeper.io.sign;
 
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
 
 import java.util.List;
 
@@ -18,11 +19,25 @@ public class CellSignFinder {
             new UncheckedCellSignProvider()
     );
 
+    private final CellSignProvidable[] providersByStatus = createProvidersByStatus();
+
+    // 구현체마다 맡은 상태를 한 번만 읽어 상태의 ordinal 로 바로 찾는다. 같은 상태를 맡은 구현체가 여럿이면 먼저 등록된 것을 쓴다.
     public String findCellSignFrom(CellSnapshot snapshot) {
-        return CELL_SIGN_PROVIDERS.stream()
-                .filter(provider -> provider.supports(snapshot))
-                .findFirst()
-                .map(provider -> provider.provide(snapshot))
-                .orElseThrow(() -> new IllegalArgumentException("확인할 수 없는 셀입니다."));
+        CellSignProvidable provider = providersByStatus[snapshot.getStatus().ordinal()];
+        if (provider == null) {
+            throw new IllegalArgumentException("확인할 수 없는 셀입니다.");
+        }
+        return provider.provide(snapshot);
+    }
+
+    private static CellSignProvidable[] createProvidersByStatus() {
+        CellSignProvidable[] providersByStatus = new CellSignProvidable[CellSnapshotStatus.values().length];
+        for (CellSignProvidable provider : CELL_SIGN_PROVIDERS) {
+            int statusOrdinal = provider.getSupportedStatus().ordinal();
+            if (providersByStatus[statusOrdinal] == null) {
+                providersByStatus[statusOrdinal] = provider;
+            }
+        }
+        return providersByStatus;
     }
 }
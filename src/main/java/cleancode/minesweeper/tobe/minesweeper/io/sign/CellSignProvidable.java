@@ -1,9 +1,12 @@
 package cleancode.minesweeper.tobe.minesweeper.io.sign;
 
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
 
 public interface CellSignProvidable {
     String provide(CellSnapshot cellSnapshot);
 
     boolean supports(CellSnapshot cellSnapshot);
+
+    CellSnapshotStatus getSupportedStatus();
 }
@@ -3,8 +3,6 @@ package cleancode.minesweeper.tobe.minesweeper.io.sign;
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
 
-import java.util.Arrays;
-
 public enum CellSignProvider implements CellSignProvidable {
     EMPTY(CellSnapshotStatus.EMPTY) {
         @Override
@@ -42,7 +40,7 @@ public enum CellSignProvider implements CellSignProvidable {
     NUMBER(CellSnapshotStatus.NUMBER) {
         @Override
         public String provide(CellSnapshot cellSnapshot) {
-            return String.valueOf(cellSnapshot.getNearbyLandMineCount());
+            return NumberCellSignProvider.NUMBER_SIGNS[cellSnapshot.getNearbyLandMineCount()];
         }
 
         @Override
@@ -67,6 +65,8 @@ public enum CellSignProvider implements CellSignProvidable {
     private static final String FLAG_SIGN = "⚑";
     private static final String LAND_MINE_SIGN = "☼";
     private static final String UNCHECKED_SIGN = "□";
+    private static final CellSignProvider[] PROVIDERS_BY_STATUS = createProvidersByStatus();
+
     private final CellSnapshotStatus status;
 
     CellSignProvider(CellSnapshotStatus status) {
@@ -83,15 +83,30 @@ public enum CellSignProvider implements CellSignProvidable {
         return cellSnapshot.isSameStatus(status);
     }
 
+    @Override
+    public CellSnapshotStatus getSupportedStatus() {
+        return status;
+    }
+
     public static String findCellSignFrom(CellSnapshot snapshot) {
         CellSignProvider cellSignProvider = findBy(snapshot);
         return cellSignProvider.provide(snapshot);
     }
 
+    // 셀을 그릴 때마다 values() 를 순회하지 않도록 CellSnapshotStatus 의 ordinal 로 바로 찾는다.
     private static CellSignProvider findBy(CellSnapshot snapshot) {
-        return Arrays.stream(values())
-                .filter(provider -> provider.supports(snapshot))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("확인할 수 없는 셀입니다."));
+        CellSignProvider cellSignProvider = PROVIDERS_BY_STATUS[snapshot.getStatus().ordinal()];
+        if (cellSignProvider == null) {
+            throw new IllegalArgumentException("확인할 수 없는 셀입니다.");
+        }
+        return cellSignProvider;
+    }
+
+    private static CellSignProvider[] createProvidersByStatus() {
+        CellSignProvider[] providersByStatus = new CellSignProvider[CellSnapshotStatus.values().length];
+        for (CellSignProvider provider : values()) {
+            providersByStatus[provider.status.ordinal()] = provider;
+        }
+        return providersByStatus;
     }
 }
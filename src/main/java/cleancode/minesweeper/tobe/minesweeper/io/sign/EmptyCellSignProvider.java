@@ -1,6 +1,7 @@
 package cleancode.minesweeper.tobe.minesweeper.io.sign;
 
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
 
 import static cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus.EMPTY;
 
@@ -17,4 +18,9 @@ public class EmptyCellSignProvider implements CellSignProvidable {
     public boolean supports(CellSnapshot cellSnapshot) {
         return cellSnapshot.isSameStatus(EMPTY);
     }
+
+    @Override
+    public CellSnapshotStatus getSupportedStatus() {
+        return EMPTY;
+    }
 }
@@ -1,6 +1,7 @@
 package cleancode.minesweeper.tobe.minesweeper.io.sign;
 
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
 
 import static cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus.FLAG;
 
@@ -17,4 +18,9 @@ public class FlagCellSignProvider implements CellSignProvidable {
     public boolean supports(CellSnapshot cellSnapshot) {
         return cellSnapshot.isSameStatus(FLAG);
     }
+
+    @Override
+    public CellSnapshotStatus getSupportedStatus() {
+        return FLAG;
+    }
 }
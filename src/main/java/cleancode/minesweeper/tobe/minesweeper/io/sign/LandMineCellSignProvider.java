@@ -1,6 +1,7 @@
 package cleancode.minesweeper.tobe.minesweeper.io.sign;
 
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
 
 import static cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus.LAND_MINE;
 
@@ -17,4 +18,9 @@ public class LandMineCellSignProvider implements CellSignProvidable {
     public boolean supports(CellSnapshot cellSnapshot) {
         return cellSnapshot.isSameStatus(LAND_MINE);
     }
+
+    @Override
+    public CellSnapshotStatus getSupportedStatus() {
+        return LAND_MINE;
+    }
 }
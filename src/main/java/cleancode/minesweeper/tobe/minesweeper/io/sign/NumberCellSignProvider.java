@@ -1,18 +1,27 @@
 package cleancode.minesweeper.tobe.minesweeper.io.sign;
 
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
 
 import static cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus.NUMBER;
 
 public class NumberCellSignProvider implements CellSignProvidable {
 
+    // CellSignProvider.NUMBER 도 같은 표를 쓴다.
+    static final String[] NUMBER_SIGNS = {"0", "1", "2", "3", "4", "5", "6", "7", "8"};
+
     @Override
     public String provide(CellSnapshot cellSnapshot) {
-        return String.valueOf(cellSnapshot.getNearbyLandMineCount());
+        return NUMBER_SIGNS[cellSnapshot.getNearbyLandMineCount()];
     }
 
     @Override
     public boolean supports(CellSnapshot cellSnapshot) {
         return cellSnapshot.isSameStatus(NUMBER);
     }
+
+    @Override
+    public CellSnapshotStatus getSupportedStatus() {
+        return NUMBER;
+    }
 }
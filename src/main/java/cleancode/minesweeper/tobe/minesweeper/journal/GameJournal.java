@@ -0,0 +1,422 @@
+package cleancode.minesweeper.tobe.minesweeper.journal;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardGenerationMode;
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+여러 판의 수를 디렉터리 하나에 이어 쓰는 저널(JournalFormat 참고).
+- 기록은 메모리 버퍼에 쌓이고, 쓰기 스레드 하나가 쌓인 만큼을 한 번에 FileChannel 에 쓴 뒤 fsync 한다(group commit).
+  fsync 를 기다리는 동안 들어온 기록은 다음 fsync 에 함께 실린다. 수를 둔 스레드는 자기 기록이 fsync 될 때까지 기다린다.
+- 세그먼트에 새로 쌓인 기록이 maxSegmentSize 를 넘으면 새 세그먼트로 바꾼다. 새 세그먼트의 앞에는 살아 있는 판마다
+  시작 기록, 마지막 스냅샷, 그 뒤의 수만 옮겨 적고, fsync 가 끝나면 이전 세그먼트를 지운다.
+  옮겨 적은 양은 maxSegmentSize 에 넣지 않으므로 살아 있는 판이 많아도 기록할 때마다 세그먼트를 바꾸지는 않는다.
+  그래서 복구할 때 읽는 양은 판이 얼마나 길었는지와 관계없이 세그먼트 하나와 판마다 스냅샷 간격만큼의 수로 묶인다.
+- 열 때 남아 있는 세그먼트로 판들을 복구하고(getRecoveredGames), 복구한 상태로 새 세그먼트를 시작한다.
+ */
+public class GameJournal implements AutoCloseable {
+
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 64;
+    public static final long DEFAULT_MAX_SEGMENT_SIZE = 64L * 1024 * 1024;
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int INITIAL_BUFFER_CAPACITY = 64 * 1024;
+
+    private final Path directory;
+    private final int snapshotInterval;
+    private final long maxSegmentSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition recordAppended = lock.newCondition();
+    private final Condition recordSynced = lock.newCondition();
+    private final Map<Long, GameTail> tails = new HashMap<>();
+    private final Thread writer;
+    private ByteBuffer pendingRecords = ByteBuffer.allocate(INITIAL_BUFFER_CAPACITY);
+    private ByteBuffer writingRecords = ByteBuffer.allocate(INITIAL_BUFFER_CAPACITY);
+    private long nextGameId;
+    private long appendedSequence;
+    private long syncedSequence;
+    private long syncCount;
+    private boolean closed;
+    private IOException failure;
+
+    // 쓰기 스레드만 만진다.
+    private FileChannel segment;
+    private long segmentNumber;
+    private long segmentSize;
+    private long carryOverSize;
+
+    private List<JournaledGame> recoveredGames = List.of();
+
+    private GameJournal(Path directory, int snapshotInterval, long maxSegmentSize, long nextGameId) {
+        this.directory = directory;
+        this.snapshotInterval = snapshotInterval;
+        this.maxSegmentSize = maxSegmentSize;
+        this.nextGameId = nextGameId;
+        this.writer = new Thread(this::writeRecords, "game-journal-writer");
+        this.writer.setDaemon(true);
+    }
+
+    public static GameJournal open(Path directory) {
+        return open(directory, DEFAULT_SNAPSHOT_INTERVAL, DEFAULT_MAX_SEGMENT_SIZE);
+    }
+
+    public static GameJournal open(Path directory, int snapshotInterval, long maxSegmentSize) {
+        if (snapshotInterval <= ZERO || maxSegmentSize <= ZERO) {
+            throw new IllegalArgumentException("스냅샷 간격과 세그먼트 크기는 1 이상이어야 합니다.");
+        }
+        try {
+            Files.createDirectories(directory);
+            List<Path> previousSegments = findSegments(directory);
+            JournalRecovery recovery = JournalRecovery.read(previousSegments);
+
+            GameJournal journal = new GameJournal(directory, snapshotInterval, maxSegmentSize, recovery.getNextGameId());
+            journal.startSegment(previousSegments.isEmpty() ? ONE : segmentNumberOf(previousSegments.get(previousSegments.size() - ONE)) + ONE);
+            journal.writer.start();
+            journal.recoveredGames = recovery.restore(journal);
+            deleteSegments(previousSegments);
+            return journal;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 열지 못했습니다.", e);
+        }
+    }
+
+    private static List<Path> findSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(GameJournal::isSegment)
+                    .sorted((segment, other) -> Long.compare(segmentNumberOf(segment), segmentNumberOf(other)))
+                    .toList();
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        String fileName = path.getFileName().toString();
+        return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long segmentNumberOf(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static void deleteSegments(List<Path> segments) throws IOException {
+        for (Path segment : segments) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    // 상태 변경
+    public JournaledGame startGame(GameLevel gameLevel, BoardRandom boardRandom, BoardGenerationMode generationMode) {
+        GameBoard gameBoard = new GameBoard(gameLevel, boardRandom, generationMode);
+        gameBoard.initializeGame();
+        return new JournaledGame(this, allocateGameId(), gameBoard, boardRandom.getAlgorithm(), ZERO);
+    }
+
+    JournaledGame resumeGame(long gameId, GameBoard gameBoard, String algorithm, int moveCount) {
+        return new JournaledGame(this, gameId, gameBoard, algorithm, moveCount);
+    }
+
+    private long allocateGameId() {
+        lock.lock();
+        try {
+            return nextGameId++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // record 의 position 부터 limit 까지의 레코드 하나를 쌓고 그 순번을 반환한다. sync 로 이 순번까지 기다린다.
+    long append(long gameId, byte type, ByteBuffer record) {
+        lock.lock();
+        try {
+            checkWritable();
+            updateTail(gameId, type, record.duplicate());
+            pendingRecords = ensureCapacity(pendingRecords, record.remaining());
+            pendingRecords.put(record);
+            recordAppended.signal();
+            return ++appendedSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void sync(long sequence) {
+        lock.lock();
+        try {
+            while (syncedSequence < sequence) {
+                checkNotFailed();
+                recordSynced.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void updateTail(long gameId, byte type, ByteBuffer record) {
+        if (type == JournalFormat.GAME_START) {
+            tails.put(gameId, new GameTail(toBytes(record)));
+            return;
+        }
+        if (type == JournalFormat.GAME_END) {
+            tails.remove(gameId);
+            return;
+        }
+
+        GameTail tail = tails.get(gameId);
+        if (type == JournalFormat.SNAPSHOT) {
+            tail.snapshotRecord = toBytes(record);
+            tail.moveRecords.clear();
+            return;
+        }
+        tail.moveRecords = ensureCapacity(tail.moveRecords, record.remaining());
+        tail.moveRecords.put(record);
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            recordAppended.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            writer.join();
+            segment.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 닫지 못했습니다.", e);
+        }
+        lock.lock();
+        try {
+            checkNotFailed();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 쓰기 스레드
+    private void writeRecords() {
+        while (true) {
+            ByteBuffer batch;
+            ByteBuffer carryOver;
+            long batchSequence;
+            lock.lock();
+            try {
+                while (pendingRecords.position() == ZERO && !closed) {
+                    recordAppended.awaitUninterruptibly();
+                }
+                if (pendingRecords.position() == ZERO) {
+                    return;
+                }
+                batch = pendingRecords;
+                pendingRecords = writingRecords;
+                batchSequence = appendedSequence;
+                carryOver = segmentSize - carryOverSize + batch.position() >= maxSegmentSize ? collectCarryOver() : null;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                writeFully(batch.flip());
+                segment.force(false);
+                if (carryOver != null) {
+                    rollSegment(carryOver);
+                }
+            } catch (IOException e) {
+                fail(e);
+                return;
+            }
+
+            lock.lock();
+            try {
+                writingRecords = batch.clear();
+                syncedSequence = batchSequence;
+                syncCount++;
+                recordSynced.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 지금까지 쌓인 기록(이번에 쓸 batch 포함)으로 만든 살아 있는 판들의 상태. 새 세그먼트의 앞에 쓴다.
+    private ByteBuffer collectCarryOver() {
+        int size = JournalFormat.SEGMENT_START_RECORD_SIZE;
+        for (GameTail tail : tails.values()) {
+            size += tail.size();
+        }
+        ByteBuffer carryOver = ByteBuffer.allocate(size);
+        JournalFormat.writeSegmentStart(carryOver, nextGameId);
+        for (GameTail tail : tails.values()) {
+            tail.writeTo(carryOver);
+        }
+        return carryOver.flip();
+    }
+
+    private void rollSegment(ByteBuffer carryOver) throws IOException {
+        FileChannel previousSegment = segment;
+        long previousSegmentNumber = segmentNumber;
+        openSegment(segmentNumber + ONE);
+        writeFully(carryOver);
+        carryOverSize = segmentSize;
+        segment.force(false);
+        forceDirectory();
+
+        previousSegment.close();
+        Files.deleteIfExists(segmentPathOf(previousSegmentNumber));
+    }
+
+    private void startSegment(long number) throws IOException {
+        openSegment(number);
+        ByteBuffer segmentStart = ByteBuffer.allocate(JournalFormat.SEGMENT_START_RECORD_SIZE);
+        JournalFormat.writeSegmentStart(segmentStart, nextGameId);
+        writeFully(segmentStart.flip());
+        segment.force(false);
+        forceDirectory();
+    }
+
+    private void openSegment(long number) throws IOException {
+        segment = FileChannel.open(segmentPathOf(number),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        segmentNumber = number;
+        segmentSize = ZERO;
+        carryOverSize = ZERO;
+    }
+
+    private void writeFully(ByteBuffer records) throws IOException {
+        while (records.hasRemaining()) {
+            segmentSize += segment.write(records);
+        }
+    }
+
+    // 새 세그먼트 파일의 디렉터리 항목까지 디스크에 남긴다. 디렉터리를 채널로 열 수 없는 플랫폼에서는 건너뛴다.
+    private void forceDirectory() throws IOException {
+        FileChannel directoryChannel;
+        try {
+            directoryChannel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (directoryChannel) {
+            directoryChannel.force(true);
+        }
+    }
+
+    private Path segmentPathOf(long number) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private void fail(IOException e) {
+        lock.lock();
+        try {
+            failure = e;
+            recordSynced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkWritable() {
+        if (closed) {
+            throw new IllegalStateException("저널이 닫혔습니다.");
+        }
+        checkNotFailed();
+    }
+
+    private void checkNotFailed() {
+        if (failure != null) {
+            throw new UncheckedIOException("저널을 기록하지 못했습니다.", failure);
+        }
+    }
+
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int size) {
+        if (buffer.remaining() >= size) {
+            return buffer;
+        }
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + size));
+        return grown.put(buffer.flip());
+    }
+
+    private static byte[] toBytes(ByteBuffer record) {
+        byte[] bytes = new byte[record.remaining()];
+        record.get(bytes);
+        return bytes;
+    }
+
+    // 조회
+    public List<JournaledGame> getRecoveredGames() {
+        return recoveredGames;
+    }
+
+    public int getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public long getSyncCount() {
+        lock.lock();
+        try {
+            return syncCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRecordCount() {
+        lock.lock();
+        try {
+            return appendedSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 새 세그먼트로 옮겨 적을, 판 하나의 마지막 스냅샷 이후 기록
+    private static class GameTail {
+
+        private final byte[] startRecord;
+        private byte[] snapshotRecord;
+        private ByteBuffer moveRecords = ByteBuffer.allocate(JournalFormat.MOVE_RECORD_SIZE);
+
+        private GameTail(byte[] startRecord) {
+            this.startRecord = startRecord;
+        }
+
+        private int size() {
+            return startRecord.length + (snapshotRecord == null ? ZERO : snapshotRecord.length) + moveRecords.position();
+        }
+
+        private void writeTo(ByteBuffer destination) {
+            destination.put(startRecord);
+            if (snapshotRecord != null) {
+                destination.put(snapshotRecord);
+            }
+            destination.put(moveRecords.array(), ZERO, moveRecords.position());
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+package cleancode.minesweeper.tobe.minesweeper.journal;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+저널 세그먼트 파일의 레코드 형식. 모든 값은 big-endian 이다.
+레코드: int 본문 길이 | int CRC32C(본문) | 본문
+본문: byte 종류 | 종류별 내용
+- SEGMENT_START: long 다음에 쓸 게임 id
+- GAME_START: long 게임 id | byte 생성 방식 | int 행 수 | int 열 수 | int 지뢰 수 | long seed | byte 이름 길이 | 난수 알고리즘 이름
+- MOVE: long 게임 id | int 수 번호(1부터) | byte 동작 | int 셀 인덱스
+- SNAPSHOT: long 게임 id | int 반영된 마지막 수 번호 | GameBoard.writeState 의 내용
+- GAME_END: long 게임 id
+ */
+public class JournalFormat {
+
+    public static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+    public static final byte SEGMENT_START = 1;
+    public static final byte GAME_START = 2;
+    public static final byte MOVE = 3;
+    public static final byte SNAPSHOT = 4;
+    public static final byte GAME_END = 5;
+
+    public static final byte ACTION_OPEN = 1;
+    public static final byte ACTION_FLAG = 2;
+
+    public static final int SEGMENT_START_RECORD_SIZE = RECORD_HEADER_SIZE + Byte.BYTES + Long.BYTES;
+    public static final int MOVE_RECORD_SIZE = RECORD_HEADER_SIZE + Byte.BYTES + Long.BYTES + Integer.BYTES + Byte.BYTES + Integer.BYTES;
+    public static final int GAME_END_RECORD_SIZE = RECORD_HEADER_SIZE + Byte.BYTES + Long.BYTES;
+    private static final int GAME_START_BODY_SIZE = Byte.BYTES + Long.BYTES + Byte.BYTES + Integer.BYTES * 3 + Long.BYTES + Byte.BYTES;
+    private static final int SNAPSHOT_BODY_SIZE = Byte.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int MAX_ALGORITHM_NAME_LENGTH = Byte.MAX_VALUE;
+
+    private JournalFormat() {
+    }
+
+    public static void writeSegmentStart(ByteBuffer buffer, long nextGameId) {
+        int start = beginRecord(buffer, SEGMENT_START);
+        buffer.putLong(nextGameId);
+        endRecord(buffer, start);
+    }
+
+    public static void writeGameStart(ByteBuffer buffer, long gameId, GameBoard gameBoard, String algorithm) {
+        byte[] algorithmName = algorithm.getBytes(StandardCharsets.US_ASCII);
+        if (algorithmName.length > MAX_ALGORITHM_NAME_LENGTH) {
+            throw new IllegalArgumentException("난수 알고리즘 이름이 너무 깁니다.");
+        }
+        int start = beginRecord(buffer, GAME_START);
+        buffer.putLong(gameId);
+        buffer.put((byte) gameBoard.getGenerationMode().ordinal());
+        buffer.putInt(gameBoard.getRowSize());
+        buffer.putInt(gameBoard.getColSize());
+        buffer.putInt(gameBoard.getLandMineCount());
+        buffer.putLong(gameBoard.getSeed());
+        buffer.put((byte) algorithmName.length);
+        buffer.put(algorithmName);
+        endRecord(buffer, start);
+    }
+
+    public static void writeMove(ByteBuffer buffer, long gameId, int moveNumber, byte action, int cellIndex) {
+        int start = beginRecord(buffer, MOVE);
+        buffer.putLong(gameId);
+        buffer.putInt(moveNumber);
+        buffer.put(action);
+        buffer.putInt(cellIndex);
+        endRecord(buffer, start);
+    }
+
+    public static void writeSnapshot(ByteBuffer buffer, long gameId, int moveNumber, GameBoard gameBoard) {
+        int start = beginRecord(buffer, SNAPSHOT);
+        buffer.putLong(gameId);
+        buffer.putInt(moveNumber);
+        gameBoard.writeState(buffer);
+        endRecord(buffer, start);
+    }
+
+    public static void writeGameEnd(ByteBuffer buffer, long gameId) {
+        int start = beginRecord(buffer, GAME_END);
+        buffer.putLong(gameId);
+        endRecord(buffer, start);
+    }
+
+    public static int gameStartRecordSize(String algorithm) {
+        return RECORD_HEADER_SIZE + GAME_START_BODY_SIZE + algorithm.length();
+    }
+
+    public static int snapshotRecordSize(GameBoard gameBoard) {
+        return RECORD_HEADER_SIZE + SNAPSHOT_BODY_SIZE + gameBoard.getStateSize();
+    }
+
+    // buffer 의 position 에 온전한 레코드가 있으면 본문 길이를, 잘렸거나 CRC 가 맞지 않으면 -1 을 반환한다.
+    public static int readBodyLength(ByteBuffer buffer) {
+        if (buffer.remaining() < RECORD_HEADER_SIZE) {
+            return -1;
+        }
+        int position = buffer.position();
+        int bodyLength = buffer.getInt(position);
+        if (bodyLength <= ZERO || bodyLength > buffer.remaining() - RECORD_HEADER_SIZE) {
+            return -1;
+        }
+        int bodyStart = position + RECORD_HEADER_SIZE;
+        if (checksumOf(buffer, bodyStart, bodyStart + bodyLength) != buffer.getInt(position + Integer.BYTES)) {
+            return -1;
+        }
+        return bodyLength;
+    }
+
+    private static int beginRecord(ByteBuffer buffer, byte type) {
+        int start = buffer.position();
+        buffer.position(start + RECORD_HEADER_SIZE);
+        buffer.put(type);
+        return start;
+    }
+
+    private static void endRecord(ByteBuffer buffer, int start) {
+        int bodyStart = start + RECORD_HEADER_SIZE;
+        buffer.putInt(start, buffer.position() - bodyStart);
+        buffer.putInt(start + Integer.BYTES, checksumOf(buffer, bodyStart, buffer.position()));
+    }
+
+    private static int checksumOf(ByteBuffer buffer, int from, int to) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().limit(to).position(from));
+        return (int) crc.getValue();
+    }
+
+}
@@ -0,0 +1,183 @@
+package cleancode.minesweeper.tobe.minesweeper.journal;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardGenerationMode;
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.CustomGameLevel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+세그먼트들을 번호 순서대로 읽어, 끝나지 않은 판마다 마지막 스냅샷과 그 뒤의 수만 남긴다.
+- 세그먼트는 잘렸거나 CRC 가 맞지 않는 레코드(기록 도중 멈춘 꼬리)를 만나면 거기까지만 읽는다.
+- 세그먼트를 바꿀 때 옮겨 적은 기록은 이전 세그먼트와 겹칠 수 있으므로, 시작 기록은 처음 것만 쓰고
+  수는 번호가 바로 다음인 것만 받는다.
+ */
+public class JournalRecovery {
+
+    private static final int INITIAL_MOVE_CAPACITY = 16;
+    private static final int ACTION_BITS = 2;
+    private static final int ACTION_MASK = (ONE << ACTION_BITS) - ONE;
+
+    private final Map<Long, RecoveringGame> games = new TreeMap<>();
+    private long nextGameId = ONE;
+
+    private JournalRecovery() {
+    }
+
+    public static JournalRecovery read(List<Path> segments) throws IOException {
+        JournalRecovery recovery = new JournalRecovery();
+        for (Path segment : segments) {
+            recovery.readSegment(ByteBuffer.wrap(Files.readAllBytes(segment)));
+        }
+        return recovery;
+    }
+
+    private void readSegment(ByteBuffer segment) {
+        int bodyLength;
+        while ((bodyLength = JournalFormat.readBodyLength(segment)) > ZERO) {
+            int bodyStart = segment.position() + JournalFormat.RECORD_HEADER_SIZE;
+            readRecord(segment.duplicate().limit(bodyStart + bodyLength).position(bodyStart));
+            segment.position(bodyStart + bodyLength);
+        }
+    }
+
+    private void readRecord(ByteBuffer body) {
+        byte type = body.get();
+        if (type == JournalFormat.SEGMENT_START) {
+            nextGameId = Math.max(nextGameId, body.getLong());
+            return;
+        }
+
+        long gameId = body.getLong();
+        nextGameId = Math.max(nextGameId, gameId + ONE);
+        if (type == JournalFormat.GAME_START) {
+            games.putIfAbsent(gameId, RecoveringGame.from(body));
+            return;
+        }
+        if (type == JournalFormat.GAME_END) {
+            games.remove(gameId);
+            return;
+        }
+
+        RecoveringGame game = games.get(gameId);
+        if (game == null) {
+            return;
+        }
+        if (type == JournalFormat.SNAPSHOT) {
+            game.applySnapshot(body.getInt(), body);
+            return;
+        }
+        if (type == JournalFormat.MOVE) {
+            game.addMove(body.getInt(), body.get(), body.getInt());
+        }
+    }
+
+    // 복구한 판마다 보드를 되살리고, 지금 상태를 journal 의 새 세그먼트에 남긴다.
+    List<JournaledGame> restore(GameJournal journal) {
+        List<JournaledGame> restoredGames = new ArrayList<>(games.size());
+        for (Map.Entry<Long, RecoveringGame> entry : games.entrySet()) {
+            RecoveringGame game = entry.getValue();
+            restoredGames.add(journal.resumeGame(entry.getKey(), game.restoreBoard(), game.algorithm, game.lastMoveNumber));
+        }
+        return List.copyOf(restoredGames);
+    }
+
+    // 조회
+    public long getNextGameId() {
+        return nextGameId;
+    }
+
+    private static class RecoveringGame {
+
+        private final BoardGenerationMode generationMode;
+        private final int rowSize;
+        private final int colSize;
+        private final int landMineCount;
+        private final long seed;
+        private final String algorithm;
+        private byte[] snapshotState;
+        private int lastMoveNumber;
+        // 마지막 스냅샷 뒤의 수. cellIndex << ACTION_BITS | action
+        private int[] moves = new int[INITIAL_MOVE_CAPACITY];
+        private int moveCount;
+
+        private RecoveringGame(BoardGenerationMode generationMode, int rowSize, int colSize, int landMineCount, long seed, String algorithm) {
+            this.generationMode = generationMode;
+            this.rowSize = rowSize;
+            this.colSize = colSize;
+            this.landMineCount = landMineCount;
+            this.seed = seed;
+            this.algorithm = algorithm;
+        }
+
+        private static RecoveringGame from(ByteBuffer body) {
+            BoardGenerationMode generationMode = BoardGenerationMode.values()[body.get()];
+            int rowSize = body.getInt();
+            int colSize = body.getInt();
+            int landMineCount = body.getInt();
+            long seed = body.getLong();
+            byte[] algorithmName = new byte[body.get()];
+            body.get(algorithmName);
+            return new RecoveringGame(generationMode, rowSize, colSize, landMineCount, seed,
+                    new String(algorithmName, StandardCharsets.US_ASCII));
+        }
+
+        // 스냅샷은 그 번호까지의 수를 모두 담고 있다.
+        private void applySnapshot(int moveNumber, ByteBuffer state) {
+            if (moveNumber < lastMoveNumber) {
+                return;
+            }
+            snapshotState = new byte[state.remaining()];
+            state.get(snapshotState);
+            lastMoveNumber = moveNumber;
+            moveCount = ZERO;
+        }
+
+        private void addMove(int moveNumber, byte action, int cellIndex) {
+            if (moveNumber != lastMoveNumber + ONE) {
+                return;
+            }
+            if (moveCount == moves.length) {
+                moves = Arrays.copyOf(moves, moveCount * 2);
+            }
+            moves[moveCount++] = cellIndex << ACTION_BITS | action;
+            lastMoveNumber = moveNumber;
+        }
+
+        private GameBoard restoreBoard() {
+            GameBoard gameBoard = new GameBoard(CustomGameLevel.of(rowSize, colSize, landMineCount),
+                    BoardRandom.of(algorithm, seed), generationMode);
+            if (snapshotState == null) {
+                gameBoard.initializeGame(seed);
+            } else {
+                gameBoard.restoreState(ByteBuffer.wrap(snapshotState));
+            }
+
+            for (int i = ZERO; i < moveCount; i++) {
+                int cellIndex = moves[i] >>> ACTION_BITS;
+                CellPosition cellPosition = CellPosition.of(cellIndex / colSize, cellIndex % colSize);
+                if ((moves[i] & ACTION_MASK) == JournalFormat.ACTION_OPEN) {
+                    gameBoard.openAt(cellPosition);
+                } else {
+                    gameBoard.flagAt(cellPosition);
+                }
+            }
+            return gameBoard;
+        }
+    }
+
+}
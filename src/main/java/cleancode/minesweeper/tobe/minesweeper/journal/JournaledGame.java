@@ -0,0 +1,117 @@
+package cleancode.minesweeper.tobe.minesweeper.journal;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellChangeSet;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+
+import java.nio.ByteBuffer;
+
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+수가 모두 저널에 남는 GameBoard 한 판.
+- 수를 먼저 보드에 두어 올바른 수인지 확인한 뒤 저널에 쓰고, 기록이 디스크에 닿은(fsync) 뒤에 돌아간다.
+  돌아온 수는 프로세스가 죽어도 복구된다.
+- 저널의 snapshotInterval 수마다 보드 상태 전체를 함께 남긴다. 복구할 때는 마지막 상태에서 그 뒤의 수만 다시 둔다.
+인스턴스는 스레드 하나가 쓴다. 여러 판을 여러 스레드에서 두면 비슷한 때에 쌓인 기록이 fsync 한 번으로 묶인다.
+ */
+public class JournaledGame {
+
+    private final GameJournal journal;
+    private final long gameId;
+    private final GameBoard gameBoard;
+    private final ByteBuffer recordBuffer;
+    private int moveCount;
+    private boolean ended;
+
+    JournaledGame(GameJournal journal, long gameId, GameBoard gameBoard, String algorithm, int moveCount) {
+        this.journal = journal;
+        this.gameId = gameId;
+        this.gameBoard = gameBoard;
+        this.moveCount = moveCount;
+        this.recordBuffer = ByteBuffer.allocate(Math.max(
+                JournalFormat.gameStartRecordSize(algorithm) + JournalFormat.snapshotRecordSize(gameBoard),
+                JournalFormat.MOVE_RECORD_SIZE + JournalFormat.snapshotRecordSize(gameBoard)
+        ));
+        appendStart(algorithm);
+    }
+
+    // 복구한 판은 시작 기록과 함께 지금 상태를 남겨, 새 세그먼트만으로 다시 복구할 수 있게 한다.
+    private void appendStart(String algorithm) {
+        recordBuffer.clear();
+        JournalFormat.writeGameStart(recordBuffer, gameId, gameBoard, algorithm);
+        int startRecordEnd = recordBuffer.position();
+        if (moveCount > ZERO) {
+            JournalFormat.writeSnapshot(recordBuffer, gameId, moveCount, gameBoard);
+        }
+        recordBuffer.flip();
+
+        ByteBuffer startRecord = recordBuffer.duplicate().limit(startRecordEnd);
+        long sequence = journal.append(gameId, JournalFormat.GAME_START, startRecord);
+        if (moveCount > ZERO) {
+            sequence = journal.append(gameId, JournalFormat.SNAPSHOT, recordBuffer.position(startRecordEnd));
+        }
+        journal.sync(sequence);
+    }
+
+    // 상태 변경
+    public CellChangeSet openAt(CellPosition cellPosition) {
+        checkNotEnded();
+        CellChangeSet changes = gameBoard.openAt(cellPosition);
+        appendMove(JournalFormat.ACTION_OPEN, cellPosition);
+        return changes;
+    }
+
+    public CellChangeSet flagAt(CellPosition cellPosition) {
+        checkNotEnded();
+        CellChangeSet changes = gameBoard.flagAt(cellPosition);
+        appendMove(JournalFormat.ACTION_FLAG, cellPosition);
+        return changes;
+    }
+
+    // 더 둘 수 없는 판으로 기록한다. 끝난 판은 복구되지 않고, 다음 세그먼트부터는 기록도 옮겨지지 않는다.
+    public void end() {
+        checkNotEnded();
+        ended = true;
+        recordBuffer.clear();
+        JournalFormat.writeGameEnd(recordBuffer, gameId);
+        journal.sync(journal.append(gameId, JournalFormat.GAME_END, recordBuffer.flip()));
+    }
+
+    private void appendMove(byte action, CellPosition cellPosition) {
+        moveCount++;
+        int cellIndex = cellPosition.getRowIndex() * gameBoard.getColSize() + cellPosition.getColIndex();
+        recordBuffer.clear();
+        JournalFormat.writeMove(recordBuffer, gameId, moveCount, action, cellIndex);
+        recordBuffer.flip();
+        long sequence = journal.append(gameId, JournalFormat.MOVE, recordBuffer);
+
+        if (moveCount % journal.getSnapshotInterval() == ZERO) {
+            recordBuffer.clear();
+            JournalFormat.writeSnapshot(recordBuffer, gameId, moveCount, gameBoard);
+            sequence = journal.append(gameId, JournalFormat.SNAPSHOT, recordBuffer.flip());
+        }
+        journal.sync(sequence);
+    }
+
+    private void checkNotEnded() {
+        if (ended) {
+            throw new IllegalStateException("이미 끝난 게임입니다.");
+        }
+    }
+
+    // 조회
+    public long getGameId() {
+        return gameId;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    // 화면을 그리는 등 읽기에만 쓴다. 보드에 직접 둔 수는 저널에 남지 않는다.
+    public GameBoard getGameBoard() {
+        return gameBoard;
+    }
+
+}
@@ -0,0 +1,124 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+GameServer 와 요청 하나를 보내고 응답 하나를 받는 블로킹 클라이언트. 서버를 시험하거나 부하를 줄 때 쓴다.
+인스턴스는 스레드 하나가 쓴다.
+ */
+public class GameClient implements AutoCloseable {
+
+    private static final byte UNUSED_LEVEL = 0;
+
+    private final SocketChannel channel;
+    private final ByteBuffer requestBuffer = ByteBuffer.allocate(GameProtocol.REQUEST_SIZE);
+    private final ByteBuffer headerBuffer = ByteBuffer.allocate(GameProtocol.RESPONSE_HEADER_SIZE);
+    private ByteBuffer deltaBuffer = ByteBuffer.allocate(GameProtocol.DELTA_SIZE);
+    private int lastSequence;
+
+    private GameClient(SocketChannel channel) {
+        this.channel = channel;
+    }
+
+    public static GameClient connect(InetSocketAddress address) {
+        try {
+            SocketChannel channel = SocketChannel.open(address);
+            channel.socket().setTcpNoDelay(true);
+            return new GameClient(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버에 연결하지 못했습니다.", e);
+        }
+    }
+
+    public GameResponse newGame(byte level) {
+        return send(ZERO, ZERO, ZERO, GameProtocol.ACTION_NEW_GAME, level);
+    }
+
+    public GameResponse open(int boardId, int row, int col) {
+        return send(boardId, row, col, GameProtocol.ACTION_OPEN, UNUSED_LEVEL);
+    }
+
+    public GameResponse flag(int boardId, int row, int col) {
+        return send(boardId, row, col, GameProtocol.ACTION_FLAG, UNUSED_LEVEL);
+    }
+
+    public GameResponse closeGame(int boardId) {
+        return send(boardId, ZERO, ZERO, GameProtocol.ACTION_CLOSE_GAME, UNUSED_LEVEL);
+    }
+
+    private GameResponse send(int boardId, int row, int col, byte action, byte level) {
+        int sequence = nextSequence();
+        try {
+            requestBuffer.clear();
+            GameProtocol.writeRequest(requestBuffer, boardId, row, col, action, level, sequence);
+            requestBuffer.flip();
+            while (requestBuffer.hasRemaining()) {
+                channel.write(requestBuffer);
+            }
+            return receive(sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버와 주고받지 못했습니다.", e);
+        }
+    }
+
+    private GameResponse receive(int expectedSequence) throws IOException {
+        headerBuffer.clear();
+        readFully(headerBuffer);
+        headerBuffer.flip();
+        int boardId = headerBuffer.getInt();
+        int sequence = GameProtocol.unsignedShort(headerBuffer.getShort());
+        byte status = headerBuffer.get();
+        byte gameStatus = headerBuffer.get();
+        int deltaCount = headerBuffer.getInt();
+        if (sequence != expectedSequence) {
+            throw new IllegalStateException("요청과 응답의 순서가 맞지 않습니다.");
+        }
+
+        int[] deltas = new int[deltaCount];
+        if (deltaCount > ZERO) {
+            ensureDeltaCapacity(deltaCount * GameProtocol.DELTA_SIZE);
+            readFully(deltaBuffer);
+            deltaBuffer.flip();
+            deltaBuffer.asIntBuffer().get(deltas);
+        }
+        return GameResponse.of(boardId, sequence, status, gameStatus, deltas);
+    }
+
+    private void ensureDeltaCapacity(int size) {
+        if (deltaBuffer.capacity() < size) {
+            deltaBuffer = ByteBuffer.allocate(Math.max(size, deltaBuffer.capacity() * 2));
+        }
+        deltaBuffer.clear().limit(size);
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < ZERO) {
+                throw new EOFException("서버가 연결을 끊었습니다.");
+            }
+        }
+    }
+
+    private int nextSequence() {
+        lastSequence = (lastSequence + ONE) & GameProtocol.UNSIGNED_SHORT_MASK;
+        return lastSequence;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("연결을 닫지 못했습니다.", e);
+        }
+    }
+
+}
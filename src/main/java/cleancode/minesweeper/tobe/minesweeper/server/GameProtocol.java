@@ -0,0 +1,110 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Advanced;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Middle;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+import java.nio.ByteBuffer;
+
+/*
+GameServer 와 클라이언트가 주고받는 이진 프레임. 모든 값은 빅 엔디언이다.
+
+요청(REQUEST_SIZE = 12바이트)
+  int boardId | u16 row | u16 col | byte action | byte level | u16 sequence
+  - action: NEW_GAME(level 로 새 보드를 만든다), OPEN, FLAG, CLOSE_GAME
+  - NEW_GAME 의 boardId, row, col 은 쓰지 않는다. sequence 는 응답에 그대로 돌려준다.
+
+응답(RESPONSE_HEADER_SIZE = 12바이트 + 변경 셀 수 x DELTA_SIZE)
+  int boardId | u16 sequence | byte status | byte gameStatus | int deltaCount | int delta...
+  - NEW_GAME 응답의 boardId 가 새 보드의 id 다.
+  - delta 하나는 (셀 인덱스 << 4 | 셀 코드)다. 셀 인덱스는 row * colSize + col, 셀 코드는 CellSnapshot 코드(0 ~ 11)다.
+    이번 요청으로 코드가 바뀐 셀만 담는다.
+ */
+public class GameProtocol {
+
+    public static final int REQUEST_SIZE = 12;
+    public static final int RESPONSE_HEADER_SIZE = 12;
+    public static final int DELTA_SIZE = Integer.BYTES;
+    public static final int UNSIGNED_SHORT_MASK = 0xFFFF;
+
+    public static final byte ACTION_NEW_GAME = 0;
+    public static final byte ACTION_OPEN = 1;
+    public static final byte ACTION_FLAG = 2;
+    public static final byte ACTION_CLOSE_GAME = 3;
+
+    public static final byte LEVEL_BEGINNER = 0;
+    public static final byte LEVEL_MIDDLE = 1;
+    public static final byte LEVEL_ADVANCED = 2;
+
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_UNKNOWN_BOARD = 1;
+    public static final byte STATUS_INVALID_POSITION = 2;
+    public static final byte STATUS_INVALID_ACTION = 3;
+    public static final byte STATUS_GAME_OVER = 4;
+    public static final byte STATUS_TOO_MANY_BOARDS = 5;
+
+    public static final byte GAME_IN_PROGRESS = 0;
+    public static final byte GAME_WIN = 1;
+    public static final byte GAME_LOSE = 2;
+
+    private static final int CODE_BITS = 4;
+    private static final int CODE_MASK = (1 << CODE_BITS) - 1;
+
+    private GameProtocol() {
+    }
+
+    public static void writeRequest(ByteBuffer buffer, int boardId, int row, int col, byte action, byte level, int sequence) {
+        buffer.putInt(boardId)
+                .putShort((short) row)
+                .putShort((short) col)
+                .put(action)
+                .put(level)
+                .putShort((short) sequence);
+    }
+
+    public static void writeResponseHeader(ByteBuffer buffer, int boardId, int sequence, byte status, byte gameStatus, int deltaCount) {
+        buffer.putInt(boardId)
+                .putShort((short) sequence)
+                .put(status)
+                .put(gameStatus)
+                .putInt(deltaCount);
+    }
+
+    public static int packDelta(int cellIndex, int code) {
+        return cellIndex << CODE_BITS | code;
+    }
+
+    public static int cellIndexOf(int delta) {
+        return delta >>> CODE_BITS;
+    }
+
+    public static int codeOf(int delta) {
+        return delta & CODE_MASK;
+    }
+
+    public static int unsignedShort(short value) {
+        return value & UNSIGNED_SHORT_MASK;
+    }
+
+    // OPEN, FLAG 말고는 UNKNOWN
+    public static UserAction userActionOf(byte action) {
+        return switch (action) {
+            case ACTION_OPEN -> UserAction.OPEN;
+            case ACTION_FLAG -> UserAction.FLAG;
+            default -> UserAction.UNKNOWN;
+        };
+    }
+
+    // 알 수 없는 레벨이면 null
+    public static GameLevel gameLevelOf(byte level) {
+        return switch (level) {
+            case LEVEL_BEGINNER -> new Beginner();
+            case LEVEL_MIDDLE -> new Middle();
+            case LEVEL_ADVANCED -> new Advanced();
+            default -> null;
+        };
+    }
+
+}
@@ -0,0 +1,54 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+public class GameResponse {
+
+    private final int boardId;
+    private final int sequence;
+    private final byte status;
+    private final byte gameStatus;
+    private final int[] deltas;
+
+    private GameResponse(int boardId, int sequence, byte status, byte gameStatus, int[] deltas) {
+        this.boardId = boardId;
+        this.sequence = sequence;
+        this.status = status;
+        this.gameStatus = gameStatus;
+        this.deltas = deltas;
+    }
+
+    public static GameResponse of(int boardId, int sequence, byte status, byte gameStatus, int[] deltas) {
+        return new GameResponse(boardId, sequence, status, gameStatus, deltas);
+    }
+
+    // 판별
+    public boolean isOk() {
+        return status == GameProtocol.STATUS_OK;
+    }
+
+    public boolean isInProgress() {
+        return gameStatus == GameProtocol.GAME_IN_PROGRESS;
+    }
+
+    // 조회
+    public int getBoardId() {
+        return boardId;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public byte getStatus() {
+        return status;
+    }
+
+    public byte getGameStatus() {
+        return gameStatus;
+    }
+
+    // GameProtocol.cellIndexOf, codeOf 로 푼다.
+    public int[] getDeltas() {
+        return deltas;
+    }
+
+}
@@ -0,0 +1,325 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+여러 클라이언트의 게임을 스레드 하나에서 처리하는 NIO 서버. 프레임 형식은 GameProtocol 을 본다.
+- Selector 하나로 모든 연결을 다루고, 연결마다 스레드를 두지 않는다. GameBoard 도 이 스레드에서만 만진다.
+- 보드는 그 보드를 만든 연결에 속하며, 연결이 끊기면 함께 버린다.
+- 요청은 도착한 순서대로 처리하고 응답도 같은 순서로 보낸다. 클라이언트는 응답을 기다리지 않고 요청을 이어 보내도 된다.
+- 클라이언트가 응답을 읽지 않아 보낼 응답이 MAX_PENDING_WRITE_SIZE 를 넘으면, 다 보낼 때까지 그 연결의 요청을 읽지 않는다.
+- 한 연결을 처리하다 예외가 나면 그 연결만 닫고 다른 연결은 계속 처리한다.
+ */
+public class GameServer implements AutoCloseable {
+
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+    private static final int INITIAL_WRITE_BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_PENDING_WRITE_SIZE = 1024 * 1024;
+    private static final int MAX_BOARD_COUNT_PER_CONNECTION = 1024;
+
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final RemoteGameFactory remoteGameFactory;
+    private final Thread eventLoopThread;
+    private volatile boolean running = true;
+    private volatile long handledRequestCount;
+    private volatile long failedConnectionCount;
+    private int lastBoardId;
+
+    private GameServer(ServerSocketChannel serverChannel, Selector selector, RemoteGameFactory remoteGameFactory) {
+        this.serverChannel = serverChannel;
+        this.selector = selector;
+        this.remoteGameFactory = remoteGameFactory;
+        this.eventLoopThread = new Thread(this::runEventLoop, "game-server");
+    }
+
+    // port 를 0 으로 주면 비어 있는 포트를 쓴다. 실제 포트는 getPort() 로 본다.
+    public static GameServer start(InetSocketAddress address, BoardRandom boardRandom) {
+        return start(address, (id, gameLevel) -> new RemoteGame(id, gameLevel, boardRandom));
+    }
+
+    static GameServer start(InetSocketAddress address, RemoteGameFactory remoteGameFactory) {
+        try {
+            ServerSocketChannel serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            Selector selector = Selector.open();
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+            GameServer gameServer = new GameServer(serverChannel, selector, remoteGameFactory);
+            gameServer.eventLoopThread.start();
+            return gameServer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버를 열지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            eventLoopThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 조회
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public long getHandledRequestCount() {
+        return handledRequestCount;
+    }
+
+    // 처리하다 예외가 나서 서버가 닫은 연결
+    public long getFailedConnectionCount() {
+        return failedConnectionCount;
+    }
+
+    private void runEventLoop() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    handleKey(key);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버가 비정상 종료되었습니다.", e);
+        } finally {
+            closeAll();
+        }
+    }
+
+    private void handleKey(SelectionKey key) throws IOException {
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                connection.read();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.write();
+            }
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊은 경우이므로 그 연결만 닫는다.
+            connection.close();
+        } catch (RuntimeException e) {
+            // 그 연결의 보드나 버퍼 상태를 믿을 수 없으므로 그 연결만 닫고, 이벤트 루프는 멈추지 않는다.
+            failedConnectionCount++;
+            connection.close();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection connection) {
+                connection.close();
+            }
+        }
+        try {
+            selector.close();
+            serverChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버를 닫지 못했습니다.", e);
+        }
+    }
+
+    interface RemoteGameFactory {
+
+        RemoteGame create(int id, GameLevel gameLevel);
+    }
+
+    private class Connection {
+
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final Map<Integer, RemoteGame> games = new HashMap<>();
+        // 두 버퍼 모두 쓰기 모드로 둔다. position 까지가 아직 처리하지 않은 요청, 아직 보내지 않은 응답이다.
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        private ByteBuffer writeBuffer = ByteBuffer.allocate(INITIAL_WRITE_BUFFER_SIZE);
+
+        private Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        private void read() throws IOException {
+            if (channel.read(readBuffer) < ZERO) {
+                close();
+                return;
+            }
+            handleRequests();
+            write();
+        }
+
+        private void write() throws IOException {
+            writeBuffer.flip();
+            channel.write(writeBuffer);
+            writeBuffer.compact();
+
+            // 밀린 응답을 보내는 동안 읽어 두고 처리하지 못한 요청이 있으면 이어서 처리한다.
+            if (writeBuffer.position() < MAX_PENDING_WRITE_SIZE && readBuffer.position() >= GameProtocol.REQUEST_SIZE) {
+                handleRequests();
+                writeBuffer.flip();
+                channel.write(writeBuffer);
+                writeBuffer.compact();
+            }
+            updateInterest();
+        }
+
+        private void updateInterest() {
+            int interest = ZERO;
+            if (writeBuffer.position() < MAX_PENDING_WRITE_SIZE) {
+                interest |= SelectionKey.OP_READ;
+            }
+            if (writeBuffer.position() > ZERO) {
+                interest |= SelectionKey.OP_WRITE;
+            }
+            key.interestOps(interest);
+        }
+
+        private void handleRequests() {
+            readBuffer.flip();
+            while (readBuffer.remaining() >= GameProtocol.REQUEST_SIZE && writeBuffer.position() < MAX_PENDING_WRITE_SIZE) {
+                handleRequest();
+            }
+            readBuffer.compact();
+        }
+
+        private void handleRequest() {
+            int boardId = readBuffer.getInt();
+            int row = GameProtocol.unsignedShort(readBuffer.getShort());
+            int col = GameProtocol.unsignedShort(readBuffer.getShort());
+            byte action = readBuffer.get();
+            byte level = readBuffer.get();
+            int sequence = GameProtocol.unsignedShort(readBuffer.getShort());
+            handledRequestCount++;
+
+            switch (action) {
+                case GameProtocol.ACTION_NEW_GAME -> newGame(level, sequence);
+                case GameProtocol.ACTION_CLOSE_GAME -> closeGame(boardId, sequence);
+                default -> move(boardId, row, col, action, sequence);
+            }
+        }
+
+        private void newGame(byte level, int sequence) {
+            GameLevel gameLevel = GameProtocol.gameLevelOf(level);
+            if (gameLevel == null) {
+                respond(ZERO, sequence, GameProtocol.STATUS_INVALID_ACTION, GameProtocol.GAME_IN_PROGRESS);
+                return;
+            }
+            if (games.size() >= MAX_BOARD_COUNT_PER_CONNECTION) {
+                respond(ZERO, sequence, GameProtocol.STATUS_TOO_MANY_BOARDS, GameProtocol.GAME_IN_PROGRESS);
+                return;
+            }
+
+            RemoteGame game = remoteGameFactory.create(++lastBoardId, gameLevel);
+            games.put(game.getId(), game);
+            respond(game.getId(), sequence, GameProtocol.STATUS_OK, GameProtocol.GAME_IN_PROGRESS);
+        }
+
+        private void closeGame(int boardId, int sequence) {
+            RemoteGame game = games.remove(boardId);
+            byte status = game == null ? GameProtocol.STATUS_UNKNOWN_BOARD : GameProtocol.STATUS_OK;
+            respond(boardId, sequence, status, GameProtocol.GAME_IN_PROGRESS);
+        }
+
+        private void move(int boardId, int row, int col, byte action, int sequence) {
+            RemoteGame game = games.get(boardId);
+            if (game == null) {
+                respond(boardId, sequence, GameProtocol.STATUS_UNKNOWN_BOARD, GameProtocol.GAME_IN_PROGRESS);
+                return;
+            }
+            UserAction userAction = GameProtocol.userActionOf(action);
+            if (userAction == UserAction.UNKNOWN) {
+                respond(boardId, sequence, GameProtocol.STATUS_INVALID_ACTION, game.getGameStatus());
+                return;
+            }
+            if (!game.isInProgress()) {
+                respond(boardId, sequence, GameProtocol.STATUS_GAME_OVER, game.getGameStatus());
+                return;
+            }
+            if (!game.isValidPosition(row, col)) {
+                respond(boardId, sequence, GameProtocol.STATUS_INVALID_POSITION, game.getGameStatus());
+                return;
+            }
+
+            if (userAction == UserAction.OPEN) {
+                game.openAt(row, col);
+            } else {
+                game.flagAt(row, col);
+            }
+            respondWithDeltas(game, sequence);
+        }
+
+        private void respondWithDeltas(RemoteGame game, int sequence) {
+            ensureWritable(game.getResponseSize());
+            GameProtocol.writeResponseHeader(writeBuffer, game.getId(), sequence, GameProtocol.STATUS_OK, game.getGameStatus(), game.getDeltaCount());
+            game.writeDeltas(writeBuffer);
+        }
+
+        private void respond(int boardId, int sequence, byte status, byte gameStatus) {
+            ensureWritable(GameProtocol.RESPONSE_HEADER_SIZE);
+            GameProtocol.writeResponseHeader(writeBuffer, boardId, sequence, status, gameStatus, ZERO);
+        }
+
+        private void ensureWritable(int size) {
+            if (writeBuffer.remaining() >= size) {
+                return;
+            }
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(writeBuffer.capacity() * 2, writeBuffer.position() + size));
+            writeBuffer.flip();
+            grown.put(writeBuffer);
+            writeBuffer = grown;
+        }
+
+        private void close() {
+            key.cancel();
+            games.clear();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // 이미 끊긴 연결을 닫는 중이므로 더 할 일이 없다.
+            }
+        }
+    }
+
+}
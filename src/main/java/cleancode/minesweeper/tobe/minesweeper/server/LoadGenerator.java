@@ -0,0 +1,145 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+GameServer 에 연결 여러 개로 수를 보내 초당 수와 지연 시간 백분위를 잰다.
+- 연결마다 스레드 하나가 GameClient 로 보드를 만들고, 받은 delta 로 화면을 따라가며 아직 닫힌 셀을 무작위로 연다.
+  게임이 끝나면 보드를 닫고 새 보드를 만든다.
+- 지연 시간은 OPEN 요청을 보내기 직전부터 응답을 다 읽을 때까지다. 스레드마다 따로 모았다가 끝난 뒤 합쳐 정렬한다.
+ */
+public class LoadGenerator {
+
+    private static final int INITIAL_LATENCY_CAPACITY = 1024;
+
+    private final InetSocketAddress address;
+
+    public LoadGenerator(InetSocketAddress address) {
+        this.address = address;
+    }
+
+    public LoadReport run(int connectionCount, byte level, Duration duration) {
+        GameLevel gameLevel = GameProtocol.gameLevelOf(level);
+        if (gameLevel == null) {
+            throw new IllegalArgumentException("알 수 없는 레벨입니다: " + level);
+        }
+
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + duration.toNanos();
+        Player[] players = new Player[connectionCount];
+        Thread[] threads = new Thread[connectionCount];
+        for (int i = ZERO; i < connectionCount; i++) {
+            players[i] = new Player(level, gameLevel, deadlineNanos, new SplittableRandom(i));
+            threads[i] = new Thread(players[i], "load-generator-" + i);
+            threads[i].start();
+        }
+
+        long[] latencies = new long[ZERO];
+        long gameCount = ZERO;
+        for (int i = ZERO; i < connectionCount; i++) {
+            join(threads[i]);
+            if (players[i].failure != null) {
+                throw new IllegalStateException("부하를 주는 중 오류가 발생했습니다.", players[i].failure);
+            }
+            latencies = concat(latencies, players[i].latencies, players[i].moveCount);
+            gameCount += players[i].gameCount;
+        }
+        Arrays.sort(latencies);
+        return LoadReport.of(connectionCount, gameCount, latencies, System.nanoTime() - startNanos);
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("부하 생성이 중단되었습니다.", e);
+        }
+    }
+
+    private static long[] concat(long[] left, long[] right, int rightLength) {
+        long[] result = Arrays.copyOf(left, left.length + rightLength);
+        System.arraycopy(right, ZERO, result, left.length, rightLength);
+        return result;
+    }
+
+    private class Player implements Runnable {
+
+        private final byte level;
+        private final GameLevel gameLevel;
+        private final long deadlineNanos;
+        private final SplittableRandom random;
+        private final byte[] codes;
+        private long[] latencies = new long[INITIAL_LATENCY_CAPACITY];
+        private int moveCount;
+        private long gameCount;
+        private RuntimeException failure;
+
+        private Player(byte level, GameLevel gameLevel, long deadlineNanos, SplittableRandom random) {
+            this.level = level;
+            this.gameLevel = gameLevel;
+            this.deadlineNanos = deadlineNanos;
+            this.random = random;
+            this.codes = new byte[gameLevel.getRowSize() * gameLevel.getColSize()];
+        }
+
+        @Override
+        public void run() {
+            try (GameClient client = GameClient.connect(address)) {
+                while (System.nanoTime() < deadlineNanos) {
+                    playGame(client);
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        private void playGame(GameClient client) {
+            int boardId = client.newGame(level).getBoardId();
+            Arrays.fill(codes, (byte) CellSnapshot.UNCHECKED_CODE);
+            gameCount++;
+
+            GameResponse response;
+            do {
+                int index = pickUncheckedIndex();
+                long startNanos = System.nanoTime();
+                response = client.open(boardId, index / gameLevel.getColSize(), index % gameLevel.getColSize());
+                recordLatency(System.nanoTime() - startNanos);
+                applyDeltas(response.getDeltas());
+            } while (response.isOk() && response.isInProgress() && System.nanoTime() < deadlineNanos);
+
+            client.closeGame(boardId);
+        }
+
+        private int pickUncheckedIndex() {
+            while (true) {
+                int index = random.nextInt(codes.length);
+                if (codes[index] == CellSnapshot.UNCHECKED_CODE) {
+                    return index;
+                }
+            }
+        }
+
+        private void applyDeltas(int[] deltas) {
+            for (int delta : deltas) {
+                codes[GameProtocol.cellIndexOf(delta)] = (byte) GameProtocol.codeOf(delta);
+            }
+        }
+
+        private void recordLatency(long latencyNanos) {
+            if (moveCount == latencies.length) {
+                latencies = Arrays.copyOf(latencies, moveCount * 2);
+            }
+            latencies[moveCount++] = latencyNanos;
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+public class LoadReport {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private final int connectionCount;
+    private final long gameCount;
+    // 오름차순으로 정렬된 수 하나하나의 지연 시간(ns)
+    private final long[] sortedLatencies;
+    private final long elapsedNanos;
+
+    private LoadReport(int connectionCount, long gameCount, long[] sortedLatencies, long elapsedNanos) {
+        this.connectionCount = connectionCount;
+        this.gameCount = gameCount;
+        this.sortedLatencies = sortedLatencies;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public static LoadReport of(int connectionCount, long gameCount, long[] sortedLatencies, long elapsedNanos) {
+        return new LoadReport(connectionCount, gameCount, sortedLatencies, elapsedNanos);
+    }
+
+    // 조회
+    public long getMoveCount() {
+        return sortedLatencies.length;
+    }
+
+    public double getMovesPerSecond() {
+        return sortedLatencies.length * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    // percentile 은 0 ~ 100. 잰 수가 없으면 0
+    public long getLatencyNanos(double percentile) {
+        if (sortedLatencies.length == ZERO) {
+            return ZERO;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - ONE;
+        return sortedLatencies[Math.max(ZERO, Math.min(sortedLatencies.length - ONE, index))];
+    }
+
+    public String format() {
+        return String.format("연결 %d개, %.2f초 동안 %,d판 / %,d수 (초당 %,.0f수)%n", connectionCount, elapsedNanos / NANOS_PER_SECOND,
+                gameCount, getMoveCount(), getMovesPerSecond())
+                + String.format("지연 시간(us): p50 %.1f, p99 %.1f, p99.9 %.1f, 최대 %.1f%n", micros(getLatencyNanos(50)),
+                micros(getLatencyNanos(99)), micros(getLatencyNanos(99.9)), micros(getLatencyNanos(100)));
+    }
+
+    private static double micros(long nanos) {
+        return nanos / NANOS_PER_MICRO;
+    }
+
+}
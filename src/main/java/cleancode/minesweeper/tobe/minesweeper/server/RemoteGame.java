@@ -0,0 +1,98 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellChangeSet;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import java.nio.ByteBuffer;
+
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+원격 클라이언트가 플레이하는 보드 하나. 수를 둘 때마다 GameBoard 가 돌려준 변경 목록을 그대로 delta 로 보낸다.
+변경 목록이 잘린 수는 모든 셀의 코드를 delta 로 보낸다.
+클라이언트는 새 게임을 모든 셀이 UNCHECKED 인 화면으로 시작해 delta 만 덮어쓰면 된다.
+ */
+public class RemoteGame {
+
+    private final int id;
+    private final GameBoard gameBoard;
+    private CellChangeSet lastChanges;
+    private byte[] snapshotCodes;
+
+    public RemoteGame(int id, GameLevel gameLevel, BoardRandom boardRandom) {
+        this.id = id;
+        this.gameBoard = new GameBoard(gameLevel, boardRandom);
+        this.gameBoard.initializeGame();
+    }
+
+    // 상태 변경
+    public void openAt(int row, int col) {
+        lastChanges = gameBoard.openAt(CellPosition.of(row, col));
+    }
+
+    public void flagAt(int row, int col) {
+        lastChanges = gameBoard.flagAt(CellPosition.of(row, col));
+    }
+
+    // 마지막 수로 코드가 바뀐 셀을 buffer 에 쓴다.
+    public void writeDeltas(ByteBuffer buffer) {
+        if (lastChanges.isTruncated()) {
+            writeAllCells(buffer);
+            return;
+        }
+        for (int i = ZERO; i < lastChanges.size(); i++) {
+            buffer.putInt(GameProtocol.packDelta(lastChanges.getIndex(i), lastChanges.getCode(i)));
+        }
+    }
+
+    private void writeAllCells(ByteBuffer buffer) {
+        if (snapshotCodes == null) {
+            snapshotCodes = new byte[getCellCount()];
+        }
+        gameBoard.writeSnapshotCodes(snapshotCodes);
+        for (int index = ZERO; index < snapshotCodes.length; index++) {
+            buffer.putInt(GameProtocol.packDelta(index, snapshotCodes[index]));
+        }
+    }
+
+    // 판별
+    public boolean isInProgress() {
+        return gameBoard.isInProgress();
+    }
+
+    public boolean isValidPosition(int row, int col) {
+        return row < gameBoard.getRowSize() && col < gameBoard.getColSize();
+    }
+
+    // 조회
+    public int getId() {
+        return id;
+    }
+
+    public byte getGameStatus() {
+        if (gameBoard.isWinStatus()) {
+            return GameProtocol.GAME_WIN;
+        }
+        if (gameBoard.isLoseStatus()) {
+            return GameProtocol.GAME_LOSE;
+        }
+        return GameProtocol.GAME_IN_PROGRESS;
+    }
+
+    public int getDeltaCount() {
+        return lastChanges.isTruncated() ? getCellCount() : lastChanges.size();
+    }
+
+    // 마지막 수의 delta 를 모두 담은 응답 크기
+    public int getResponseSize() {
+        return GameProtocol.RESPONSE_HEADER_SIZE + getDeltaCount() * GameProtocol.DELTA_SIZE;
+    }
+
+    private int getCellCount() {
+        return gameBoard.getRowSize() * gameBoard.getColSize();
+    }
+
+}
@@ -0,0 +1,85 @@
+package cleancode.minesweeper.tobe.minesweeper.session;
+
+import cleancode.minesweeper.tobe.minesweeper.Minesweeper;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+호스트 위에서 도는 게임 한 판. Minesweeper 의 run() 은 세션 스레드에서 돌고, 입력은 send 로 밖에서 넣어 준다.
+ */
+public class GameSession {
+
+    private final long id;
+    private final Minesweeper minesweeper;
+    private final SessionInputHandler inputHandler;
+    private final SessionMetrics metrics;
+    // 세션 스레드가 시작하거나, 시작하기 전에 닫히면 true. 먼저 바꾼 쪽이 호스트의 세션 자리를 돌려준다.
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile Future<?> future;
+    private volatile boolean initialized;
+    private volatile boolean closed;
+
+    public GameSession(long id, Minesweeper minesweeper, SessionInputHandler inputHandler, SessionMetrics metrics) {
+        this.id = id;
+        this.minesweeper = minesweeper;
+        this.inputHandler = inputHandler;
+        this.metrics = metrics;
+    }
+
+    // 상태 변경
+    // 받아 둔 입력이 한도에 차 있으면 false
+    public boolean send(String line) {
+        boolean accepted = inputHandler.submit(line);
+        metrics.recordInputLine(accepted);
+        return accepted;
+    }
+
+    // 시작하기 전에 닫힌 세션이면 false 이고, 세션 자리는 close 쪽에서 이미 돌려준 것이다.
+    boolean start() {
+        return started.compareAndSet(false, true);
+    }
+
+    void run() {
+        minesweeper.initialize();
+        initialized = true;
+        minesweeper.run();
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+        if (closed) {
+            future.cancel(true);
+        }
+    }
+
+    // 세션 스레드를 인터럽트해 입력을 기다리던 run() 을 끝낸다.
+    // 세션 스레드가 아직 시작하지 않았으면 true 이고, 그때는 세션 자리를 부른 쪽에서 돌려주어야 한다.
+    boolean close() {
+        closed = true;
+        boolean closedBeforeStart = started.compareAndSet(false, true);
+        Future<?> runningFuture = future;
+        if (runningFuture != null) {
+            runningFuture.cancel(true);
+        }
+        return closedBeforeStart;
+    }
+
+    // 조회
+    public long getId() {
+        return id;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public boolean isWinStatus() {
+        return initialized && minesweeper.isWinStatus();
+    }
+
+    public boolean isLoseStatus() {
+        return initialized && minesweeper.isLoseStatus();
+    }
+
+}
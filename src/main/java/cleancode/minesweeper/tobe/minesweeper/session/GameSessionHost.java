@@ -0,0 +1,166 @@
+package cleancode.minesweeper.tobe.minesweeper.session;
+
+import cleancode.minesweeper.tobe.minesweeper.Minesweeper;
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoardProvider;
+import cleancode.minesweeper.tobe.minesweeper.board.SynchronousGameBoardProvider;
+import cleancode.minesweeper.tobe.minesweeper.config.GameConfig;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+한 JVM 에서 여러 판의 Minesweeper 를 동시에 돌린다.
+- 세션마다 입력/출력 핸들러와 보드 공급자를 따로 두고, run() 루프를 세션 스레드 하나에서 돌린다.
+  세션 스레드는 대부분 입력을 기다리며 쉬므로, JDK 21 이상이면 가상 스레드를 써서 쉬는 세션이 OS 스레드를 붙잡지 않게 한다.
+  이 프로젝트는 Java 17 로 컴파일하므로 가상 스레드 실행기는 리플렉션으로 찾고, 없으면 일반 스레드를 세션마다 하나씩 쓴다.
+  일반 스레드를 쓸 때는 동시에 열 수 있는 세션 수를 maxPlatformSessionCount 로 막고, 넘치면 open 이 빈 값을 돌려준다.
+- 살아 있는 세션은 id 로 찾을 수 있고, 게임이 끝나거나 닫힌 세션은 바로 목록에서 빠진다.
+ */
+public class GameSessionHost implements AutoCloseable {
+
+    private static final String VIRTUAL_THREAD_EXECUTOR_FACTORY = "newVirtualThreadPerTaskExecutor";
+    private static final int DEFAULT_MAX_PLATFORM_SESSION_COUNT = 256;
+
+    private final GameLevel gameLevel;
+    private final BoardRandom boardRandom;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final Semaphore sessionSlots;
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong lastSessionId = new AtomicLong();
+    private final SessionMetrics metrics = new SessionMetrics();
+
+    public GameSessionHost(GameLevel gameLevel, BoardRandom boardRandom) {
+        this(gameLevel, boardRandom, DEFAULT_MAX_PLATFORM_SESSION_COUNT);
+    }
+
+    public GameSessionHost(GameLevel gameLevel, BoardRandom boardRandom, int maxPlatformSessionCount) {
+        if (maxPlatformSessionCount <= 0) {
+            throw new IllegalArgumentException("동시에 열 수 있는 세션 수는 1 이상이어야 합니다.");
+        }
+        this.gameLevel = gameLevel;
+        this.boardRandom = boardRandom;
+
+        ExecutorService virtualThreadExecutor = findVirtualThreadExecutor();
+        this.virtualThreads = virtualThreadExecutor != null;
+        this.executor = virtualThreads ? virtualThreadExecutor : Executors.newCachedThreadPool(new SessionThreadFactory());
+        this.sessionSlots = new Semaphore(virtualThreads ? Integer.MAX_VALUE : maxPlatformSessionCount);
+    }
+
+    private static ExecutorService findVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_FACTORY).invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    // 상태 변경
+    // 동시에 열 수 있는 세션 수를 넘었거나 호스트가 닫혔으면 빈 값
+    public Optional<GameSession> open(SessionOutput sessionOutput) {
+        if (!sessionSlots.tryAcquire()) {
+            metrics.recordRejected();
+            return Optional.empty();
+        }
+
+        long id = lastSessionId.incrementAndGet();
+        SessionInputHandler inputHandler = new SessionInputHandler();
+        GameConfig gameConfig = new GameConfig(gameLevel, newGameBoardProvider(), inputHandler, new SessionOutputHandler(sessionOutput));
+        GameSession session = new GameSession(id, new Minesweeper(gameConfig), inputHandler, metrics);
+
+        sessions.put(id, session);
+        try {
+            session.attach(executor.submit(() -> runSession(session)));
+        } catch (RejectedExecutionException e) {
+            sessions.remove(id);
+            sessionSlots.release();
+            metrics.recordRejected();
+            return Optional.empty();
+        }
+        metrics.recordOpened();
+        return Optional.of(session);
+    }
+
+    // BoardRandom 은 스레드 하나가 쓰므로, 세션마다 split 해서 나누어 준다.
+    private GameBoardProvider newGameBoardProvider() {
+        synchronized (boardRandom) {
+            return new SynchronousGameBoardProvider(gameLevel, boardRandom.split());
+        }
+    }
+
+    // 시작하기 전에 닫힌 세션은 close 가 세션 자리를 돌려주므로, 여기서는 시작한 세션의 자리만 돌려준다.
+    private void runSession(GameSession session) {
+        if (!session.start()) {
+            return;
+        }
+        try {
+            if (!session.isClosed()) {
+                session.run();
+            }
+        } finally {
+            if (sessions.remove(session.getId(), session)) {
+                metrics.recordFinished(session);
+            }
+            sessionSlots.release();
+        }
+    }
+
+    // 이미 끝났거나 없는 세션이면 false
+    public boolean close(long sessionId) {
+        GameSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return false;
+        }
+        if (session.close()) {
+            sessionSlots.release();
+        }
+        metrics.recordClosed();
+        return true;
+    }
+
+    @Override
+    public void close() {
+        sessions.keySet().forEach(this::close);
+        executor.shutdownNow();
+    }
+
+    // 조회
+    public Optional<GameSession> findSession(long sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    public SessionMetrics getMetrics() {
+        return metrics;
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    private static class SessionThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "game-session-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
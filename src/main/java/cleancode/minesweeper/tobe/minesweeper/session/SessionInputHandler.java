@@ -0,0 +1,33 @@
+package cleancode.minesweeper.tobe.minesweeper.session;
+
+import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
+import cleancode.minesweeper.tobe.minesweeper.io.LineInputHandler;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/*
+세션 밖에서 넣어 준 입력을 한 줄씩 꺼내 준다. 입력이 없으면 들어올 때까지 세션 스레드가 기다린다.
+받아 두는 입력 수에 한도를 두어, 입력만 계속 보내는 클라이언트가 메모리를 차지하지 못하게 한다.
+ */
+public class SessionInputHandler extends LineInputHandler {
+
+    private static final int MAX_PENDING_LINE_COUNT = 64;
+
+    private final BlockingQueue<String> lines = new LinkedBlockingQueue<>(MAX_PENDING_LINE_COUNT);
+
+    // 받아 둔 입력이 한도에 차 있으면 false
+    public boolean submit(String line) {
+        return lines.offer(line);
+    }
+
+    @Override
+    protected String readLine() {
+        try {
+            return lines.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GameException("세션이 종료되었습니다.");
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package cleancode.minesweeper.tobe.minesweeper.session;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+세션 호스트 전체의 누적 지표. 여러 세션 스레드가 동시에 올리므로 경합이 적은 LongAdder 를 쓴다.
+지금 살아 있는 세션 수는 GameSessionHost.getActiveSessionCount() 로 본다.
+ */
+public class SessionMetrics {
+
+    private final LongAdder openedSessionCount = new LongAdder();
+    private final LongAdder rejectedSessionCount = new LongAdder();
+    private final LongAdder wonSessionCount = new LongAdder();
+    private final LongAdder lostSessionCount = new LongAdder();
+    private final LongAdder closedSessionCount = new LongAdder();
+    private final LongAdder failedSessionCount = new LongAdder();
+    private final LongAdder inputLineCount = new LongAdder();
+    private final LongAdder rejectedInputLineCount = new LongAdder();
+
+    // 상태 변경
+    void recordOpened() {
+        openedSessionCount.increment();
+    }
+
+    void recordRejected() {
+        rejectedSessionCount.increment();
+    }
+
+    void recordFinished(GameSession session) {
+        if (session.isWinStatus()) {
+            wonSessionCount.increment();
+            return;
+        }
+        if (session.isLoseStatus()) {
+            lostSessionCount.increment();
+            return;
+        }
+        failedSessionCount.increment();
+    }
+
+    void recordClosed() {
+        closedSessionCount.increment();
+    }
+
+    void recordInputLine(boolean accepted) {
+        if (accepted) {
+            inputLineCount.increment();
+            return;
+        }
+        rejectedInputLineCount.increment();
+    }
+
+    // 조회
+    public long getOpenedSessionCount() {
+        return openedSessionCount.sum();
+    }
+
+    // 동시에 열 수 있는 세션 수를 넘어 열지 못한 세션
+    public long getRejectedSessionCount() {
+        return rejectedSessionCount.sum();
+    }
+
+    public long getWonSessionCount() {
+        return wonSessionCount.sum();
+    }
+
+    public long getLostSessionCount() {
+        return lostSessionCount.sum();
+    }
+
+    // 게임이 끝나기 전에 닫힌 세션
+    public long getClosedSessionCount() {
+        return closedSessionCount.sum();
+    }
+
+    // 보드를 만들다가 예외가 나는 등 승패 없이 끝난 세션
+    public long getFailedSessionCount() {
+        return failedSessionCount.sum();
+    }
+
+    public long getInputLineCount() {
+        return inputLineCount.sum();
+    }
+
+    // 받아 둔 입력이 한도에 차서 버린 입력
+    public long getRejectedInputLineCount() {
+        return rejectedInputLineCount.sum();
+    }
+
+}
@@ -0,0 +1,6 @@
+package cleancode.minesweeper.tobe.minesweeper.session;
+
+// 세션의 출력을 받아 갈 곳(네트워크 연결 등). 세션 스레드에서 호출되므로 오래 막히지 않아야 한다.
+public interface SessionOutput {
+    void send(String message);
+}
@@ -0,0 +1,84 @@
+package cleancode.minesweeper.tobe.minesweeper.session;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
+import cleancode.minesweeper.tobe.minesweeper.io.BoardIndexConverter;
+import cleancode.minesweeper.tobe.minesweeper.io.OutputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.sign.CellSignProvider;
+
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+ConsoleOutputHandler 와 같은 문구를 SessionOutput 으로 보낸다.
+쉬고 있는 세션이 많아도 메모리를 적게 쓰도록, 화면 버퍼를 들고 있지 않고 보드를 그릴 때마다 문자열 하나로 만들어 보낸다.
+ */
+public class SessionOutputHandler implements OutputHandler {
+
+    private static final BoardIndexConverter BOARD_INDEX_CONVERTER = new BoardIndexConverter();
+
+    private final SessionOutput sessionOutput;
+
+    public SessionOutputHandler(SessionOutput sessionOutput) {
+        this.sessionOutput = sessionOutput;
+    }
+
+    @Override
+    public void showGameStartComments() {
+        sessionOutput.send("지뢰찾기 게임 시작!");
+    }
+
+    @Override
+    public void showBoard(GameBoard gameBoard) {
+        byte[] codes = new byte[gameBoard.getRowSize() * gameBoard.getColSize()];
+        gameBoard.writeSnapshotCodes(codes);
+        sessionOutput.send(render(codes, gameBoard.getRowSize(), gameBoard.getColSize()));
+    }
+
+    private String render(byte[] codes, int rowCount, int colCount) {
+        StringBuilder board = new StringBuilder();
+        board.append("   ");
+        for (int col = ZERO; col < colCount; col++) {
+            board.append(' ').append(BOARD_INDEX_CONVERTER.getColLabelOf(col));
+        }
+        board.append('\n');
+        for (int row = ZERO; row < rowCount; row++) {
+            board.append(String.format("%3d", row + 1));
+            for (int col = ZERO; col < colCount; col++) {
+                board.append(' ').append(CellSignProvider.findCellSignFrom(CellSnapshot.ofCode(codes[row * colCount + col])));
+            }
+            board.append('\n');
+        }
+        return board.toString();
+    }
+
+    @Override
+    public void showGameWinningComment() {
+        sessionOutput.send("지뢰를 모두 찾았습니다. GAME CLEAR!");
+    }
+
+    @Override
+    public void showGameLosingComment() {
+        sessionOutput.send("지뢰를 밟았습니다. GAME OVER!");
+    }
+
+    @Override
+    public void showCommentForSelectingCell() {
+        sessionOutput.send("선택할 좌표를 입력하세요. (예: a1)");
+    }
+
+    @Override
+    public void showCommentForUserAction() {
+        sessionOutput.send("선택한 셀에 대한 행위를 선택하세요. (1: 오픈, 2: 깃발 꽂기, 3: 힌트)");
+    }
+
+    @Override
+    public void showExceptionMessage(GameException e) {
+        sessionOutput.send(e.getMessage());
+    }
+
+    @Override
+    public void showSimpleMessage(String message) {
+        sessionOutput.send(message);
+    }
+}
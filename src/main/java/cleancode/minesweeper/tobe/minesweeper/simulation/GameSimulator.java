@@ -0,0 +1,92 @@
+package cleancode.minesweeper.tobe.minesweeper.simulation;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.solver.AutoSolver;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+AutoSolver 로 같은 레벨을 여러 판 플레이해 승률, 연쇄 열림 크기, 끝날 때까지의 수를 모은다.
+- 풀의 스레드 수만큼 worker 를 띄운다. worker 는 GameBoard 와 AutoSolver 를 하나씩 만들어 모든 판에 다시 쓴다.
+- worker 는 공유 카운터에서 판 번호를 BATCH_SIZE 씩 가져가므로, 카운터 말고는 스레드끼리 닿는 곳이 없다.
+  결과도 worker 마다 따로 모으고 마지막에 한 번 합친다.
+- 판마다 seed 는 (rootSeed, 판 번호)로 정해지므로 스레드 수가 달라도 같은 rootSeed 면 같은 판들을 플레이한다.
+ */
+public class GameSimulator {
+
+    private static final int BATCH_SIZE = 64;
+
+    private final ForkJoinPool pool;
+
+    public GameSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public SimulationReport simulate(GameLevel gameLevel, long gameCount, long rootSeed) {
+        if (gameCount <= ZERO) {
+            throw new IllegalArgumentException("시뮬레이션할 게임 수는 1 이상이어야 합니다.");
+        }
+
+        long startNanos = System.nanoTime();
+        AtomicLong nextGameNumber = new AtomicLong();
+        int workerCount = (int) Math.min(pool.getParallelism(), (gameCount + BATCH_SIZE - ONE) / BATCH_SIZE);
+        BoardRandom boardRandom = BoardRandom.of(rootSeed);
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[workerCount];
+        Worker[] workers = new Worker[workerCount];
+        for (int i = ZERO; i < workerCount; i++) {
+            Worker worker = new Worker(gameLevel, boardRandom.split());
+            workers[i] = worker;
+            tasks[i] = pool.submit(() -> worker.play(nextGameNumber, gameCount, rootSeed));
+        }
+
+        SimulationStats stats = new SimulationStats();
+        for (int i = ZERO; i < workerCount; i++) {
+            tasks[i].join();
+            stats.merge(workers[i].stats);
+        }
+        return SimulationReport.of(gameLevel, stats, workerCount, System.nanoTime() - startNanos);
+    }
+
+    // SplittableRandom 과 같은 SplitMix64 섞기. 이웃한 판 번호도 서로 관계없는 seed 가 된다.
+    private static long seedOf(long rootSeed, long gameNumber) {
+        long z = rootSeed + (gameNumber + ONE) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static class Worker {
+
+        private final GameBoard gameBoard;
+        private final AutoSolver autoSolver = new AutoSolver();
+        private final SimulationStats stats = new SimulationStats();
+        private final IntConsumer cascadeListener = stats::recordCascade;
+
+        private Worker(GameLevel gameLevel, BoardRandom boardRandom) {
+            this.gameBoard = new GameBoard(gameLevel, boardRandom);
+        }
+
+        private void play(AtomicLong nextGameNumber, long gameCount, long rootSeed) {
+            while (true) {
+                long from = nextGameNumber.getAndAdd(BATCH_SIZE);
+                if (from >= gameCount) {
+                    return;
+                }
+                long to = Math.min(gameCount, from + BATCH_SIZE);
+                for (long gameNumber = from; gameNumber < to; gameNumber++) {
+                    gameBoard.initializeGame(seedOf(rootSeed, gameNumber));
+                    stats.recordGame(autoSolver.solve(gameBoard, cascadeListener));
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package cleancode.minesweeper.tobe.minesweeper.simulation;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+public class SimulationReport {
+
+    // 승률 95% 신뢰구간의 z 값
+    private static final double Z_95 = 1.96;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final GameLevel gameLevel;
+    private final SimulationStats stats;
+    private final int workerCount;
+    private final long elapsedNanos;
+
+    private SimulationReport(GameLevel gameLevel, SimulationStats stats, int workerCount, long elapsedNanos) {
+        this.gameLevel = gameLevel;
+        this.stats = stats;
+        this.workerCount = workerCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public static SimulationReport of(GameLevel gameLevel, SimulationStats stats, int workerCount, long elapsedNanos) {
+        return new SimulationReport(gameLevel, stats, workerCount, elapsedNanos);
+    }
+
+    // 조회
+    public SimulationStats getStats() {
+        return stats;
+    }
+
+    public double getWinRate() {
+        return ratio(stats.getWinCount(), stats.getGameCount());
+    }
+
+    public double getWinRateMarginOfError() {
+        double winRate = getWinRate();
+        return Z_95 * Math.sqrt(winRate * (ONE - winRate) / stats.getGameCount());
+    }
+
+    public double getGamesPerSecond() {
+        return stats.getGameCount() * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("레벨: %dx%d, 지뢰 %d개%n",
+                gameLevel.getRowSize(), gameLevel.getColSize(), gameLevel.getLandMineCount()));
+        report.append(String.format("게임 수: %,d (스레드 %d개, %.2f초, 초당 %,.0f판)%n",
+                stats.getGameCount(), workerCount, elapsedNanos / NANOS_PER_SECOND, getGamesPerSecond()));
+        report.append(String.format("승률: %.2f%% (±%.2f%%p), 추론만으로 이긴 판: %.2f%%%n",
+                getWinRate() * 100, getWinRateMarginOfError() * 100, ratio(stats.getNoGuessWinCount(), stats.getGameCount()) * 100));
+        report.append(String.format("판당 평균 추측: %.2f, 판당 평균 수: %.1f%n",
+                ratio(stats.getGuessCount(), stats.getGameCount()), ratio(stats.getMoveCount(), stats.getGameCount())));
+        report.append(String.format("이길 때까지 수: 평균 %.1f, 최소 %d, 최대 %d%n",
+                ratio(stats.getWinMoveCount(), stats.getWinCount()), stats.getMinWinMoveCount(), stats.getMaxWinMoveCount()));
+        report.append(String.format("연쇄 열림: %,d번, 평균 %.1f칸, 최대 %d칸%n",
+                stats.getCascadeCount(), ratio(stats.getCascadeCellCount(), stats.getCascadeCount()), stats.getLargestCascadeSize()));
+        appendCascadeBuckets(report);
+        return report.toString();
+    }
+
+    private void appendCascadeBuckets(StringBuilder report) {
+        for (int bucket = ZERO; bucket < SimulationStats.CASCADE_BUCKET_COUNT; bucket++) {
+            long count = stats.getCascadeBucketCount(bucket);
+            if (count == ZERO) {
+                continue;
+            }
+            long from = 1L << bucket;
+            long to = (from << ONE) - ONE;
+            String range = from == to ? String.valueOf(from) : from + "-" + to;
+            report.append(String.format("  %13s칸: %,d (%.2f%%)%n", range, count, ratio(count, stats.getCascadeCount()) * 100));
+        }
+    }
+
+    private static double ratio(long numerator, long denominator) {
+        return denominator == ZERO ? ZERO : (double) numerator / denominator;
+    }
+
+}
@@ -0,0 +1,122 @@
+package cleancode.minesweeper.tobe.minesweeper.simulation;
+
+import cleancode.minesweeper.tobe.minesweeper.board.solver.AutoSolverResult;
+
+import static cleancode.minesweeper.tobe.GameApplication.ONE;
+import static cleancode.minesweeper.tobe.GameApplication.ZERO;
+
+/*
+시뮬레이션 결과를 모은다. 인스턴스는 스레드 하나가 쓰고, 스레드마다 모은 것을 마지막에 merge 로 합친다.
+연쇄 열림(openAt 한 번에 열린 셀 수)은 2 의 거듭제곱 구간별로 센다. 구간 i 는 [2^i, 2^(i+1)) 이다.
+ */
+public class SimulationStats {
+
+    public static final int CASCADE_BUCKET_COUNT = Integer.SIZE;
+
+    private long gameCount;
+    private long winCount;
+    private long noGuessWinCount;
+    private long guessCount;
+    private long moveCount;
+    private long winMoveCount;
+    private int minWinMoveCount = Integer.MAX_VALUE;
+    private int maxWinMoveCount;
+    private long cascadeCount;
+    private long cascadeCellCount;
+    private int largestCascadeSize;
+    private final long[] cascadeBuckets = new long[CASCADE_BUCKET_COUNT];
+
+    // 상태 변경
+    public void recordGame(AutoSolverResult result) {
+        gameCount++;
+        guessCount += result.getGuessCount();
+        moveCount += result.getMoveCount();
+        if (!result.isWin()) {
+            return;
+        }
+
+        winCount++;
+        // 첫 수는 항상 추측이므로, 추측이 한 번뿐이면 추론만으로 이긴 판이다.
+        if (result.getGuessCount() <= ONE) {
+            noGuessWinCount++;
+        }
+        winMoveCount += result.getMoveCount();
+        minWinMoveCount = Math.min(minWinMoveCount, result.getMoveCount());
+        maxWinMoveCount = Math.max(maxWinMoveCount, result.getMoveCount());
+    }
+
+    public void recordCascade(int openedCellCount) {
+        cascadeCount++;
+        cascadeCellCount += openedCellCount;
+        largestCascadeSize = Math.max(largestCascadeSize, openedCellCount);
+        cascadeBuckets[Integer.SIZE - ONE - Integer.numberOfLeadingZeros(openedCellCount)]++;
+    }
+
+    public void merge(SimulationStats other) {
+        gameCount += other.gameCount;
+        winCount += other.winCount;
+        noGuessWinCount += other.noGuessWinCount;
+        guessCount += other.guessCount;
+        moveCount += other.moveCount;
+        winMoveCount += other.winMoveCount;
+        minWinMoveCount = Math.min(minWinMoveCount, other.minWinMoveCount);
+        maxWinMoveCount = Math.max(maxWinMoveCount, other.maxWinMoveCount);
+        cascadeCount += other.cascadeCount;
+        cascadeCellCount += other.cascadeCellCount;
+        largestCascadeSize = Math.max(largestCascadeSize, other.largestCascadeSize);
+        for (int i = ZERO; i < CASCADE_BUCKET_COUNT; i++) {
+            cascadeBuckets[i] += other.cascadeBuckets[i];
+        }
+    }
+
+    // 조회
+    public long getGameCount() {
+        return gameCount;
+    }
+
+    public long getWinCount() {
+        return winCount;
+    }
+
+    public long getNoGuessWinCount() {
+        return noGuessWinCount;
+    }
+
+    public long getGuessCount() {
+        return guessCount;
+    }
+
+    public long getMoveCount() {
+        return moveCount;
+    }
+
+    public long getWinMoveCount() {
+        return winMoveCount;
+    }
+
+    // 이긴 판이 없으면 0
+    public int getMinWinMoveCount() {
+        return winCount == ZERO ? ZERO : minWinMoveCount;
+    }
+
+    public int getMaxWinMoveCount() {
+        return maxWinMoveCount;
+    }
+
+    public long getCascadeCount() {
+        return cascadeCount;
+    }
+
+    public long getCascadeCellCount() {
+        return cascadeCellCount;
+    }
+
+    public int getLargestCascadeSize() {
+        return largestCascadeSize;
+    }
+
+    public long getCascadeBucketCount(int bucket) {
+        return cascadeBuckets[bucket];
+    }
+
+}
@@ -0,0 +1,153 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Advanced;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.CustomGameLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardCheckpointTest {
+
+    // 매직(4) + 버전(2) + 게임 상태, 상태 플래그, 생성 방식(3) + 행 수, 열 수(8) 뒤에 지뢰 수가 있다.
+    private static final int LAND_MINE_COUNT_OFFSET = 17;
+    // 지뢰 수(4) + seed(8) 뒤에 이름 길이가 있다.
+    private static final int ALGORITHM_NAME_LENGTH_OFFSET = 29;
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("저장한 보드를 불러오면 셀 상태, 게임 상태, seed 가 같고 이어서 둔 수도 같은 결과를 낸다.")
+    @Test
+    void roundTrip() {
+        for (BoardGenerationMode generationMode : BoardGenerationMode.values()) {
+            for (int moveCount : new int[]{0, 1, 30}) {
+                // given
+                GameBoard gameBoard = new GameBoard(new Advanced(), BoardRandom.of("Xoshiro256PlusPlus", moveCount), generationMode);
+                gameBoard.initializeGame();
+                playMoves(gameBoard, new SplittableRandom(moveCount), moveCount);
+                Path path = directory.resolve(generationMode + "-" + moveCount + ".ckpt");
+
+                // when
+                BoardCheckpoint.save(gameBoard, path);
+                GameBoard loaded = BoardCheckpoint.load(path);
+
+                // then
+                assertThat(stateOf(loaded)).isEqualTo(stateOf(gameBoard));
+                assertThat(loaded.getSeed()).isEqualTo(gameBoard.getSeed());
+                assertThat(loaded.getGenerationMode()).isEqualTo(generationMode);
+                assertThat(loaded.getRandomAlgorithm()).isEqualTo("Xoshiro256PlusPlus");
+
+                playMoves(gameBoard, new SplittableRandom(-moveCount), 10);
+                playMoves(loaded, new SplittableRandom(-moveCount), 10);
+                assertThat(stateOf(loaded)).isEqualTo(stateOf(gameBoard));
+            }
+        }
+    }
+
+    @DisplayName("CRC 가 맞지 않으면 헤더가 깨진 파일도 불러오지 않는다.")
+    @Test
+    void rejectsCorruptedHeader() throws IOException {
+        // given
+        Path path = saveSampleBoard();
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[LAND_MINE_COUNT_OFFSET + 3] ^= 1;
+        Files.write(path, bytes);
+
+        // when // then
+        assertThatThrownBy(() -> BoardCheckpoint.load(path))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("체크포인트 파일이 올바르지 않습니다.");
+    }
+
+    @DisplayName("이름 길이 byte 가 128 이상이어도 음수 길이로 읽지 않고, 남은 크기를 넘으면 불러오지 않는다.")
+    @Test
+    void rejectsAlgorithmNameLongerThanFile() throws IOException {
+        // given
+        Path path = saveSampleBoard();
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[ALGORITHM_NAME_LENGTH_OFFSET] = (byte) 0xC8;
+        Files.write(path, withChecksum(bytes));
+
+        // when // then
+        assertThatThrownBy(() -> BoardCheckpoint.load(path))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("체크포인트 파일이 올바르지 않습니다.");
+    }
+
+    @DisplayName("헤더의 지뢰 수가 셀 상태의 지뢰 수와 다르면 불러오지 않는다.")
+    @Test
+    void rejectsMismatchedLandMineCount() throws IOException {
+        // given
+        Path path = saveSampleBoard();
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).putInt(LAND_MINE_COUNT_OFFSET, 11);
+        Files.write(path, withChecksum(bytes));
+
+        // when // then
+        assertThatThrownBy(() -> BoardCheckpoint.load(path))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("체크포인트의 지뢰 수가 맞지 않습니다.");
+    }
+
+    @DisplayName("잘린 파일은 불러오지 않는다.")
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        // given
+        Path path = saveSampleBoard();
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, withChecksum(Arrays.copyOf(bytes, bytes.length - 8)));
+
+        // when // then
+        assertThatThrownBy(() -> BoardCheckpoint.load(path))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("체크포인트 파일이 올바르지 않습니다.");
+    }
+
+    private Path saveSampleBoard() {
+        GameBoard gameBoard = new GameBoard(CustomGameLevel.of(7, 9, 10), BoardRandom.of(1L));
+        gameBoard.initializeGame();
+        gameBoard.openAt(CellPosition.of(3, 4));
+        Path path = directory.resolve("sample.ckpt");
+        BoardCheckpoint.save(gameBoard, path);
+        return path;
+    }
+
+    // 첫 수는 열고, 그 뒤로는 열기와 깃발을 섞어 둔다.
+    private void playMoves(GameBoard gameBoard, SplittableRandom random, int moveCount) {
+        for (int move = 0; move < moveCount && gameBoard.isInProgress(); move++) {
+            CellPosition cellPosition = CellPosition.of(random.nextInt(gameBoard.getRowSize()), random.nextInt(gameBoard.getColSize()));
+            if (move > 0 && random.nextInt(3) == 0) {
+                gameBoard.flagAt(cellPosition);
+                continue;
+            }
+            gameBoard.openAt(cellPosition);
+        }
+    }
+
+    private byte[] stateOf(GameBoard gameBoard) {
+        ByteBuffer state = ByteBuffer.allocate(gameBoard.getStateSize());
+        gameBoard.writeState(state);
+        return state.array();
+    }
+
+    // 파일 끝의 CRC 를 내용에 맞게 다시 계산해, CRC 검사 뒤의 검사가 막는지 본다.
+    private byte[] withChecksum(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, bytes.length - Integer.BYTES);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - Integer.BYTES, (int) crc.getValue());
+        return bytes;
+    }
+
+}
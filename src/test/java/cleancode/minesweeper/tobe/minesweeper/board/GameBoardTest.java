@@ -0,0 +1,302 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellChangeSet;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.CustomGameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameBoardTest {
+
+    private static final GameLevel GAME_LEVEL = CustomGameLevel.of(8, 10, 12);
+    private static final long SEED = 7L;
+    private static final CellPosition FIRST_CLICK = CellPosition.of(4, 5);
+
+    @DisplayName("지뢰가 아닌 셀을 모두 열고 지뢰에 모두 깃발을 꽂으면 이긴다.")
+    @Test
+    void winsWhenAllSafeCellsAreOpenedAndAllLandMinesAreFlagged() {
+        // given
+        GameBoard gameBoard = startedGameBoard();
+        boolean[] landMines = landMinesOf(gameBoard);
+
+        // when
+        for (int index = 0; index < landMines.length; index++) {
+            assertThat(gameBoard.isInProgress()).isTrue();
+            if (landMines[index]) {
+                gameBoard.flagAt(positionOf(gameBoard, index));
+            } else {
+                gameBoard.openAt(positionOf(gameBoard, index));
+            }
+        }
+
+        // then
+        assertThat(gameBoard.isWinStatus()).isTrue();
+        assertThat(gameBoard.isInProgress()).isFalse();
+    }
+
+    @DisplayName("지뢰를 열면 지고, 그 셀은 지뢰로 보인다.")
+    @Test
+    void losesWhenLandMineIsOpened() {
+        // given
+        GameBoard gameBoard = startedGameBoard();
+        CellPosition landMinePosition = positionOf(gameBoard, firstIndexOf(landMinesOf(gameBoard)));
+
+        // when
+        gameBoard.openAt(landMinePosition);
+
+        // then
+        assertThat(gameBoard.isLoseStatus()).isTrue();
+        assertThat(gameBoard.getSnapshot(landMinePosition)).isEqualTo(CellSnapshot.ofLandMine());
+    }
+
+    @DisplayName("빈 셀을 열면 주변으로 번져 열리고, 숫자 셀에서 멈춘다.")
+    @Test
+    void cascadeStopsAtNumbers() {
+        // given
+        GameBoard gameBoard = new GameBoard(GAME_LEVEL, BoardRandom.of(SEED));
+        gameBoard.initializeGame();
+
+        // when
+        gameBoard.openAt(FIRST_CLICK);
+
+        // then
+        int openedCount = 0;
+        int numberCount = 0;
+        for (int row = 0; row < gameBoard.getRowSize(); row++) {
+            for (int col = 0; col < gameBoard.getColSize(); col++) {
+                CellSnapshot snapshot = gameBoard.getSnapshot(CellPosition.of(row, col));
+                if (snapshot.isSameStatus(CellSnapshotStatus.UNCHECKED)) {
+                    // 닫힌 셀 옆에 열린 빈 셀이 있으면 연쇄 열기가 덜 된 것이다.
+                    assertThat(hasOpenedEmptyNeighbor(gameBoard, row, col)).isFalse();
+                    continue;
+                }
+                openedCount++;
+                assertThat(snapshot.isSameStatus(CellSnapshotStatus.LAND_MINE)).isFalse();
+                if (snapshot.isSameStatus(CellSnapshotStatus.NUMBER)) {
+                    numberCount++;
+                    // 숫자 셀은 스스로 번지지 않으므로, 첫 클릭이 아니면 빈 셀 옆에서만 열린다.
+                    assertThat(hasOpenedEmptyNeighbor(gameBoard, row, col)).isTrue();
+                }
+            }
+        }
+        assertThat(gameBoard.getSnapshot(FIRST_CLICK)).isEqualTo(CellSnapshot.ofEmpty());
+        assertThat(numberCount).isPositive();
+        assertThat(openedCount).isLessThan(gameBoard.getRowSize() * gameBoard.getColSize() - GAME_LEVEL.getLandMineCount());
+    }
+
+    @DisplayName("이미 열린 셀에 깃발을 꽂아도 보이는 상태는 그대로다.")
+    @Test
+    void flaggingOpenedCellKeepsItsSnapshot() {
+        // given
+        GameBoard gameBoard = startedGameBoard();
+        CellSnapshot before = gameBoard.getSnapshot(FIRST_CLICK);
+
+        // when
+        CellChangeSet changes = gameBoard.flagAt(FIRST_CLICK);
+
+        // then
+        assertThat(changes.isEmpty()).isTrue();
+        assertThat(gameBoard.getSnapshot(FIRST_CLICK)).isEqualTo(before);
+        assertThat(gameBoard.isInProgress()).isTrue();
+    }
+
+    @DisplayName("셀 스냅샷은 닫힘, 깃발, 빈 셀, 주변 지뢰 수를 그대로 보여 주고 writeSnapshotCodes 와 같다.")
+    @Test
+    void snapshotsShowVisibleCellState() {
+        // given
+        GameBoard gameBoard = new GameBoard(GAME_LEVEL, BoardRandom.of(SEED));
+        gameBoard.initializeGame();
+        assertThat(gameBoard.getSnapshot(FIRST_CLICK)).isEqualTo(CellSnapshot.ofUnchecked());
+        gameBoard.openAt(FIRST_CLICK);
+        boolean[] landMines = landMinesOf(gameBoard);
+        CellPosition flagged = positionOf(gameBoard, firstIndexOf(landMines));
+
+        // when
+        gameBoard.flagAt(flagged);
+        byte[] codes = new byte[landMines.length];
+        gameBoard.writeSnapshotCodes(codes);
+
+        // then
+        for (int index = 0; index < landMines.length; index++) {
+            CellPosition cellPosition = positionOf(gameBoard, index);
+            CellSnapshot snapshot = gameBoard.getSnapshot(cellPosition);
+            assertThat(codes[index]).isEqualTo((byte) snapshot.getCode());
+
+            if (cellPosition.equals(flagged)) {
+                assertThat(snapshot).isEqualTo(CellSnapshot.ofFlag());
+            } else if (snapshot.isSameStatus(CellSnapshotStatus.UNCHECKED)) {
+                continue;
+            } else if (countLandMinesAround(gameBoard, landMines, index) == 0) {
+                assertThat(snapshot).isEqualTo(CellSnapshot.ofEmpty());
+            } else {
+                assertThat(snapshot).isEqualTo(CellSnapshot.ofNumber(countLandMinesAround(gameBoard, landMines, index)));
+            }
+        }
+    }
+
+    @DisplayName("매 수의 변경 목록을 이전 writeSnapshotCodes 결과에 덮어쓰면 새 writeSnapshotCodes 결과와 같다.")
+    @Test
+    void changeSetsReproduceSnapshots() {
+        for (long seed = 1; seed <= 20; seed++) {
+            // given
+            GameBoard gameBoard = new GameBoard(GAME_LEVEL, BoardRandom.of(seed));
+            gameBoard.initializeGame();
+            SplittableRandom random = new SplittableRandom(seed);
+            byte[] codes = snapshotCodesOf(gameBoard);
+
+            while (gameBoard.isInProgress()) {
+                CellPosition cellPosition = CellPosition.of(random.nextInt(gameBoard.getRowSize()), random.nextInt(gameBoard.getColSize()));
+
+                // when
+                CellChangeSet changes = random.nextInt(4) == 0 ? gameBoard.flagAt(cellPosition) : gameBoard.openAt(cellPosition);
+
+                // then
+                assertThat(changes.isTruncated()).isFalse();
+                applyChanges(codes, changes);
+                assertThat(codes).isEqualTo(snapshotCodesOf(gameBoard));
+            }
+        }
+    }
+
+    @DisplayName("한 수에 바뀐 셀이 MAX_SIZE 를 넘으면 앞의 MAX_SIZE 개만 담고 잘렸다고 알리며, 다음 수는 다시 모두 담는다.")
+    @Test
+    void truncatesOversizedChangeSet() {
+        // given
+        GameBoard gameBoard = new GameBoard(CustomGameLevel.of(100, 100, 10), BoardRandom.of(SEED));
+        gameBoard.initializeGame();
+        byte[] codes = snapshotCodesOf(gameBoard);
+
+        // when
+        CellChangeSet changes = gameBoard.openAt(CellPosition.of(50, 50));
+
+        // then
+        assertThat(changes.isTruncated()).isTrue();
+        assertThat(changes.size()).isEqualTo(CellChangeSet.MAX_SIZE);
+        byte[] snapshot = snapshotCodesOf(gameBoard);
+        for (int i = 0; i < changes.size(); i++) {
+            assertThat((byte) changes.getCode(i)).isEqualTo(snapshot[changes.getIndex(i)]);
+        }
+
+        // 잘린 수 뒤에는 writeSnapshotCodes 로 다시 읽은 화면에 이어서 덮어쓴다.
+        codes = snapshot;
+        CellChangeSet nextChanges = gameBoard.flagAt(positionOf(gameBoard, firstUncheckedIndexOf(codes)));
+        assertThat(nextChanges.isTruncated()).isFalse();
+        applyChanges(codes, nextChanges);
+        assertThat(codes).isEqualTo(snapshotCodesOf(gameBoard));
+    }
+
+    private GameBoard startedGameBoard() {
+        GameBoard gameBoard = new GameBoard(GAME_LEVEL, BoardRandom.of(SEED));
+        gameBoard.initializeGame();
+        gameBoard.openAt(FIRST_CLICK);
+        return gameBoard;
+    }
+
+    // 보드 상태를 복사한 보드에서 셀을 하나씩 열어 보고, 지는 셀을 지뢰로 본다.
+    private boolean[] landMinesOf(GameBoard gameBoard) {
+        ByteBuffer state = ByteBuffer.allocate(gameBoard.getStateSize());
+        gameBoard.writeState(state);
+
+        boolean[] landMines = new boolean[gameBoard.getRowSize() * gameBoard.getColSize()];
+        for (int index = 0; index < landMines.length; index++) {
+            GameBoard probe = new GameBoard(GAME_LEVEL, BoardRandom.of(SEED));
+            probe.restoreState(state.flip());
+            probe.openAt(positionOf(gameBoard, index));
+            landMines[index] = probe.isLoseStatus();
+        }
+        assertThat(countOf(landMines)).isEqualTo(GAME_LEVEL.getLandMineCount());
+        return landMines;
+    }
+
+    private boolean hasOpenedEmptyNeighbor(GameBoard gameBoard, int row, int col) {
+        for (int deltaRow = -1; deltaRow <= 1; deltaRow++) {
+            for (int deltaCol = -1; deltaCol <= 1; deltaCol++) {
+                int neighborRow = row + deltaRow;
+                int neighborCol = col + deltaCol;
+                if ((deltaRow == 0 && deltaCol == 0) || !isOnBoard(gameBoard, neighborRow, neighborCol)) {
+                    continue;
+                }
+                if (gameBoard.getSnapshot(CellPosition.of(neighborRow, neighborCol)).isSameStatus(CellSnapshotStatus.EMPTY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int countLandMinesAround(GameBoard gameBoard, boolean[] landMines, int index) {
+        int row = index / gameBoard.getColSize();
+        int col = index % gameBoard.getColSize();
+        int count = 0;
+        for (int deltaRow = -1; deltaRow <= 1; deltaRow++) {
+            for (int deltaCol = -1; deltaCol <= 1; deltaCol++) {
+                int neighborRow = row + deltaRow;
+                int neighborCol = col + deltaCol;
+                if ((deltaRow == 0 && deltaCol == 0) || !isOnBoard(gameBoard, neighborRow, neighborCol)) {
+                    continue;
+                }
+                if (landMines[neighborRow * gameBoard.getColSize() + neighborCol]) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private boolean isOnBoard(GameBoard gameBoard, int row, int col) {
+        return row >= 0 && row < gameBoard.getRowSize() && col >= 0 && col < gameBoard.getColSize();
+    }
+
+    private CellPosition positionOf(GameBoard gameBoard, int index) {
+        return CellPosition.of(index / gameBoard.getColSize(), index % gameBoard.getColSize());
+    }
+
+    private byte[] snapshotCodesOf(GameBoard gameBoard) {
+        byte[] codes = new byte[gameBoard.getRowSize() * gameBoard.getColSize()];
+        gameBoard.writeSnapshotCodes(codes);
+        return codes;
+    }
+
+    private void applyChanges(byte[] codes, CellChangeSet changes) {
+        for (int i = 0; i < changes.size(); i++) {
+            codes[changes.getIndex(i)] = (byte) changes.getCode(i);
+        }
+    }
+
+    private int firstUncheckedIndexOf(byte[] codes) {
+        for (int index = 0; index < codes.length; index++) {
+            if (CellSnapshot.ofCode(codes[index]).isSameStatus(CellSnapshotStatus.UNCHECKED)) {
+                return index;
+            }
+        }
+        throw new IllegalStateException("닫힌 셀이 없습니다.");
+    }
+
+    private int firstIndexOf(boolean[] values) {
+        for (int index = 0; index < values.length; index++) {
+            if (values[index]) {
+                return index;
+            }
+        }
+        throw new IllegalStateException("지뢰가 없습니다.");
+    }
+
+    private int countOf(boolean[] values) {
+        int count = 0;
+        for (boolean value : values) {
+            if (value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
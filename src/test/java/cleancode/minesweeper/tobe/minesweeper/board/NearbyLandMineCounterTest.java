@@ -0,0 +1,107 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.NearbyLandMineCountKernels;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearbyLandMineCounterTest {
+
+    // 행 수, 열 수, 지뢰 수. 한 줄짜리 보드와 행 묶음이 여러 개로 나뉘는 큰 보드를 함께 본다.
+    private static final int[][] BOARD_SHAPES = {
+            {1, 1, 0},
+            {1, 40, 9},
+            {40, 1, 9},
+            {7, 9, 10},
+            {16, 30, 99},
+            {65, 63, 1_000},
+            {300, 700, 42_000},
+            {1_500, 1_500, 450_000},
+    };
+
+    private final LandMinePlacer landMinePlacer = new LandMinePlacer();
+
+    @DisplayName("같은 난수로 지뢰를 심으면 순차 계산, 병렬 계산, 스칼라 커널, 가장 빠른 커널의 결과가 바이트 단위로 같다.")
+    @Test
+    void countsAreBitIdenticalToSequentialPath() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            NearbyLandMineCounter scalarCounter = new NearbyLandMineCounter(pool, NearbyLandMineCountKernels.scalar());
+            NearbyLandMineCounter bestCounter = new NearbyLandMineCounter(pool, NearbyLandMineCountKernels.best());
+
+            for (int[] shape : BOARD_SHAPES) {
+                for (long seed = 1; seed <= 3; seed++) {
+                    // given
+                    int rowSize = shape[0];
+                    int colSize = shape[1];
+                    int landMineCount = shape[2];
+                    PackedCells sequential = PackedCells.of(rowSize, colSize);
+                    landMinePlacer.placeSequentially(sequential, landMineCount, new SplittableRandom(seed));
+
+                    // when
+                    PackedCells parallelScalar = plantOnly(rowSize, colSize, landMineCount, seed);
+                    scalarCounter.countInParallel(parallelScalar);
+                    PackedCells parallelBest = plantOnly(rowSize, colSize, landMineCount, seed);
+                    bestCounter.countInParallel(parallelBest);
+                    PackedCells commonPool = PackedCells.of(rowSize, colSize);
+                    landMinePlacer.placeInParallel(commonPool, landMineCount, new SplittableRandom(seed));
+
+                    // then
+                    byte[] expected = bytesOf(sequential);
+                    assertThat(bytesOf(parallelScalar)).isEqualTo(expected);
+                    assertThat(bytesOf(parallelBest)).isEqualTo(expected);
+                    assertThat(bytesOf(commonPool)).isEqualTo(expected);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @DisplayName("한 스레드에서 커널 하나로 보드 전체를 계산해도 순차 계산과 같다.")
+    @Test
+    void eachKernelAloneMatchesSequentialPath() {
+        for (int[] shape : BOARD_SHAPES) {
+            // given
+            PackedCells sequential = PackedCells.of(shape[0], shape[1]);
+            landMinePlacer.placeSequentially(sequential, shape[2], new SplittableRandom(shape[2]));
+
+            // when
+            PackedCells scalar = PackedCells.of(shape[0], shape[1]);
+            landMinePlacer.placeWithKernel(scalar, shape[2], new SplittableRandom(shape[2]), NearbyLandMineCountKernels.scalar());
+            PackedCells best = PackedCells.of(shape[0], shape[1]);
+            landMinePlacer.placeWithKernel(best, shape[2], new SplittableRandom(shape[2]), NearbyLandMineCountKernels.best());
+
+            // then
+            assertThat(bytesOf(scalar)).isEqualTo(bytesOf(sequential));
+            assertThat(bytesOf(best)).isEqualTo(bytesOf(sequential));
+        }
+    }
+
+    // 순차 계산과 같은 자리에 지뢰만 심고 주변 지뢰 수는 0 으로 둔다.
+    private PackedCells plantOnly(int rowSize, int colSize, int landMineCount, long seed) {
+        PackedCells source = PackedCells.of(rowSize, colSize);
+        landMinePlacer.placeSequentially(source, landMineCount, new SplittableRandom(seed));
+
+        PackedCells cells = PackedCells.of(rowSize, colSize);
+        for (int index = 0; index < cells.size(); index++) {
+            if (source.isLandMine(index)) {
+                cells.plantLandMine(index);
+            }
+        }
+        return cells;
+    }
+
+    private byte[] bytesOf(PackedCells cells) {
+        ByteBuffer buffer = ByteBuffer.allocate(cells.size());
+        cells.writeTo(buffer);
+        return buffer.array();
+    }
+
+}
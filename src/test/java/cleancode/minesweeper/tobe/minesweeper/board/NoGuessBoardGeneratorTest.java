@@ -0,0 +1,98 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+import cleancode.minesweeper.tobe.minesweeper.board.solver.ConstraintPropagationSolver;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.CustomGameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Middle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoGuessBoardGeneratorTest {
+
+    // 밀도가 높은 보드는 풀리는 후보를 찾지 못해 false 가 나올 수 있다.
+    private static final List<GameLevel> GAME_LEVELS = List.of(new Beginner(), new Middle(), CustomGameLevel.of(9, 9, 25));
+
+    @DisplayName("generate 가 true 를 돌려준 보드는 새 풀이기로 첫 클릭부터 추측 없이 풀린다.")
+    @Test
+    void solvedBoardIsSolvableFromStartIndex() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            NoGuessBoardGenerator noGuessBoardGenerator = new NoGuessBoardGenerator(pool);
+            int solvedCount = 0;
+            for (GameLevel gameLevel : GAME_LEVELS) {
+                for (long seed = 1; seed <= 10; seed++) {
+                    // given
+                    PackedCells cells = PackedCells.of(gameLevel.getRowSize(), gameLevel.getColSize());
+                    int startIndex = startIndexOf(cells, seed);
+
+                    // when
+                    boolean generated = generate(noGuessBoardGenerator, cells, gameLevel, startIndex, seed);
+
+                    // then
+                    assertThat(cells.getLandMineCount()).isEqualTo(gameLevel.getLandMineCount());
+                    assertThat(cells.isLandMine(startIndex)).isFalse();
+                    if (generated) {
+                        solvedCount++;
+                        ConstraintPropagationSolver solver = new ConstraintPropagationSolver(gameLevel.getRowSize(), gameLevel.getColSize());
+                        assertThat(solver.solve(cells, startIndex)).isTrue();
+                    }
+                }
+            }
+            assertThat(solvedCount).isPositive();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @DisplayName("같은 seed 와 같은 첫 클릭이면 풀의 스레드 수와 관계없이 같은 지뢰 배치가 나온다.")
+    @Test
+    void sameSeedGivesSameLayoutRegardlessOfPoolSize() {
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        ForkJoinPool multiThreadPool = new ForkJoinPool(4);
+        try {
+            for (GameLevel gameLevel : GAME_LEVELS) {
+                for (long seed = 1; seed <= 5; seed++) {
+                    // given
+                    PackedCells single = PackedCells.of(gameLevel.getRowSize(), gameLevel.getColSize());
+                    PackedCells multi = PackedCells.of(gameLevel.getRowSize(), gameLevel.getColSize());
+                    int startIndex = startIndexOf(single, seed);
+
+                    // when
+                    boolean singleGenerated = generate(new NoGuessBoardGenerator(singleThreadPool), single, gameLevel, startIndex, seed);
+                    boolean multiGenerated = generate(new NoGuessBoardGenerator(multiThreadPool), multi, gameLevel, startIndex, seed);
+
+                    // then
+                    assertThat(multiGenerated).isEqualTo(singleGenerated);
+                    assertThat(bytesOf(multi)).isEqualTo(bytesOf(single));
+                }
+            }
+        } finally {
+            singleThreadPool.shutdown();
+            multiThreadPool.shutdown();
+        }
+    }
+
+    private boolean generate(NoGuessBoardGenerator noGuessBoardGenerator, PackedCells cells, GameLevel gameLevel, int startIndex, long seed) {
+        BoardRandom boardRandom = BoardRandom.of(seed);
+        return noGuessBoardGenerator.generate(cells, gameLevel.getLandMineCount(), startIndex, boardRandom, boardRandom.generatorFor(seed));
+    }
+
+    private int startIndexOf(PackedCells cells, long seed) {
+        return (int) (seed * 31 % cells.size());
+    }
+
+    private byte[] bytesOf(PackedCells cells) {
+        ByteBuffer buffer = ByteBuffer.allocate(cells.size());
+        cells.writeTo(buffer);
+        return buffer.array();
+    }
+
+}
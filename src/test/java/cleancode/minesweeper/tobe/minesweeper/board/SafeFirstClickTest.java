@@ -0,0 +1,135 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.NearbyLandMineCountKernels;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.PackedCells;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.CustomGameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SafeFirstClickTest {
+
+    private final LandMinePlacer landMinePlacer = new LandMinePlacer();
+
+    @DisplayName("첫 openAt 은 지지 않고, 주변 8칸까지 비울 자리가 있으면 클릭한 셀과 주변 3x3 이 열린다.")
+    @Test
+    void firstOpenNeverLosesAndOpensSurroundedArea() {
+        // 100칸 중 60칸이 지뢰여도 3x3 밖에 옮길 자리가 충분하다.
+        GameLevel gameLevel = CustomGameLevel.of(10, 10, 60);
+        for (long seed = 1; seed <= 50; seed++) {
+            // given
+            SplittableRandom random = new SplittableRandom(seed);
+            CellPosition firstClick = CellPosition.of(random.nextInt(gameLevel.getRowSize()), random.nextInt(gameLevel.getColSize()));
+            GameBoard gameBoard = new GameBoard(gameLevel, BoardRandom.of(seed));
+            gameBoard.initializeGame();
+
+            // when
+            gameBoard.openAt(firstClick);
+
+            // then
+            assertThat(gameBoard.isLoseStatus()).isFalse();
+            assertThat(gameBoard.getSnapshot(firstClick).isSameStatus(CellSnapshotStatus.EMPTY)).isTrue();
+            for (int row = firstClick.getRowIndex() - 1; row <= firstClick.getRowIndex() + 1; row++) {
+                for (int col = firstClick.getColIndex() - 1; col <= firstClick.getColIndex() + 1; col++) {
+                    if (row < 0 || row >= gameLevel.getRowSize() || col < 0 || col >= gameLevel.getColSize()) {
+                        continue;
+                    }
+                    assertThat(gameBoard.getSnapshot(CellPosition.of(row, col)).isSameStatus(CellSnapshotStatus.UNCHECKED)).isFalse();
+                }
+            }
+        }
+    }
+
+    @DisplayName("지뢰를 옮긴 뒤의 주변 지뢰 수는 보드 전체를 다시 센 값과 같다.")
+    @Test
+    void nearbyLandMineCountsMatchFullRecountAfterRelocation() {
+        int[][] boardShapes = {{9, 9, 10}, {16, 30, 99}, {12, 12, 120}};
+        for (int[] shape : boardShapes) {
+            for (long seed = 1; seed <= 20; seed++) {
+                // given
+                PackedCells cells = PackedCells.of(shape[0], shape[1]);
+                SplittableRandom random = new SplittableRandom(seed);
+                landMinePlacer.placeSequentially(cells, shape[2], random);
+                int clickedIndex = random.nextInt(cells.size());
+
+                // when
+                new SafeFirstClick(cells).clearLandMinesAround(clickedIndex, random);
+
+                // then
+                assertThat(cells.isLandMine(clickedIndex)).isFalse();
+                assertThat(cells.getLandMineCount()).isEqualTo(shape[2]);
+                assertThat(bytesOf(cells)).isEqualTo(bytesOf(recounted(cells)));
+            }
+        }
+    }
+
+    @DisplayName("주변 8칸을 비울 자리가 없으면 클릭한 셀의 지뢰만 옮긴다.")
+    @Test
+    void clearsOnlyClickedCellWhenSurroundedAreaCannotBeCleared() {
+        // given
+        // 4x4 에서 마지막 칸만 비워 두면, 0번 셀 주변 4칸의 지뢰를 모두 옮길 자리는 없고 0번 셀 하나만 옮길 수 있다.
+        PackedCells cells = PackedCells.of(4, 4);
+        int freeIndex = cells.size() - 1;
+        for (int index = 0; index < freeIndex; index++) {
+            cells.plantLandMine(index);
+        }
+        cells = recounted(cells);
+
+        // when
+        int movedCount = new SafeFirstClick(cells).clearLandMinesAround(0, new SplittableRandom(1L));
+
+        // then
+        assertThat(movedCount).isEqualTo(1);
+        assertThat(cells.isLandMine(0)).isFalse();
+        assertThat(cells.isLandMine(1)).isTrue();
+        assertThat(cells.isLandMine(4)).isTrue();
+        assertThat(cells.isLandMine(5)).isTrue();
+        assertThat(cells.isLandMine(freeIndex)).isTrue();
+        assertThat(cells.getLandMineCount()).isEqualTo(freeIndex);
+        assertThat(bytesOf(cells)).isEqualTo(bytesOf(recounted(cells)));
+    }
+
+    @DisplayName("모든 셀이 지뢰면 옮길 자리가 없으므로 아무것도 바꾸지 않는다.")
+    @Test
+    void changesNothingWhenEveryCellIsLandMine() {
+        // given
+        PackedCells cells = PackedCells.of(3, 3);
+        for (int index = 0; index < cells.size(); index++) {
+            cells.plantLandMine(index);
+        }
+        byte[] before = bytesOf(cells);
+
+        // when
+        int movedCount = new SafeFirstClick(cells).clearLandMinesAround(4, new SplittableRandom(1L));
+
+        // then
+        assertThat(movedCount).isEqualTo(0);
+        assertThat(bytesOf(cells)).isEqualTo(before);
+    }
+
+    // 같은 자리에 지뢰만 심은 새 보드에서 주변 지뢰 수를 처음부터 센다.
+    private PackedCells recounted(PackedCells source) {
+        PackedCells cells = PackedCells.of(source.getRowSize(), source.getColSize());
+        for (int index = 0; index < cells.size(); index++) {
+            if (source.isLandMine(index)) {
+                cells.plantLandMine(index);
+            }
+        }
+        NearbyLandMineCountKernels.scalar().countRows(cells, 0, cells.getRowSize());
+        return cells;
+    }
+
+    private byte[] bytesOf(PackedCells cells) {
+        ByteBuffer buffer = ByteBuffer.allocate(cells.size());
+        cells.writeTo(buffer);
+        return buffer.array();
+    }
+
+}
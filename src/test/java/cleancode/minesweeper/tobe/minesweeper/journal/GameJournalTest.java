@@ -0,0 +1,174 @@
+package cleancode.minesweeper.tobe.minesweeper.journal;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardGenerationMode;
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Advanced;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameJournalTest {
+
+    private static final int SNAPSHOT_INTERVAL = 4;
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("끝나지 않은 판은 다시 열면 마지막 수까지 같은 상태로 복구되고, 끝낸 판은 복구되지 않는다.")
+    @Test
+    void recoversGamesInProgress() {
+        // given
+        Map<Long, byte[]> expectedStates = new HashMap<>();
+        Map<Long, Integer> expectedMoveCounts = new HashMap<>();
+        long endedGameId;
+        try (GameJournal journal = GameJournal.open(directory, SNAPSHOT_INTERVAL, GameJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            // 스냅샷 바로 뒤, 스냅샷 사이, 수가 없는 판을 함께 둔다.
+            JournaledGame afterSnapshot = playGame(journal, BoardGenerationMode.RANDOM, 1L, SNAPSHOT_INTERVAL * 3);
+            JournaledGame betweenSnapshots = playGame(journal, BoardGenerationMode.NO_GUESS, 2L, SNAPSHOT_INTERVAL * 2 + 3);
+            JournaledGame noMoves = playGame(journal, BoardGenerationMode.RANDOM, 3L, 0);
+            JournaledGame ended = playGame(journal, BoardGenerationMode.RANDOM, 4L, 5);
+            ended.end();
+
+            for (JournaledGame game : List.of(afterSnapshot, betweenSnapshots, noMoves)) {
+                expectedStates.put(game.getGameId(), stateOf(game.getGameBoard()));
+                expectedMoveCounts.put(game.getGameId(), game.getMoveCount());
+            }
+            endedGameId = ended.getGameId();
+        }
+
+        // when
+        try (GameJournal journal = GameJournal.open(directory, SNAPSHOT_INTERVAL, GameJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            List<JournaledGame> recoveredGames = journal.getRecoveredGames();
+
+            // then
+            assertThat(recoveredGames).hasSize(3);
+            for (JournaledGame recovered : recoveredGames) {
+                assertThat(recovered.getGameId()).isNotEqualTo(endedGameId);
+                assertThat(stateOf(recovered.getGameBoard())).isEqualTo(expectedStates.get(recovered.getGameId()));
+                assertThat(recovered.getMoveCount()).isEqualTo(expectedMoveCounts.get(recovered.getGameId()).intValue());
+            }
+            JournaledGame newGame = journal.startGame(new Beginner(), BoardRandom.of(5L), BoardGenerationMode.RANDOM);
+            assertThat(newGame.getGameId()).isGreaterThan(endedGameId);
+        }
+    }
+
+    @DisplayName("복구한 판에 이어 둔 수도 다음에 다시 열 때 복구된다.")
+    @Test
+    void recoversMovesMadeAfterRecovery() {
+        // given
+        long gameId;
+        try (GameJournal journal = GameJournal.open(directory, SNAPSHOT_INTERVAL, GameJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            gameId = playGame(journal, BoardGenerationMode.RANDOM, 1L, SNAPSHOT_INTERVAL + 1).getGameId();
+        }
+        byte[] expectedState;
+        try (GameJournal journal = GameJournal.open(directory, SNAPSHOT_INTERVAL, GameJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            JournaledGame recovered = journal.getRecoveredGames().get(0);
+            playMoves(recovered, new SplittableRandom(9L), SNAPSHOT_INTERVAL + 2);
+            expectedState = stateOf(recovered.getGameBoard());
+        }
+
+        // when
+        try (GameJournal journal = GameJournal.open(directory, SNAPSHOT_INTERVAL, GameJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            JournaledGame recovered = journal.getRecoveredGames().get(0);
+
+            // then
+            assertThat(recovered.getGameId()).isEqualTo(gameId);
+            assertThat(stateOf(recovered.getGameBoard())).isEqualTo(expectedState);
+        }
+    }
+
+    @DisplayName("세그먼트를 여러 번 바꿔도 살아 있는 판은 복구되고, 이전 세그먼트는 지워진다.")
+    @Test
+    void recoversAcrossSegmentRollover() throws IOException {
+        // given
+        long maxSegmentSize = 512;
+        byte[] expectedState;
+        try (GameJournal journal = GameJournal.open(directory, SNAPSHOT_INTERVAL, maxSegmentSize)) {
+            JournaledGame game = playGame(journal, BoardGenerationMode.RANDOM, 1L, 0);
+            for (int i = 0; i < 20; i++) {
+                playGame(journal, BoardGenerationMode.RANDOM, 100L + i, 3).end();
+                playMoves(game, new SplittableRandom(i), 2);
+            }
+            expectedState = stateOf(game.getGameBoard());
+        }
+
+        // when
+        try (GameJournal journal = GameJournal.open(directory, SNAPSHOT_INTERVAL, maxSegmentSize)) {
+            // then
+            assertThat(journal.getRecoveredGames()).hasSize(1);
+            assertThat(stateOf(journal.getRecoveredGames().get(0).getGameBoard())).isEqualTo(expectedState);
+        }
+        assertThat(segmentsOf(directory)).hasSize(1);
+    }
+
+    @DisplayName("기록 도중 멈춰 세그먼트 끝이 깨져 있으면 그 앞까지만 복구한다.")
+    @Test
+    void ignoresTornTail() throws IOException {
+        // given
+        byte[] expectedState;
+        try (GameJournal journal = GameJournal.open(directory, SNAPSHOT_INTERVAL, GameJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            expectedState = stateOf(playGame(journal, BoardGenerationMode.RANDOM, 1L, SNAPSHOT_INTERVAL + 2).getGameBoard());
+        }
+        List<Path> segments = segmentsOf(directory);
+        Path lastSegment = segments.get(segments.size() - 1);
+        byte[] tornRecord = {0, 0, 0, 40, 1, 2, 3, 4, 3, 0, 0};
+        Files.write(lastSegment, tornRecord, StandardOpenOption.APPEND);
+
+        // when
+        try (GameJournal journal = GameJournal.open(directory, SNAPSHOT_INTERVAL, GameJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            // then
+            assertThat(journal.getRecoveredGames()).hasSize(1);
+            assertThat(stateOf(journal.getRecoveredGames().get(0).getGameBoard())).isEqualTo(expectedState);
+        }
+    }
+
+    private JournaledGame playGame(GameJournal journal, BoardGenerationMode generationMode, long seed, int moveCount) {
+        JournaledGame game = journal.startGame(new Advanced(), BoardRandom.of(seed), generationMode);
+        playMoves(game, new SplittableRandom(seed), moveCount);
+        return game;
+    }
+
+    // 판이 끝나지 않도록 첫 수만 열고 나머지는 깃발만 꽂는다.
+    private void playMoves(JournaledGame game, SplittableRandom random, int moveCount) {
+        GameBoard gameBoard = game.getGameBoard();
+        for (int move = 0; move < moveCount; move++) {
+            CellPosition cellPosition = CellPosition.of(random.nextInt(gameBoard.getRowSize()), random.nextInt(gameBoard.getColSize()));
+            if (game.getMoveCount() == 0) {
+                game.openAt(cellPosition);
+                continue;
+            }
+            game.flagAt(cellPosition);
+        }
+    }
+
+    private byte[] stateOf(GameBoard gameBoard) {
+        ByteBuffer state = ByteBuffer.allocate(gameBoard.getStateSize());
+        gameBoard.writeState(state);
+        return state.array();
+    }
+
+    private List<Path> segmentsOf(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+}
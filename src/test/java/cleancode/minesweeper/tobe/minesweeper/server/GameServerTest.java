@@ -0,0 +1,81 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Advanced;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameServerTest {
+
+    @DisplayName("루프백으로 새 게임을 만들고 셀을 열면 바뀐 셀이 delta 로 돌아온다.")
+    @Test
+    void playsOverLoopback() {
+        // given
+        try (GameServer gameServer = GameServer.start(loopback(), BoardRandom.of(1L));
+             GameClient gameClient = GameClient.connect(serverAddress(gameServer))) {
+            GameResponse newGame = gameClient.newGame(GameProtocol.LEVEL_BEGINNER);
+
+            // when
+            GameResponse opened = gameClient.open(newGame.getBoardId(), 0, 0);
+            GameResponse outside = gameClient.open(newGame.getBoardId(), 100, 0);
+            GameResponse closed = gameClient.closeGame(newGame.getBoardId());
+            GameResponse unknown = gameClient.open(newGame.getBoardId(), 0, 0);
+
+            // then
+            assertThat(newGame.isOk()).isTrue();
+            assertThat(opened.isOk()).isTrue();
+            assertThat(opened.getDeltas().length).isPositive();
+            assertThat(GameProtocol.cellIndexOf(opened.getDeltas()[0])).isEqualTo(0);
+            assertThat(outside.getStatus()).isEqualTo(GameProtocol.STATUS_INVALID_POSITION);
+            assertThat(closed.isOk()).isTrue();
+            assertThat(unknown.getStatus()).isEqualTo(GameProtocol.STATUS_UNKNOWN_BOARD);
+            assertThat(gameServer.getHandledRequestCount()).isEqualTo(5L);
+        }
+    }
+
+    @DisplayName("한 연결을 처리하다 예외가 나면 그 연결만 닫히고 다른 연결과 새 연결은 계속 처리된다.")
+    @Test
+    void closesOnlyTheFailedConnection() {
+        // given
+        BoardRandom boardRandom = BoardRandom.of(1L);
+        GameServer.RemoteGameFactory failOnAdvanced = (id, gameLevel) -> {
+            if (gameLevel instanceof Advanced) {
+                throw new IllegalStateException("보드를 만들지 못했습니다.");
+            }
+            return new RemoteGame(id, gameLevel, boardRandom);
+        };
+
+        try (GameServer gameServer = GameServer.start(loopback(), failOnAdvanced);
+             GameClient healthyClient = GameClient.connect(serverAddress(gameServer));
+             GameClient failingClient = GameClient.connect(serverAddress(gameServer))) {
+            GameResponse healthyGame = healthyClient.newGame(GameProtocol.LEVEL_BEGINNER);
+
+            // when
+            assertThatThrownBy(() -> failingClient.newGame(GameProtocol.LEVEL_ADVANCED))
+                    .isInstanceOf(UncheckedIOException.class);
+
+            // then
+            assertThat(gameServer.getFailedConnectionCount()).isEqualTo(1L);
+            assertThat(healthyClient.open(healthyGame.getBoardId(), 0, 0).isOk()).isTrue();
+            try (GameClient newClient = GameClient.connect(serverAddress(gameServer))) {
+                assertThat(newClient.newGame(GameProtocol.LEVEL_MIDDLE).isOk()).isTrue();
+            }
+        }
+    }
+
+    private InetSocketAddress loopback() {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+    }
+
+    private InetSocketAddress serverAddress(GameServer gameServer) {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), gameServer.getPort());
+    }
+
+}
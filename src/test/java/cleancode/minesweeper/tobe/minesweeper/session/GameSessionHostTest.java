@@ -0,0 +1,59 @@
+package cleancode.minesweeper.tobe.minesweeper.session;
+
+import cleancode.minesweeper.tobe.minesweeper.board.BoardRandom;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameSessionHostTest {
+
+    private static final int MAX_SESSION_COUNT = 2;
+    private static final long OPEN_TIMEOUT_MILLIS = 5_000;
+    private static final SessionOutput IGNORED_OUTPUT = message -> {
+    };
+
+    @DisplayName("열자마자 닫은 세션도 자리를 돌려주어, 닫은 뒤에는 다시 한도만큼 열 수 있다.")
+    @Test
+    void releasesSlotOfSessionClosedRightAfterOpen() throws InterruptedException {
+        try (GameSessionHost host = new GameSessionHost(new Beginner(), BoardRandom.of(1L), MAX_SESSION_COUNT)) {
+            // given
+            for (int i = 0; i < 100; i++) {
+                GameSession session = openWithinTimeout(host).orElseThrow();
+                host.close(session.getId());
+            }
+
+            // when
+            List<GameSession> reopened = new ArrayList<>();
+            for (int i = 0; i < MAX_SESSION_COUNT; i++) {
+                openWithinTimeout(host).ifPresent(reopened::add);
+            }
+
+            // then
+            assertThat(reopened).hasSize(MAX_SESSION_COUNT);
+            assertThat(host.getActiveSessionCount()).isEqualTo(MAX_SESSION_COUNT);
+            if (!host.usesVirtualThreads()) {
+                assertThat(host.open(IGNORED_OUTPUT).isPresent()).isFalse();
+            }
+        }
+    }
+
+    // 시작한 세션은 세션 스레드가 끝날 때 자리를 돌려주므로, 자리가 날 때까지 잠시 다시 열어 본다.
+    private Optional<GameSession> openWithinTimeout(GameSessionHost host) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + OPEN_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            Optional<GameSession> session = host.open(IGNORED_OUTPUT);
+            if (session.isPresent()) {
+                return session;
+            }
+            Thread.sleep(1);
+        }
+        return Optional.empty();
+    }
+
+}